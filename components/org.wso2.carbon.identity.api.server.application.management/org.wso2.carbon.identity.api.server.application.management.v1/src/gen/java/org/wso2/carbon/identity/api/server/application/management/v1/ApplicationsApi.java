@@ -430,9 +430,9 @@ public class ApplicationsApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response getAllApplications(    @Valid @Min(1)@ApiParam(value = "Maximum number of records to return. ", defaultValue="30") @DefaultValue("30")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ", defaultValue="0") @DefaultValue("0")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew', and 'eq' operations with 'and', 'or' logical operators. Please note that 'and' and 'or' operators in filters follow the general precedence of logical operators ex: A and B or C and D = (A and B) or (C and D)). Currently supports only filtering based on the 'name', the 'clientId', and the 'issuer' attributes.  /applications?filter=name+eq+user_portal <br> /applications?filter=name+co+prod+or+clientId+co+123 ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _This parameter is not supported yet._ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet._ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response. Currently supports for only 'advancedConfigurations', 'templateId', 'clientId', and 'issuer' attributes.  /applications?attributes=advancedConfigurations,templateId,clientId ")  @QueryParam("attributes") String attributes) {
+    public Response getAllApplications(    @Valid @Min(1)@ApiParam(value = "Maximum number of records to return. ", defaultValue="30") @DefaultValue("30")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ", defaultValue="0") @DefaultValue("0")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew', and 'eq' operations with 'and', 'or' logical operators. Please note that 'and' and 'or' operators in filters follow the general precedence of logical operators ex: A and B or C and D = (A and B) or (C and D)). Currently supports only filtering based on the 'name', the 'clientId', and the 'issuer' attributes.  /applications?filter=name+eq+user_portal <br> /applications?filter=name+co+prod+or+clientId+co+123 ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _This parameter is not supported yet._ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet._ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response. Currently supports for only 'advancedConfigurations', 'templateId', 'clientId', and 'issuer' attributes.  /applications?attributes=advancedConfigurations,templateId,clientId ")  @QueryParam("attributes") String attributes,     @Valid@ApiParam(value = "Specifies whether the total number of matching applications should be calculated. When set to false, 'totalResults' is omitted from the response and the 'next' link is included whenever the returned page is full.  /applications?count=false ", defaultValue="true") @DefaultValue("true")  @QueryParam("count") Boolean count,     @Valid@ApiParam(value = "Cursor of the page to be retrieved, as received in the 'next' link of the previous page. When a cursor is given, the 'offset' parameter is ignored and the pagination links are built with cursors. ")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the page to be retrieved, as received in the 'previous' link of the next page. When a cursor is given, the 'offset' parameter is ignored and the pagination links are built with cursors. ")  @QueryParam("before") String before) {
 
-        return delegate.getAllApplications(limit,  offset,  filter,  sortOrder,  sortBy,  attributes );
+        return delegate.getAllApplications(limit,  offset,  filter,  sortOrder,  sortBy,  attributes,  count,  after,  before );
     }
 
     @Valid
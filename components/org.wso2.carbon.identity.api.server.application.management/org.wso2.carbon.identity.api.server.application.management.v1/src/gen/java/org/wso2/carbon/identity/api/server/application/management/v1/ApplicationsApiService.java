@@ -84,7 +84,7 @@ public interface ApplicationsApiService {
 
       public Response getAllApplicationTemplates(Integer limit, Integer offset, SearchContext searchContext);
 
-      public Response getAllApplications(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String attributes);
+      public Response getAllApplications(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String attributes, Boolean count, String after, String before);
 
       public Response getApplication(String applicationId);
 
@@ -63,7 +63,7 @@ import org.wso2.carbon.identity.api.server.application.management.v1.WSTrustConf
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.Utils;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApiModelToServiceProvider;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationBasicInfoToApiModel;
-import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationInfoWithRequiredPropsToApiModel;
+import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ApplicationListItemHydrator;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.AuthAttributeHolderToUserRegistrant;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.ServiceProviderToApiModel;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.UpdateServiceProvider;
@@ -79,7 +79,10 @@ import org.wso2.carbon.identity.api.server.application.management.v1.core.functi
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplate;
 import org.wso2.carbon.identity.api.server.application.management.v1.core.functions.template.TemplateToApplicationTemplateListItem;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.PaginationCursor;
 import org.wso2.carbon.identity.api.server.common.Util;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols;
 import org.wso2.carbon.identity.application.common.IdentityApplicationManagementClientException;
@@ -139,7 +142,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -164,6 +169,7 @@ import static org.wso2.carbon.identity.api.server.application.management.v1.core
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.rollbackInbounds;
 import static org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application.inbound.InboundFunctions.updateOrInsertInbound;
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
+import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols.OAUTH2;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols.PASSIVE_STS;
 import static org.wso2.carbon.identity.application.authentication.framework.util.FrameworkConstants.StandardInboundProtocols.SAML2;
@@ -190,6 +196,15 @@ public class ServerApplicationManagementService {
     private static final List<String> SUPPORTED_REQUIRED_ATTRIBUTES = new ArrayList<>();
     private static final int DEFAULT_OFFSET = 0;
 
+    private static final String ATTRIBUTES_PARAM = "attributes";
+    private static final String COUNT_PARAM = "count";
+
+    // Counts of applications keyed by tenant domain, username and filter.
+    private static final long APPLICATION_COUNT_CACHE_TIMEOUT = 15000L;
+    private static final int APPLICATION_COUNT_CACHE_SIZE = 1000;
+    private static final ExpiringCache<List<String>, Integer> APPLICATION_COUNT_CACHE =
+            new ExpiringCache<>("ApplicationCountCache", APPLICATION_COUNT_CACHE_TIMEOUT, APPLICATION_COUNT_CACHE_SIZE);
+
     // WS-Trust related constants.
     private static final String WS_TRUST_TEMPLATE_ID = "061a3de4-8c08-4878-84a6-24245f11bf0e";
     private static final String STS_TEMPLATE_NOT_FOUND_MESSAGE = "Request template with id: %s could " +
@@ -217,14 +232,29 @@ public class ServerApplicationManagementService {
     @Autowired
     private ServerApplicationMetadataService applicationMetadataService;
 
+    /**
+     * Release the resources of the application listing when the API is undeployed.
+     */
+    public void shutdown() {
+
+        ApplicationListItemHydrator.shutdown();
+    }
+
     public ApplicationListResponse getAllApplications(Integer limit, Integer offset, String filter, String sortOrder,
-                                                      String sortBy, String requiredAttributes) {
+                                                      String sortBy, String requiredAttributes, Boolean count,
+                                                      String after, String before) {
 
         handleNotImplementedCapabilities(sortOrder, sortBy);
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
 
         limit = validateAndGetLimit(limit);
         offset = validateAndGetOffset(offset);
+        int pageLimit = limit;
+        PaginationCursor cursor = PaginationCursor.resolve(after, before, limit);
+        if (cursor != null) {
+            offset = cursor.getOffset();
+            pageLimit = cursor.getLimit();
+        }
 
         List<String> submittedFilterAttributes = new ArrayList<>();
 
@@ -242,12 +272,11 @@ public class ServerApplicationManagementService {
 
         String username = ContextLoader.getUsernameFromContext();
         try {
-            int totalResults = getApplicationManagementService()
-                    .getCountOfApplications(tenantDomain, username, filter);
-
             ApplicationBasicInfo[] filteredAppList = getApplicationManagementService()
-                    .getApplicationBasicInfo(tenantDomain, username, filter, offset, limit);
+                    .getApplicationBasicInfo(tenantDomain, username, filter, offset, pageLimit);
             int resultsInCurrentPage = filteredAppList.length;
+            Integer totalResults = getTotalResults(tenantDomain, username, filter, offset, pageLimit,
+                    resultsInCurrentPage, !Boolean.FALSE.equals(count));
 
             List<String> requestedAttributeList = new ArrayList<>();
             if (StringUtils.isNotEmpty(requiredAttributes)) {
@@ -264,40 +293,83 @@ public class ServerApplicationManagementService {
                 requestedAttributeList.add(ISSUER);
             }
 
+            List<ApplicationListItem> applicationListItems;
             if (CollectionUtils.isNotEmpty(requestedAttributeList)) {
-                List<ServiceProvider> serviceProviderList = getSpWithRequiredAttributes(filteredAppList,
+                applicationListItems = new ApplicationListItemHydrator().hydrate(filteredAppList,
                         requestedAttributeList);
+            } else {
+                applicationListItems = getApplicationListItems(filteredAppList);
+            }
 
-                return new ApplicationListResponse()
-                        .totalResults(totalResults)
-                        .startIndex(offset + 1)
-                        .count(resultsInCurrentPage)
-                        .applications(getApplicationListItems(serviceProviderList, requestedAttributeList))
-                        .links(Util.buildPaginationLinks(limit, offset, totalResults,
-                                        APPLICATION_MANAGEMENT_PATH_COMPONENT)
-                                .entrySet()
-                                .stream()
-                                .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
-                                .collect(Collectors.toList()));
+            Map<String, String> links;
+            if (cursor != null) {
+                // Sorting is not supported, hence only the filter and the attribute selection are carried.
+                Map<String, String> cursorQueryParams = new LinkedHashMap<>();
+                cursorQueryParams.put(PaginationCursor.FILTER_PARAM, filter);
+                cursorQueryParams.put(ATTRIBUTES_PARAM, requiredAttributes);
+                cursorQueryParams.put(COUNT_PARAM, count != null ? String.valueOf(count) : null);
+                links = PaginationCursor.buildLinks(limit, pageLimit, offset, resultsInCurrentPage, totalResults,
+                        V1_API_PATH_COMPONENT + APPLICATION_MANAGEMENT_PATH_COMPONENT, cursorQueryParams);
             } else {
-                return new ApplicationListResponse()
-                        .totalResults(totalResults)
-                        .startIndex(offset + 1)
-                        .count(resultsInCurrentPage)
-                        .applications(getApplicationListItems(filteredAppList))
-                        .links(Util.buildPaginationLinks(limit, offset, totalResults,
-                                        APPLICATION_MANAGEMENT_PATH_COMPONENT)
-                                .entrySet()
-                                .stream()
-                                .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
-                                .collect(Collectors.toList()));
+                /* Without the total, a full page is taken to mean that a next page may exist. Hence the links are
+                built assuming one more result than the ones seen so far. */
+                int totalResultsForLinks = totalResults != null ? totalResults :
+                        offset + resultsInCurrentPage + (resultsInCurrentPage == limit ? 1 : 0);
+                links = Util.buildPaginationLinks(limit, offset, totalResultsForLinks,
+                        APPLICATION_MANAGEMENT_PATH_COMPONENT);
             }
+            return new ApplicationListResponse()
+                    .totalResults(totalResults)
+                    .startIndex(offset + 1)
+                    .count(resultsInCurrentPage)
+                    .applications(applicationListItems)
+                    .links(links
+                            .entrySet()
+                            .stream()
+                            .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
+                            .collect(Collectors.toList()));
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error listing applications of tenantDomain: " + tenantDomain;
             throw handleIdentityApplicationManagementException(e, msg);
         }
     }
 
+    /**
+     * Resolve the total number of applications matching the filter, avoiding the count query when possible.
+     *
+     * A page which is not full, and is either non-empty or the first page, ends the result set. Hence the total is
+     * derived from the page itself. Otherwise the total is served from a short lived cache of application counts,
+     * which is invalidated whenever the applications of the tenant are added, updated or deleted.
+     *
+     * @param tenantDomain         Tenant domain.
+     * @param username             Username of the user listing the applications.
+     * @param filter               Filter of the listing.
+     * @param offset               Offset of the page.
+     * @param limit                Limit of the page.
+     * @param resultsInCurrentPage Number of applications in the page.
+     * @param isCountRequired      Whether the total is requested.
+     * @return Total number of matching applications or null if the total is not requested.
+     * @throws IdentityApplicationManagementException If an error occurred while counting the applications.
+     */
+    private Integer getTotalResults(String tenantDomain, String username, String filter, int offset, int limit,
+                                    int resultsInCurrentPage, boolean isCountRequired)
+            throws IdentityApplicationManagementException {
+
+        if (!isCountRequired) {
+            return null;
+        }
+        if (resultsInCurrentPage < limit && (resultsInCurrentPage > 0 || offset == 0)) {
+            return offset + resultsInCurrentPage;
+        }
+        return APPLICATION_COUNT_CACHE.get(Arrays.asList(tenantDomain, username, filter),
+                () -> getApplicationManagementService().getCountOfApplications(tenantDomain, username, filter));
+    }
+
+    private void clearApplicationCountCache(String tenantDomain) {
+
+        APPLICATION_COUNT_CACHE.invalidateIf(key -> tenantDomain.equals(key.get(0)));
+    }
+
     private List<String> validateFilterTree(Node rootNode) {
 
         List<String> submittedFilterAttributes = new ArrayList<>();
@@ -337,20 +409,6 @@ public class ServerApplicationManagementService {
         }
     }
 
-    private List<ServiceProvider> getSpWithRequiredAttributes(ApplicationBasicInfo[] filteredAppList,
-                                                              List<String> requestedAttributeList)
-            throws IdentityApplicationManagementException {
-
-        List<ServiceProvider> serviceProviderList = new ArrayList<>();
-        for (ApplicationBasicInfo applicationBasicInfo : filteredAppList) {
-            ServiceProvider serviceProvider = getApplicationManagementService().
-                    getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(),
-                            requestedAttributeList);
-            serviceProviderList.add(serviceProvider);
-        }
-        return serviceProviderList;
-    }
-
     private int validateAndGetOffset(Integer offset) {
 
         if (offset != null && offset >= 0) {
@@ -578,6 +636,11 @@ public class ServerApplicationManagementService {
 
             ImportResponse importResponse = getApplicationManagementService()
                     .importSPApplication(serviceProvider, tenantDomain, username, isAppUpdate);
+            clearApplicationCountCache(tenantDomain);
+            if (isAppUpdate) {
+                // The imported application replaces the certificate of the existing one.
+                TenantInvalidationTopic.CERTIFICATES.publish(tenantDomain);
+            }
 
             if (importResponse.getResponseCode() == ImportResponse.FAILED) {
                 throw handleErrorResponse(importResponse);
@@ -709,6 +772,7 @@ public class ServerApplicationManagementService {
         ServiceProvider application = new ApiModelToServiceProvider().apply(applicationModel);
         try {
             applicationId = getApplicationManagementService().createApplication(application, tenantDomain, username);
+            clearApplicationCountCache(tenantDomain);
 
             // Update owner for B2B Self Service applications.
             if (application.isB2BSelfServiceApp()) {
@@ -775,6 +839,11 @@ public class ServerApplicationManagementService {
             String username = ContextLoader.getUsernameFromContext();
             getApplicationManagementService()
                     .updateApplicationByResourceId(applicationId, appToUpdate, tenantDomain, username);
+            clearApplicationCountCache(tenantDomain);
+            if (applicationPatchModel != null && applicationPatchModel.getAdvancedConfigurations() != null
+                    && applicationPatchModel.getAdvancedConfigurations().getCertificate() != null) {
+                TenantInvalidationTopic.CERTIFICATES.publish(tenantDomain);
+            }
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error patching application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -799,6 +868,7 @@ public class ServerApplicationManagementService {
 
             // Delete Application.
             getApplicationManagementService().deleteApplicationByResourceId(applicationId, tenantDomain, username);
+            clearApplicationCountCache(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error deleting application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -846,6 +916,9 @@ public class ServerApplicationManagementService {
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error updating resident application of tenantDomain: " + tenantDomain;
             throw handleIdentityApplicationManagementException(e, msg);
+        } finally {
+            // The server configs served from the resident application are derived from the provisioning configs.
+            TenantInvalidationTopic.RESIDENT_APPLICATION.publish(tenantDomain);
         }
     }
 
@@ -1346,30 +1419,6 @@ public class ServerApplicationManagementService {
                 .collect(Collectors.toList());
     }
 
-    private List<ApplicationListItem> getApplicationListItems(List<ServiceProvider> serviceProviderList,
-                                                              List<String> requiredAttributes) {
-
-        List<ApplicationListItem> applicationListItems = new ArrayList<>();
-        for (ServiceProvider serviceProvider : serviceProviderList) {
-            ApplicationResponseModel applicationResponseModel =
-                    new ServiceProviderToApiModel().apply(serviceProvider);
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(TEMPLATE_ID))) {
-                applicationResponseModel.templateId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ADVANCED_CONFIGURATIONS))) {
-                applicationResponseModel.advancedConfigurations(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(CLIENT_ID))) {
-                applicationResponseModel.clientId(null);
-            }
-            if (requiredAttributes.stream().noneMatch(attribute -> attribute.equals(ISSUER))) {
-                applicationResponseModel.issuer(null);
-            }
-            applicationListItems.add(new ApplicationInfoWithRequiredPropsToApiModel().apply(applicationResponseModel));
-        }
-        return applicationListItems;
-    }
-
     /**
      * Create or replace the provided inbound configuration.
      *
@@ -1429,6 +1478,7 @@ public class ServerApplicationManagementService {
 
             getApplicationManagementService().updateApplicationByResourceId(
                     applicationId, updatedApplication, tenantDomain, username);
+            clearApplicationCountCache(tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             String msg = "Error updating application with id: " + applicationId;
             throw handleIdentityApplicationManagementException(e, msg);
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.application.management.v1.core.functions.application;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementServiceHolder;
+import org.wso2.carbon.identity.api.server.application.management.v1.ApplicationListItem;
+import org.wso2.carbon.identity.api.server.common.ContextPropagatingExecutor;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.ApplicationBasicInfo;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ADVANCED_CONFIGURATIONS;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.CLIENT_ID;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.ISSUER;
+import static org.wso2.carbon.identity.api.server.application.management.common.ApplicationManagementConstants.TEMPLATE_ID;
+
+/**
+ * Builds the application list items of a page along with the requested attributes.
+ *
+ * Attributes which are already available in the ApplicationBasicInfo are resolved without a backend call. The
+ * service providers are only fetched for the applications which still have unresolved attributes, with only those
+ * attributes requested. The backend does not fetch applications in batches, hence each of them is still fetched by a
+ * backend call of its own, and the calls of a page are fanned out on a bounded executor.
+ *
+ * The fetches of a page are given {@link #FETCH_TIMEOUT_MILLIS} from the time they are submitted, after which the
+ * remaining fetches are cancelled and their applications are listed with the basic information only. The executor is
+ * shut down through {@link #shutdown()} when the API is undeployed.
+ */
+public class ApplicationListItemHydrator {
+
+    private static final Log log = LogFactory.getLog(ApplicationListItemHydrator.class);
+
+    private static final int POOL_SIZE = 10;
+    private static final int QUEUE_SIZE = 100;
+    private static final long FETCH_TIMEOUT_MILLIS = 10000L;
+    private static final ContextPropagatingExecutor EXECUTOR =
+            new ContextPropagatingExecutor("ApplicationListHydrator", POOL_SIZE, QUEUE_SIZE);
+
+    // Loaders resolving an attribute from the basic info of an application. A loader returns false when the basic
+    // info does not carry the attribute, in which case it is resolved from the service provider.
+    private static final Map<String, BiPredicate<ApplicationBasicInfo, ApplicationListItem>> BASIC_INFO_LOADERS =
+            new HashMap<>();
+    // Loaders resolving an attribute from the service provider fetched with the required attributes.
+    private static final Map<String, BiConsumer<ServiceProvider, ApplicationListItem>> SP_LOADERS = new HashMap<>();
+
+    static {
+        BASIC_INFO_LOADERS.put(CLIENT_ID, (info, item) -> setIfNotEmpty(info.getClientId(), item::clientId));
+        BASIC_INFO_LOADERS.put(ISSUER, (info, item) -> setIfNotEmpty(info.getIssuer(), item::issuer));
+
+        ServiceProviderToApiModel toApiModel = new ServiceProviderToApiModel();
+        SP_LOADERS.put(CLIENT_ID, (sp, item) -> item.clientId(toApiModel.getInboundKey(sp, "oauth2")));
+        SP_LOADERS.put(ISSUER, (sp, item) -> item.issuer(toApiModel.getInboundKey(sp, "samlsso")));
+        SP_LOADERS.put(TEMPLATE_ID, (sp, item) -> item.templateId(sp.getTemplateId()));
+        SP_LOADERS.put(ADVANCED_CONFIGURATIONS,
+                (sp, item) -> item.advancedConfigurations(toApiModel.buildAdvancedAppConfiguration(sp)));
+    }
+
+    /**
+     * Build the list items of the given applications, populated with the requested attributes.
+     *
+     * @param applications        Applications of the page.
+     * @param requestedAttributes Attributes requested in addition to the basic information.
+     * @return Application list items in the order of the given applications.
+     * @throws IdentityApplicationManagementException If an error occurred while fetching an application.
+     */
+    public List<ApplicationListItem> hydrate(ApplicationBasicInfo[] applications, List<String> requestedAttributes)
+            throws IdentityApplicationManagementException {
+
+        List<ApplicationListItem> applicationListItems = new ArrayList<>(applications.length);
+        Map<Integer, List<String>> pendingAttributes = new HashMap<>();
+        for (int i = 0; i < applications.length; i++) {
+            ApplicationBasicInfo applicationBasicInfo = applications[i];
+            ApplicationListItem applicationListItem = new ApplicationBasicInfoToApiModel().apply(applicationBasicInfo)
+                    .clientId(null)
+                    .issuer(null);
+            List<String> unresolvedAttributes = new ArrayList<>();
+            for (String attribute : requestedAttributes) {
+                if (!resolveFromBasicInfo(attribute, applicationBasicInfo, applicationListItem)) {
+                    unresolvedAttributes.add(attribute);
+                }
+            }
+            if (!unresolvedAttributes.isEmpty()) {
+                pendingAttributes.put(i, unresolvedAttributes);
+            }
+            applicationListItems.add(applicationListItem);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(pendingAttributes.size() + " out of " + applications.length + " applications need to be " +
+                    "fetched to resolve the requested attributes: " + requestedAttributes);
+        }
+        Map<Integer, ServiceProvider> serviceProviders = fetchServiceProviders(applications, pendingAttributes);
+        for (Map.Entry<Integer, List<String>> entry : pendingAttributes.entrySet()) {
+            ServiceProvider serviceProvider = serviceProviders.get(entry.getKey());
+            if (serviceProvider == null) {
+                continue;
+            }
+            ApplicationListItem applicationListItem = applicationListItems.get(entry.getKey());
+            for (String attribute : entry.getValue()) {
+                SP_LOADERS.get(attribute).accept(serviceProvider, applicationListItem);
+            }
+        }
+        return applicationListItems;
+    }
+
+    /**
+     * Stop the executor fetching the applications, when the API is undeployed.
+     */
+    public static void shutdown() {
+
+        EXECUTOR.shutdown();
+    }
+
+    private boolean resolveFromBasicInfo(String attribute, ApplicationBasicInfo applicationBasicInfo,
+                                         ApplicationListItem applicationListItem) {
+
+        BiPredicate<ApplicationBasicInfo, ApplicationListItem> loader = BASIC_INFO_LOADERS.get(attribute);
+        return loader != null && loader.test(applicationBasicInfo, applicationListItem);
+    }
+
+    private static boolean setIfNotEmpty(String value, Consumer<String> setter) {
+
+        if (StringUtils.isEmpty(value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    private Map<Integer, ServiceProvider> fetchServiceProviders(ApplicationBasicInfo[] applications,
+                                                                Map<Integer, List<String>> pendingAttributes)
+            throws IdentityApplicationManagementException {
+
+        Map<Integer, ServiceProvider> serviceProviders = new HashMap<>();
+        if (pendingAttributes.size() == 1) {
+            Map.Entry<Integer, List<String>> entry = pendingAttributes.entrySet().iterator().next();
+            serviceProviders.put(entry.getKey(), fetchServiceProvider(applications[entry.getKey()], entry.getValue()));
+            return serviceProviders;
+        }
+
+        Map<Integer, Future<ServiceProvider>> futures = new HashMap<>();
+        for (Map.Entry<Integer, List<String>> entry : pendingAttributes.entrySet()) {
+            ApplicationBasicInfo applicationBasicInfo = applications[entry.getKey()];
+            List<String> attributes = entry.getValue();
+            futures.put(entry.getKey(), EXECUTOR.submit(() -> fetchServiceProvider(applicationBasicInfo, attributes)));
+        }
+        long deadline = System.currentTimeMillis() + FETCH_TIMEOUT_MILLIS;
+        int timedOutFetches = 0;
+        try {
+            for (Map.Entry<Integer, Future<ServiceProvider>> entry : futures.entrySet()) {
+                try {
+                    long remainingMillis = Math.max(deadline - System.currentTimeMillis(), 0L);
+                    serviceProviders.put(entry.getKey(), entry.getValue().get(remainingMillis, TimeUnit.MILLISECONDS));
+                } catch (TimeoutException e) {
+                    entry.getValue().cancel(true);
+                    timedOutFetches++;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(future -> future.cancel(true));
+            throw new IdentityApplicationManagementException("Interrupted while retrieving the required " +
+                    "attributes of the applications.", e);
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof IdentityApplicationManagementException) {
+                throw (IdentityApplicationManagementException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IdentityApplicationManagementException("Error while retrieving the required attributes " +
+                    "of the applications.", e.getCause());
+        }
+        if (timedOutFetches > 0) {
+            log.warn("Timed out after " + FETCH_TIMEOUT_MILLIS + " ms while retrieving the required attributes of " +
+                    timedOutFetches + " applications. They are listed with their basic information only.");
+        }
+        return serviceProviders;
+    }
+
+    private ServiceProvider fetchServiceProvider(ApplicationBasicInfo applicationBasicInfo, List<String> attributes)
+            throws IdentityApplicationManagementException {
+
+        return ApplicationManagementServiceHolder.getApplicationManagementService()
+                .getApplicationWithRequiredAttributes(applicationBasicInfo.getApplicationId(), attributes);
+    }
+}
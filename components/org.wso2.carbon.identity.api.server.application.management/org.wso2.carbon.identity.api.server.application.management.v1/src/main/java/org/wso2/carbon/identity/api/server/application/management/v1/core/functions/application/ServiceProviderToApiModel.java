@@ -350,7 +350,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return new BuildProvisioningConfiguration().apply(application);
     }
 
-    private AdvancedApplicationConfiguration buildAdvancedAppConfiguration(ServiceProvider serviceProvider) {
+    AdvancedApplicationConfiguration buildAdvancedAppConfiguration(ServiceProvider serviceProvider) {
 
         LocalAndOutboundAuthenticationConfig authConfig = serviceProvider.getLocalAndOutBoundAuthenticationConfig();
         if (authConfig == null) {
@@ -463,7 +463,7 @@ public class ServiceProviderToApiModel implements Function<ServiceProvider, Appl
         return ApplicationResponseModel.AccessEnum.WRITE;
     }
 
-    private String getInboundKey(ServiceProvider application, String authType) {
+    String getInboundKey(ServiceProvider application, String authType) {
 
         if (application.getInboundAuthenticationConfig() != null) {
             InboundAuthenticationRequestConfig[] authRequestConfigs = application.getInboundAuthenticationConfig()
@@ -62,10 +62,11 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
     @Override
     public Response getAllApplications(Integer limit, Integer offset, String filter, String sortOrder, String sortBy,
-                                       String requiredAttributes) {
+                                       String requiredAttributes, Boolean count, String after, String before) {
 
         ApplicationListResponse listResponse = applicationManagementService
-                .getAllApplications(limit, offset, filter, sortOrder, sortBy, requiredAttributes);
+                .getAllApplications(limit, offset, filter, sortOrder, sortBy, requiredAttributes, count, after,
+                        before);
         return Response.ok().entity(listResponse).build();
     }
 
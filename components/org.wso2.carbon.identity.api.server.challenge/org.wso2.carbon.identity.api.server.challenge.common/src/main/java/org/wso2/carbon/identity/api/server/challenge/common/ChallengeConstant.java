@@ -60,7 +60,10 @@ public class ChallengeConstant {
                 "Operation is not supported on the challenge set patch API."),
         ERROR_CHALLENGE_SET_NOT_EXISTS("500010",
                 "Challenge set does not exists.",
-                "Specified challenge does not exist in the system, hence unable to proceed.");
+                "Specified challenge does not exist in the system, hence unable to proceed."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("60001",
+                "Invalid pagination parameters.",
+                "'offset' and 'limit' should be non-negative integers.");
 
         private final String code;
         private final String message;
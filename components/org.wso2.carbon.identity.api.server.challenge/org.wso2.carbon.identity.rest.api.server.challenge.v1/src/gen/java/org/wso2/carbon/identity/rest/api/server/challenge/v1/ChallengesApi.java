@@ -145,8 +145,8 @@ public class ChallengesApi  {
 
     public Response getChallengeQuestionSet(@ApiParam(value = "Challenge Question set ID",required=true ) @PathParam("challenge-set-id")  String challengeSetId,
     @ApiParam(value = "An optional search string to look-up challenge-questions based on locale.\n") @QueryParam("locale")  String locale,
-    @ApiParam(value = "Number of records to skip for pagination. _*This filtering is not yet supported._") @QueryParam("offset")  Integer offset,
-    @ApiParam(value = "Maximum number of records to return. _*This filtering is not yet supported._") @QueryParam("limit")  Integer limit)
+    @ApiParam(value = "Number of records to skip for pagination.") @QueryParam("offset")  Integer offset,
+    @ApiParam(value = "Maximum number of records to return.") @QueryParam("limit")  Integer limit)
     {
     return delegate.getChallengeQuestionSet(challengeSetId,locale,offset,limit);
     }
@@ -158,13 +158,15 @@ public class ChallengesApi  {
     @io.swagger.annotations.ApiResponses(value = { 
         @io.swagger.annotations.ApiResponse(code = 200, message = "search results matching criteria"),
         
+        @io.swagger.annotations.ApiResponse(code = 400, message = "Invalid input request"),
+        
         @io.swagger.annotations.ApiResponse(code = 401, message = "Unauthorized"),
         
         @io.swagger.annotations.ApiResponse(code = 500, message = "Internal Server Error") })
 
     public Response searchChallenges(@ApiParam(value = "An optional search string to look-up challenge-questions based on locale.\n") @QueryParam("locale")  String locale,
-    @ApiParam(value = "Number of records to skip for pagination. _*This filtering is not yet supported._") @QueryParam("offset")  Integer offset,
-    @ApiParam(value = "Maximum number of records to return. _*This filtering is not yet supported._") @QueryParam("limit")  Integer limit)
+    @ApiParam(value = "Number of records to skip for pagination.") @QueryParam("offset")  Integer offset,
+    @ApiParam(value = "Maximum number of records to return.") @QueryParam("limit")  Integer limit)
     {
     return delegate.searchChallenges(locale,offset,limit);
     }
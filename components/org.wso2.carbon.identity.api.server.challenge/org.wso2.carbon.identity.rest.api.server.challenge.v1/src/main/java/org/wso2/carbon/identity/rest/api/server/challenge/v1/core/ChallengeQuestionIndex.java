@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.challenge.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.recovery.IdentityRecoveryException;
+import org.wso2.carbon.identity.recovery.model.ChallengeQuestion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.identity.api.server.challenge.common.ChallengeQuestionDataHolder.getChallengeQuestionManager;
+
+/**
+ * Index of the challenge questions of the tenants by challenge set id, per locale, so that the challenge sets are
+ * listed and paginated without grouping all the challenge questions of the tenant on each request.
+ *
+ * The index of a tenant is invalidated by the challenge question operations of this API.
+ */
+public class ChallengeQuestionIndex {
+
+    private static final Log LOG = LogFactory.getLog(ChallengeQuestionIndex.class);
+
+    private static final long TIME_TO_LIVE_MILLIS = 30000L;
+    private static final int MAX_ENTRIES = 1000;
+
+    private static final ChallengeQuestionIndex INSTANCE = new ChallengeQuestionIndex();
+
+    private final ExpiringCache<List<String>, Map<String, List<ChallengeQuestion>>> questionsBySetId =
+            new ExpiringCache<>("ChallengeQuestions", TIME_TO_LIVE_MILLIS, MAX_ENTRIES);
+
+    private ChallengeQuestionIndex() {
+
+    }
+
+    public static ChallengeQuestionIndex getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the challenge questions of a tenant grouped by the challenge set id.
+     *
+     * @param tenantDomain Tenant domain.
+     * @param locale       Locale of the challenge questions, or empty for the questions of all the locales.
+     * @return Unmodifiable map of challenge questions against the challenge set id, in the order returned by the
+     * service.
+     * @throws IdentityRecoveryException If an error occurred while retrieving the challenge questions.
+     */
+    public Map<String, List<ChallengeQuestion>> getChallengeSets(String tenantDomain, String locale)
+            throws IdentityRecoveryException {
+
+        String indexLocale = StringUtils.defaultString(locale);
+        return questionsBySetId.get(Arrays.asList(tenantDomain, indexLocale),
+                () -> buildIndex(tenantDomain, indexLocale));
+    }
+
+    /**
+     * Invalidate the challenge questions of a tenant, for all the locales.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        questionsBySetId.invalidateIf(key -> tenantDomain.equals(key.get(0)));
+    }
+
+    private Map<String, List<ChallengeQuestion>> buildIndex(String tenantDomain, String locale)
+            throws IdentityRecoveryException {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Building the challenge question index of tenant: " + tenantDomain + " for locale: " + locale);
+        }
+        List<ChallengeQuestion> challengeQuestions = StringUtils.isEmpty(locale) ?
+                getChallengeQuestionManager().getAllChallengeQuestions(tenantDomain) :
+                getChallengeQuestionManager().getAllChallengeQuestions(tenantDomain, locale);
+        Map<String, List<ChallengeQuestion>> index = new LinkedHashMap<>();
+        if (challengeQuestions != null) {
+            for (ChallengeQuestion challengeQuestion : challengeQuestions) {
+                // Question set ids are the challenge set ids prefixed with the WSO2 claim dialect.
+                String setId = StringUtils.substringAfter(challengeQuestion.getQuestionSetId(),
+                        ServerChallengeService.WSO2_CLAIM_DIALECT);
+                index.computeIfAbsent(setId, id -> new ArrayList<>()).add(challengeQuestion);
+            }
+        }
+        index.replaceAll((setId, questions) -> Collections.unmodifiableList(questions));
+        return Collections.unmodifiableMap(index);
+    }
+}
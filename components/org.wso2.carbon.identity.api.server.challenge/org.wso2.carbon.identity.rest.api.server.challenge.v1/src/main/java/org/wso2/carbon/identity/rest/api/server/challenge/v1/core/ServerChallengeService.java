@@ -35,13 +35,14 @@ import org.wso2.carbon.identity.rest.api.server.challenge.v1.dto.ChallengeQuesti
 import org.wso2.carbon.identity.rest.api.server.challenge.v1.dto.ChallengeSetDTO;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.challenge.common.ChallengeQuestionDataHolder.getChallengeQuestionManager;
-import static java.util.stream.Collectors.groupingBy;
 
 /**
  * Call internal osgi services to perform server challenge related operations
@@ -49,27 +50,23 @@ import static java.util.stream.Collectors.groupingBy;
 public class ServerChallengeService {
 
     private static final Log log = LogFactory.getLog(ServerChallengeService.class);
-    private static final String WSO2_CLAIM_DIALECT = "http://wso2.org/claims/";
+    static final String WSO2_CLAIM_DIALECT = "http://wso2.org/claims/";
+    private static final ChallengeQuestionIndex CHALLENGE_QUESTION_INDEX = ChallengeQuestionIndex.getInstance();
 
     /**
      * Get all challenges of the loaded tenant.
      *
      * @param locale challenge question locale
-     * @param offset offset to start listing the challenge questions
-     * @param limit  number of challenge questions to list
-     * @return list of challenge questions of the given locale
+     * @param offset number of challenge sets to skip
+     * @param limit  maximum number of challenge sets to list
+     * @return list of challenge sets with the challenge questions of the given locale
      */
     public List<ChallengeSetDTO> getChallenges(String locale, Integer offset, Integer limit) {
 
+        validatePagination(offset, limit);
         try {
-            if (StringUtils.isEmpty(locale)) {
-
-                return buildChallengesDTO(getChallengeQuestionManager()
-                        .getAllChallengeQuestions(ContextLoader.getTenantDomainFromContext()), offset, limit);
-            } else {
-                return buildChallengesDTO(getChallengeQuestionManager()
-                        .getAllChallengeQuestions(ContextLoader.getTenantDomainFromContext(), locale), offset, limit);
-            }
+            return buildChallengesDTO(CHALLENGE_QUESTION_INDEX
+                    .getChallengeSets(ContextLoader.getTenantDomainFromContext(), locale), offset, limit);
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e,
                     ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_RETRIVING_CHALLENGES);
@@ -81,28 +78,21 @@ public class ServerChallengeService {
      *
      * @param challengeSetId challenge question set id
      * @param locale         challenge question locale
-     * @param offset
-     * @param limit
-     * @return
+     * @param offset         number of challenge questions of the set to skip
+     * @param limit          maximum number of challenge questions of the set to list
+     * @return challenge set with the challenge questions of the given locale
      */
     public ChallengeSetDTO getChallengeSet(String challengeSetId, String locale, Integer offset, Integer limit) {
 
+        validatePagination(offset, limit);
         try {
             if (!isChallengeSetExists(challengeSetId, ContextLoader.getTenantDomainFromContext())) {
                 throw handleError(Response.Status.NOT_FOUND,
                         ChallengeConstant.ErrorMessage.ERROR_CHALLENGE_SET_NOT_EXISTS);
             }
-            if (StringUtils.isEmpty(locale)) {
-                return buildChallengeDTO(getChallengeQuestionManager()
-                                .getAllChallengeQuestions(ContextLoader.getTenantDomainFromContext()), challengeSetId
-                        , offset,
-                        limit);
-            } else {
-                return buildChallengeDTO(getChallengeQuestionManager()
-                                .getAllChallengeQuestions(ContextLoader.getTenantDomainFromContext(), locale),
-                        challengeSetId,
-                        offset, limit);
-            }
+            return buildChallengeDTO(CHALLENGE_QUESTION_INDEX
+                            .getChallengeSets(ContextLoader.getTenantDomainFromContext(), locale), challengeSetId,
+                    offset, limit);
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e,
                     ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_RETRIVING_CHALLENGE);
@@ -135,6 +125,8 @@ public class ServerChallengeService {
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e,
                     ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_DELETING_CHALLENGE);
+        } finally {
+            CHALLENGE_QUESTION_INDEX.invalidate(ContextLoader.getTenantDomainFromContext());
         }
         return true;
     }
@@ -159,6 +151,8 @@ public class ServerChallengeService {
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e,
                     ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_DELETING_CHALLENGES);
+        } finally {
+            CHALLENGE_QUESTION_INDEX.invalidate(ContextLoader.getTenantDomainFromContext());
         }
         return true;
     }
@@ -177,7 +171,8 @@ public class ServerChallengeService {
             getChallengeQuestionManager().addChallengeQuestions(toAdd, ContextLoader.getTenantDomainFromContext());
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e, ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_ADDING_CHALLENGES);
-
+        } finally {
+            CHALLENGE_QUESTION_INDEX.invalidate(ContextLoader.getTenantDomainFromContext());
         }
         return true;
     }
@@ -203,6 +198,8 @@ public class ServerChallengeService {
         } catch (IdentityRecoveryException e) {
             throw handleIdentityRecoveryException(e,
                     ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CHALLENGE_SET);
+        } finally {
+            CHALLENGE_QUESTION_INDEX.invalidate(ContextLoader.getTenantDomainFromContext());
         }
         return true;
     }
@@ -233,6 +230,8 @@ public class ServerChallengeService {
             } catch (IdentityRecoveryException e) {
                 throw handleIdentityRecoveryException(e,
                         ChallengeConstant.ErrorMessage.ERROR_CODE_ERROR_ADDING_CHALLENGE_QUESTION_TO_A_SET);
+            } finally {
+                CHALLENGE_QUESTION_INDEX.invalidate(ContextLoader.getTenantDomainFromContext());
             }
         } else {
             throw handleError(Response.Status.NOT_IMPLEMENTED,
@@ -268,42 +267,48 @@ public class ServerChallengeService {
         return new ChallengeQuestion(WSO2_CLAIM_DIALECT + setId, q.getQuestionId(), q.getQuestion(), q.getLocale());
     }
 
-    private List<ChallengeSetDTO> buildChallengesDTO(List<ChallengeQuestion> challengeQuestions, Integer offset,
-                                                     Integer limit) {
+    private List<ChallengeSetDTO> buildChallengesDTO(Map<String, List<ChallengeQuestion>> challengeSets,
+                                                     Integer offset, Integer limit) {
 
-        Map<String, List<ChallengeQuestion>> challengeSets = groupChallenges(challengeQuestions);
-        return challengeSets.entrySet().stream().map((e) -> getChallengeSetDTO(e.getKey(), e.getValue()))
+        return paginate(challengeSets.entrySet().stream(), offset, limit)
+                .map(e -> getChallengeSetDTO(e.getKey(), e.getValue().stream()))
                 .collect(Collectors.toList());
     }
 
-    private ChallengeSetDTO getChallengeSetDTO(String questionSetId, List<ChallengeQuestion> questions) {
+    private ChallengeSetDTO getChallengeSetDTO(String questionSetId, Stream<ChallengeQuestion> questions) {
 
         ChallengeSetDTO challenge = new ChallengeSetDTO();
         challenge.setQuestionSetId(questionSetId);
-        List<ChallengeQuestionDTO> questionDTOs = questions.stream().map(new ChallengeQuestionToExternal())
+        List<ChallengeQuestionDTO> questionDTOs = questions.map(new ChallengeQuestionToExternal())
                 .collect(Collectors.toList());
         challenge.setQuestions(questionDTOs);
         return challenge;
     }
 
-    private ChallengeSetDTO buildChallengeDTO(List<ChallengeQuestion> challengeQuestions, String challengeSetId,
-                                              Integer offset, Integer limit) {
+    private ChallengeSetDTO buildChallengeDTO(Map<String, List<ChallengeQuestion>> challengeSets,
+                                              String challengeSetId, Integer offset, Integer limit) {
 
-        List<ChallengeQuestion> challengeSets = filterChallengesBySetId(challengeQuestions, challengeSetId);
-        return getChallengeSetDTO(challengeSetId, challengeSets);
+        List<ChallengeQuestion> questions = challengeSets.getOrDefault(challengeSetId, Collections.emptyList());
+        return getChallengeSetDTO(challengeSetId, paginate(questions.stream(), offset, limit));
     }
 
-    private Map<String, List<ChallengeQuestion>> groupChallenges(List<ChallengeQuestion> challengeQuestions) {
+    private <T> Stream<T> paginate(Stream<T> stream, Integer offset, Integer limit) {
 
-        return challengeQuestions.stream()
-                .collect(groupingBy(question -> question.getQuestionSetId().split(WSO2_CLAIM_DIALECT)[1]));
+        if (offset != null) {
+            stream = stream.skip(offset);
+        }
+        if (limit != null) {
+            stream = stream.limit(limit);
+        }
+        return stream;
     }
 
-    private List<ChallengeQuestion> filterChallengesBySetId(List<ChallengeQuestion> challengeQuestions, String setId) {
+    private void validatePagination(Integer offset, Integer limit) {
 
-        return challengeQuestions.stream()
-                .filter(question -> question.getQuestionSetId().split(WSO2_CLAIM_DIALECT)[1].equals(setId))
-                .collect(Collectors.toList());
+        if ((offset != null && offset < 0) || (limit != null && limit < 0)) {
+            throw handleError(Response.Status.BAD_REQUEST,
+                    ChallengeConstant.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS);
+        }
     }
 
     private boolean isChallengeSetExists(String setID, String tenantDomain) {
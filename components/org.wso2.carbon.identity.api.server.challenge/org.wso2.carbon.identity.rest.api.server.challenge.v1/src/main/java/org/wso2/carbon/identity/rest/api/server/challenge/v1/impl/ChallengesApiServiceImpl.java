@@ -56,13 +56,13 @@ public class ChallengesApiServiceImpl extends ChallengesApiService {
     @Override
     public Response getChallengeQuestionSet(String challengeSetId, String locale, Integer offset, Integer limit) {
 
-        return Response.ok().entity(challengeService.getChallengeSet(challengeSetId, locale, limit, offset)).build();
+        return Response.ok().entity(challengeService.getChallengeSet(challengeSetId, locale, offset, limit)).build();
     }
 
     @Override
     public Response searchChallenges(String locale, Integer offset, Integer limit) {
 
-        return Response.ok().entity(challengeService.getChallenges(locale, limit, offset)).build();
+        return Response.ok().entity(challengeService.getChallenges(locale, offset, limit)).build();
     }
 
     @Override
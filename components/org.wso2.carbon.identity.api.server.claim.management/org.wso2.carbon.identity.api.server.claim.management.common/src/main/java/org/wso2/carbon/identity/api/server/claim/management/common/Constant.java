@@ -171,7 +171,19 @@ public class Constant {
         ERROR_CODE_USERSTORE_NOT_SPECIFIED_IN_MAPPINGS("CMT-60005", "Userstore not specified",
                 "Mapped userstore cannot be empty"),
         ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS("CMT-60006", "Attribute mapping not specified",
-                "Attribute mapping cannot be empty");
+                "Attribute mapping cannot be empty"),
+        ERROR_CODE_INVALID_FILTER_FORMAT("CMT-60007", "Invalid filter",
+                "Filter %s is not in the expected format."),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("CMT-60008", "Unsupported filter attribute",
+                "Filtering by the attribute %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("CMT-60009", "Unsupported filter operation",
+                "Filter operation %s is not supported."),
+        ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE("CMT-60010", "Unsupported sort attribute",
+                "Sorting by %s is not supported."),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("CMT-60011", "Invalid pagination parameters",
+                "The limit and offset cannot be negative."),
+        ERROR_CODE_UNSUPPORTED_RESPONSE_ATTRIBUTE("CMT-60012", "Unsupported attribute",
+                "Attribute %s is not supported in the response.");
 
         private final String code;
         private final String message;
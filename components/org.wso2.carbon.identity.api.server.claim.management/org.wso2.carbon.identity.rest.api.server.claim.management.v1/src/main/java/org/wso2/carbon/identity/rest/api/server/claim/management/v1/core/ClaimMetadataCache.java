@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.rest.api.server.claim.management.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
+
+/**
+ * Cache of the claim dialects, local claims and external claims of the tenants, indexed by their URIs.
+ *
+ * The entries of a tenant are invalidated by the claim management operations of this API.
+ */
+public class ClaimMetadataCache {
+
+    private static final Log LOG = LogFactory.getLog(ClaimMetadataCache.class);
+
+    private static final long TIME_TO_LIVE_MILLIS = 30000L;
+    private static final int MAX_TENANTS = 100;
+    private static final int MAX_DIALECTS = 1000;
+
+    private static final ClaimMetadataCache INSTANCE = new ClaimMetadataCache();
+
+    private final ExpiringCache<String, Map<String, ClaimDialect>> claimDialects =
+            new ExpiringCache<>("ClaimDialects", TIME_TO_LIVE_MILLIS, MAX_TENANTS);
+    private final ExpiringCache<String, Map<String, LocalClaim>> localClaims =
+            new ExpiringCache<>("LocalClaims", TIME_TO_LIVE_MILLIS, MAX_TENANTS);
+    private final ExpiringCache<List<String>, Map<String, ExternalClaim>> externalClaims =
+            new ExpiringCache<>("ExternalClaims", TIME_TO_LIVE_MILLIS, MAX_DIALECTS);
+
+    private ClaimMetadataCache() {
+
+        // Local claims are also changed by other APIs, such as the claim attribute mapping updates of the user store
+        // API.
+        TenantInvalidationTopic.LOCAL_CLAIMS.subscribe(localClaims::invalidate);
+    }
+
+    public static ClaimMetadataCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the claim dialects of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable map of claim dialects against the dialect URI, in the order returned by the service.
+     * @throws ClaimMetadataException If an error occurred while retrieving the claim dialects.
+     */
+    public Map<String, ClaimDialect> getClaimDialects(String tenantDomain) throws ClaimMetadataException {
+
+        return claimDialects.get(tenantDomain, () -> {
+            logCacheMiss("claim dialects", tenantDomain);
+            return indexByURI(getClaimMetadataManagementService().getClaimDialects(tenantDomain),
+                    ClaimDialect::getClaimDialectURI);
+        });
+    }
+
+    /**
+     * Get the local claims of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable map of local claims against the claim URI, in the order returned by the service.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    public Map<String, LocalClaim> getLocalClaims(String tenantDomain) throws ClaimMetadataException {
+
+        return localClaims.get(tenantDomain, () -> {
+            logCacheMiss("local claims", tenantDomain);
+            return indexByURI(getClaimMetadataManagementService().getLocalClaims(tenantDomain),
+                    LocalClaim::getClaimURI);
+        });
+    }
+
+    /**
+     * Get the external claims of a claim dialect of a tenant.
+     *
+     * @param dialectURI   Claim dialect URI.
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable map of external claims against the claim URI, in the order returned by the service.
+     * @throws ClaimMetadataException If an error occurred while retrieving the external claims.
+     */
+    public Map<String, ExternalClaim> getExternalClaims(String dialectURI, String tenantDomain)
+            throws ClaimMetadataException {
+
+        return externalClaims.get(Arrays.asList(tenantDomain, dialectURI), () -> {
+            logCacheMiss("external claims of dialect: " + dialectURI, tenantDomain);
+            return indexByURI(getClaimMetadataManagementService().getExternalClaims(dialectURI, tenantDomain),
+                    ExternalClaim::getClaimURI);
+        });
+    }
+
+    /**
+     * Invalidate the claim dialects of a tenant, along with the external claims of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateClaimDialects(String tenantDomain) {
+
+        claimDialects.invalidate(tenantDomain);
+        externalClaims.invalidateIf(key -> tenantDomain.equals(key.get(0)));
+    }
+
+    /**
+     * Invalidate the local claims of a tenant, in this cache and in the caches of other APIs derived from them.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateLocalClaims(String tenantDomain) {
+
+        TenantInvalidationTopic.LOCAL_CLAIMS.publish(tenantDomain);
+    }
+
+    /**
+     * Invalidate the external claims of a claim dialect of a tenant.
+     *
+     * @param dialectURI   Claim dialect URI.
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateExternalClaims(String dialectURI, String tenantDomain) {
+
+        externalClaims.invalidate(Arrays.asList(tenantDomain, dialectURI));
+    }
+
+    private <T> Map<String, T> indexByURI(List<T> list, Function<T, String> uriResolver) {
+
+        Map<String, T> index = new LinkedHashMap<>();
+        if (list != null) {
+            for (T item : list) {
+                index.putIfAbsent(uriResolver.apply(item), item);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    private void logCacheMiss(String entry, String tenantDomain) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Cache miss for the " + entry + " of tenant: " + tenantDomain);
+        }
+    }
+}
@@ -26,6 +26,8 @@ import org.wso2.carbon.identity.api.server.claim.management.common.Constant;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.query.InMemoryListQuery;
+import org.wso2.carbon.identity.api.server.common.query.ListQueryException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataClientException;
 import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
 import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
@@ -50,16 +52,21 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.claim.management.common.ClaimManagementDataHolder.getClaimMetadataManagementService;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.CMT_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_DIALECT_NOT_FOUND;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS;
@@ -81,13 +88,16 @@ import static org.wso2.carbon.identity.api.server.claim.management.common.Consta
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EXTERNAL_CLAIM_CONFLICT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_EXTERNAL_CLAIM_NOT_FOUND;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_DIALECT_ID;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_INVALID_USERSTORE;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_LOCAL_CLAIM_CONFLICT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_LOCAL_CLAIM_NOT_FOUND;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_RESPONSE_ATTRIBUTE;
+import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.ErrorMessage.ERROR_CODE_USERSTORE_NOT_SPECIFIED_IN_MAPPINGS;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT;
 import static org.wso2.carbon.identity.api.server.claim.management.common.Constant.LOCAL_DIALECT_PATH;
@@ -120,6 +130,63 @@ public class ServerClaimManagementService {
     );
     private static final boolean RESTRICT_CLAIM_TO_PRIMARY_USERSTORE = Boolean.parseBoolean(IdentityUtil.getProperty(
             "ClaimManagement.RestrictClaimsToPrimaryUserStore"));
+    private static final ClaimMetadataCache CLAIM_METADATA_CACHE = ClaimMetadataCache.getInstance();
+
+    // Attributes of the claims and dialects which can be used to filter and sort the listings.
+    private static final Map<String, Function<ClaimDialect, String>> CLAIM_DIALECT_ATTRIBUTES = new HashMap<>();
+    private static final Map<String, Function<LocalClaim, String>> LOCAL_CLAIM_ATTRIBUTES = new HashMap<>();
+    private static final Map<String, Function<ExternalClaim, String>> EXTERNAL_CLAIM_ATTRIBUTES = new HashMap<>();
+    // Populators of the attributes of the local claim response, which can be requested with the 'attributes'
+    // parameter. The claim properties which are returned as separate attributes are excluded from the properties.
+    private static final Map<String, BiConsumer<LocalClaim, LocalClaimResDTO>> LOCAL_CLAIM_RESPONSE_ATTRIBUTES =
+            new LinkedHashMap<>();
+    private static final List<String> LOCAL_CLAIM_PROPERTY_ATTRIBUTES = Arrays.asList(PROP_DESCRIPTION,
+            PROP_DISPLAY_ORDER, PROP_DISPLAY_NAME, PROP_READ_ONLY, PROP_REG_EX, PROP_REQUIRED,
+            PROP_SUPPORTED_BY_DEFAULT);
+
+    static {
+        CLAIM_DIALECT_ATTRIBUTES.put("dialectURI", ClaimDialect::getClaimDialectURI);
+
+        LOCAL_CLAIM_ATTRIBUTES.put("claimURI", LocalClaim::getClaimURI);
+        LOCAL_CLAIM_ATTRIBUTES.put("dialectURI", LocalClaim::getClaimDialectURI);
+        LOCAL_CLAIM_ATTRIBUTES.put("displayName", claim -> claim.getClaimProperties().get(PROP_DISPLAY_NAME));
+        LOCAL_CLAIM_ATTRIBUTES.put("description", claim -> claim.getClaimProperties().get(PROP_DESCRIPTION));
+        LOCAL_CLAIM_ATTRIBUTES.put("readOnly", claim -> claim.getClaimProperties().get(PROP_READ_ONLY));
+        LOCAL_CLAIM_ATTRIBUTES.put("required", claim -> claim.getClaimProperties().get(PROP_REQUIRED));
+        LOCAL_CLAIM_ATTRIBUTES.put("supportedByDefault",
+                claim -> claim.getClaimProperties().get(PROP_SUPPORTED_BY_DEFAULT));
+
+        EXTERNAL_CLAIM_ATTRIBUTES.put("claimURI", ExternalClaim::getClaimURI);
+        EXTERNAL_CLAIM_ATTRIBUTES.put("claimDialectURI", ExternalClaim::getClaimDialectURI);
+        EXTERNAL_CLAIM_ATTRIBUTES.put("mappedLocalClaimURI", ExternalClaim::getMappedLocalClaim);
+
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("claimURI", (claim, dto) -> dto.setClaimURI(claim.getClaimURI()));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("dialectURI",
+                (claim, dto) -> dto.setDialectURI(claim.getClaimDialectURI()));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("description", (claim, dto) -> dto.setDescription(
+                StringUtils.defaultString(claim.getClaimProperties().get(PROP_DESCRIPTION))));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("displayOrder", (claim, dto) -> {
+            String propDisplayOrder = claim.getClaimProperties().get(PROP_DISPLAY_ORDER);
+            dto.setDisplayOrder(StringUtils.isNumeric(propDisplayOrder) ? Integer.valueOf(propDisplayOrder) : 0);
+        });
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("displayName",
+                (claim, dto) -> dto.setDisplayName(claim.getClaimProperties().get(PROP_DISPLAY_NAME)));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("readOnly",
+                (claim, dto) -> dto.setReadOnly(Boolean.valueOf(claim.getClaimProperties().get(PROP_READ_ONLY))));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("regEx", (claim, dto) -> dto.setRegEx(
+                StringUtils.defaultString(claim.getClaimProperties().get(PROP_REG_EX))));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("required",
+                (claim, dto) -> dto.setRequired(Boolean.valueOf(claim.getClaimProperties().get(PROP_REQUIRED))));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("supportedByDefault", (claim, dto) -> dto.setSupportedByDefault(
+                Boolean.valueOf(claim.getClaimProperties().get(PROP_SUPPORTED_BY_DEFAULT))));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("attributeMapping",
+                (claim, dto) -> dto.setAttributeMapping(getAttributeMappingDTOs(claim)));
+        LOCAL_CLAIM_RESPONSE_ATTRIBUTES.put("properties", (claim, dto) -> {
+            Map<String, String> claimProperties = new HashMap<>(claim.getClaimProperties());
+            claimProperties.keySet().removeAll(LOCAL_CLAIM_PROPERTY_ATTRIBUTES);
+            dto.setProperties(mapToProperties(claimProperties));
+        });
+    }
 
     /**
      * Add a claim dialect.
@@ -129,10 +196,12 @@ public class ServerClaimManagementService {
      */
     public String addClaimDialect(ClaimDialectReqDTO claimDialectReqDTO) {
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             getClaimMetadataManagementService().addClaimDialect(
                     createClaimDialect(claimDialectReqDTO),
-                    ContextLoader.getTenantDomainFromContext());
+                    tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateClaimDialects(tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_DIALECT,
                     claimDialectReqDTO.getDialectURI());
@@ -155,10 +224,12 @@ public class ServerClaimManagementService {
             // Ignoring the delete operation and return 204 response code, since the resource does not exist.
             return;
         }
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             getClaimMetadataManagementService().removeClaimDialect(
                     new ClaimDialect(claimDialectURI),
-                    ContextLoader.getTenantDomainFromContext());
+                    tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateClaimDialects(tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_DIALECT, dialectId);
         }
@@ -174,15 +245,14 @@ public class ServerClaimManagementService {
     public ClaimDialectResDTO getClaimDialect(String dialectId) {
 
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
             String decodedDialectId;
             if (StringUtils.equals(dialectId, LOCAL_DIALECT_PATH)) {
                 decodedDialectId = LOCAL_DIALECT;
             } else {
                 decodedDialectId = base64DecodeId(dialectId);
             }
-            ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
+            ClaimDialect claimDialect = CLAIM_METADATA_CACHE.getClaimDialects(
+                    ContextLoader.getTenantDomainFromContext()).get(decodedDialectId);
 
             if (claimDialect == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
@@ -206,12 +276,12 @@ public class ServerClaimManagementService {
      */
     public List<ClaimDialectResDTO> getClaimDialects(Integer limit, Integer offset, String filter, String sort) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
+            Collection<ClaimDialect> claimDialectList = CLAIM_METADATA_CACHE.getClaimDialects(
+                    ContextLoader.getTenantDomainFromContext()).values();
 
-            return getClaimDialectResDTOs(claimDialectList);
+            return getClaimDialectResDTOs(applyListQuery(claimDialectList, CLAIM_DIALECT_ATTRIBUTES, limit, offset,
+                    filter, sort));
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_DIALECTS);
@@ -232,10 +302,12 @@ public class ServerClaimManagementService {
         try {
             // If the old and new dialect uri is the same we don't need to do a db update.
             if (!StringUtils.equals(base64DecodeId(dialectId), claimDialectReqDTO.getDialectURI())) {
+                String tenantDomain = ContextLoader.getTenantDomainFromContext();
                 getClaimMetadataManagementService().renameClaimDialect(
                         createClaimDialect(base64DecodeId(dialectId)),
                         createClaimDialect(claimDialectReqDTO),
-                        ContextLoader.getTenantDomainFromContext());
+                        tenantDomain);
+                CLAIM_METADATA_CACHE.invalidateClaimDialects(tenantDomain);
             } else {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Skipping db update as the old dialectURI and the new dialectURI is the same. " +
@@ -268,10 +340,11 @@ public class ServerClaimManagementService {
                     BAD_REQUEST);
         }
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
-            getClaimMetadataManagementService().addLocalClaim(createLocalClaim(localClaimReqDTO),
-                    ContextLoader.getTenantDomainFromContext());
+            getClaimMetadataManagementService().addLocalClaim(createLocalClaim(localClaimReqDTO), tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateLocalClaims(tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_LOCAL_CLAIM,
                     localClaimReqDTO.getClaimURI());
@@ -297,10 +370,12 @@ public class ServerClaimManagementService {
             // Ignoring the delete operation and return 204 response code, since the resource does not exist.
             return;
         }
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             getClaimMetadataManagementService().removeLocalClaim(
                     claimURI,
-                    ContextLoader.getTenantDomainFromContext());
+                    tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateLocalClaims(tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_LOCAL_CLAIM, claimId);
         }
@@ -316,10 +391,8 @@ public class ServerClaimManagementService {
     public LocalClaimResDTO getLocalClaim(String claimId) {
 
         try {
-            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                    ContextLoader.getTenantDomainFromContext());
-
-            LocalClaim localClaim = extractLocalClaimFromClaimList(base64DecodeId(claimId), localClaimList);
+            LocalClaim localClaim = CLAIM_METADATA_CACHE.getLocalClaims(ContextLoader.getTenantDomainFromContext())
+                    .get(base64DecodeId(claimId));
 
             if (localClaim == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId);
@@ -336,7 +409,7 @@ public class ServerClaimManagementService {
      * Retrieve all claims belonging to the local dialect.
      *
      * @param excludeIdentityClaims Exclude identity claims in the local dialect if this is set to true.
-     * @param attributes            attributes filter (optional).
+     * @param attributes            Comma separated attributes to be returned (optional). The id is always returned.
      * @param limit                 limit (optional).
      * @param offset                offset (optional).
      * @param filter                filter (optional).
@@ -346,11 +419,11 @@ public class ServerClaimManagementService {
     public List<LocalClaimResDTO> getLocalClaims(Boolean excludeIdentityClaims, String attributes, Integer limit,
                                                  Integer offset, String filter, String sort) {
 
-        handleNotImplementedCapabilities(attributes, limit, offset, filter, sort);
+        Collection<String> responseAttributes = getLocalClaimResponseAttributes(attributes);
 
         try {
-            List<LocalClaim> localClaimList = getClaimMetadataManagementService().getLocalClaims(
-                    ContextLoader.getTenantDomainFromContext());
+            Collection<LocalClaim> localClaimList = CLAIM_METADATA_CACHE.getLocalClaims(
+                    ContextLoader.getTenantDomainFromContext()).values();
 
             if (excludeIdentityClaims != null && excludeIdentityClaims) {
                 localClaimList = localClaimList.stream()
@@ -358,7 +431,8 @@ public class ServerClaimManagementService {
                         .collect(Collectors.toList());
             }
 
-            return getLocalClaimResDTOs(localClaimList);
+            return getLocalClaimResDTOs(applyListQuery(localClaimList, LOCAL_CLAIM_ATTRIBUTES, limit, offset, filter,
+                    sort), responseAttributes);
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_LOCAL_CLAIMS);
@@ -373,6 +447,7 @@ public class ServerClaimManagementService {
      */
     public void updateLocalClaim(String claimId, LocalClaimReqDTO localClaimReqDTO) {
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             if (!StringUtils.equals(base64DecodeId(claimId), localClaimReqDTO.getClaimURI())) {
                 throw handleClaimManagementClientError(ERROR_CODE_LOCAL_CLAIM_CONFLICT, CONFLICT,
@@ -384,8 +459,8 @@ public class ServerClaimManagementService {
                         BAD_REQUEST);
             }
             validateAttributeMappings(localClaimReqDTO.getAttributeMapping());
-            getClaimMetadataManagementService().updateLocalClaim(createLocalClaim(localClaimReqDTO),
-                    ContextLoader.getTenantDomainFromContext());
+            getClaimMetadataManagementService().updateLocalClaim(createLocalClaim(localClaimReqDTO), tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateLocalClaims(tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_LOCAL_CLAIM, claimId);
         } catch (UserStoreException e) {
@@ -403,6 +478,7 @@ public class ServerClaimManagementService {
      */
     public String addExternalClaim(String dialectId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             if (!isDialectExists(dialectId)) {
                 throw handleClaimManagementClientError(ERROR_CODE_INVALID_DIALECT_ID, NOT_FOUND, dialectId);
@@ -410,7 +486,8 @@ public class ServerClaimManagementService {
 
             getClaimMetadataManagementService().addExternalClaim(
                     createExternalClaim(dialectId, externalClaimReqDTO),
-                    ContextLoader.getTenantDomainFromContext());
+                    tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateExternalClaims(base64DecodeId(dialectId), tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_ADDING_EXTERNAL_CLAIM,
                     externalClaimReqDTO.getClaimURI());
@@ -437,11 +514,13 @@ public class ServerClaimManagementService {
             return;
         }
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             getClaimMetadataManagementService().removeExternalClaim(
                     externalClaimDialectURI,
                     externalClaimURI,
-                    ContextLoader.getTenantDomainFromContext());
+                    tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateExternalClaims(externalClaimDialectURI, tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_DELETING_EXTERNAL_CLAIM, claimId);
         }
@@ -458,15 +537,15 @@ public class ServerClaimManagementService {
     public ExternalClaimResDTO getExternalClaim(String dialectId, String claimId) {
 
         try {
-            List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
+            Map<String, ExternalClaim> externalClaims = CLAIM_METADATA_CACHE.getExternalClaims(
                     base64DecodeId(dialectId),
                     ContextLoader.getTenantDomainFromContext());
 
-            if (CollectionUtils.isEmpty(externalClaimList)) {
+            if (externalClaims.isEmpty()) {
                 throw handleClaimManagementClientError(ERROR_CODE_CLAIMS_NOT_FOUND_FOR_DIALECT, NOT_FOUND, dialectId);
             }
 
-            ExternalClaim externalClaim = extractExternalClaimFromClaimList(base64DecodeId(claimId), externalClaimList);
+            ExternalClaim externalClaim = externalClaims.get(base64DecodeId(claimId));
 
             if (externalClaim == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_EXTERNAL_CLAIM_NOT_FOUND, NOT_FOUND, claimId,
@@ -493,22 +572,19 @@ public class ServerClaimManagementService {
     public List<ExternalClaimResDTO> getExternalClaims(String dialectId, Integer limit, Integer offset,
                                                        String filter, String sort) {
 
-        handleNotImplementedCapabilities(limit, offset, filter, sort);
-
         try {
-            List<ClaimDialect> claimDialectList = getClaimMetadataManagementService().getClaimDialects(
-                    ContextLoader.getTenantDomainFromContext());
+            String tenantDomain = ContextLoader.getTenantDomainFromContext();
             String decodedDialectId = base64DecodeId(dialectId);
-            ClaimDialect claimDialect = extractDialectFromDialectList(decodedDialectId, claimDialectList);
+            ClaimDialect claimDialect = CLAIM_METADATA_CACHE.getClaimDialects(tenantDomain).get(decodedDialectId);
 
             if (claimDialect == null) {
                 throw handleClaimManagementClientError(ERROR_CODE_DIALECT_NOT_FOUND, NOT_FOUND, dialectId);
             }
 
-            List<ExternalClaim> externalClaimList = getClaimMetadataManagementService().getExternalClaims(
-                    base64DecodeId(dialectId),
-                    ContextLoader.getTenantDomainFromContext());
-            return getExternalClaimResDTOs(externalClaimList);
+            Collection<ExternalClaim> externalClaimList = CLAIM_METADATA_CACHE.getExternalClaims(decodedDialectId,
+                    tenantDomain).values();
+            return getExternalClaimResDTOs(applyListQuery(externalClaimList, EXTERNAL_CLAIM_ATTRIBUTES, limit, offset,
+                    filter, sort));
 
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_RETRIEVING_EXTERNAL_CLAIMS, dialectId);
@@ -524,6 +600,7 @@ public class ServerClaimManagementService {
      */
     public void updateExternalClaim(String dialectId, String claimId, ExternalClaimReqDTO externalClaimReqDTO) {
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
             if (!StringUtils.equals(base64DecodeId(claimId), externalClaimReqDTO.getClaimURI())) {
                 throw handleClaimManagementClientError(ERROR_CODE_EXTERNAL_CLAIM_CONFLICT, CONFLICT,
@@ -531,46 +608,14 @@ public class ServerClaimManagementService {
             }
             getClaimMetadataManagementService().updateExternalClaim(
                     createExternalClaim(dialectId, externalClaimReqDTO),
-                    ContextLoader.getTenantDomainFromContext());
+                    tenantDomain);
+            CLAIM_METADATA_CACHE.invalidateExternalClaims(base64DecodeId(dialectId), tenantDomain);
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e, ERROR_CODE_ERROR_UPDATING_EXTERNAL_CLAIM, claimId, dialectId);
         }
         getResourceId(externalClaimReqDTO.getClaimURI());
     }
 
-    private ClaimDialect extractDialectFromDialectList(String dialectURI, List<ClaimDialect> dialectList) {
-
-        for (ClaimDialect dialect : dialectList) {
-            if (StringUtils.equals(dialect.getClaimDialectURI(), dialectURI)) {
-                return dialect;
-            }
-        }
-
-        return null;
-    }
-
-    private ExternalClaim extractExternalClaimFromClaimList(String claimURI, List<ExternalClaim> claimList) {
-
-        for (ExternalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-
-        return null;
-    }
-
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
-
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
-            }
-        }
-
-        return null;
-    }
-
     private ClaimDialect createClaimDialect(ClaimDialectReqDTO claimDialectReqDTO) {
 
         return new ClaimDialect(claimDialectReqDTO.getDialectURI());
@@ -614,7 +659,7 @@ public class ServerClaimManagementService {
         return claimDialectResDTO;
     }
 
-    private List<ClaimDialectResDTO> getClaimDialectResDTOs(List<ClaimDialect> claimDialectList) {
+    private List<ClaimDialectResDTO> getClaimDialectResDTOs(Collection<ClaimDialect> claimDialectList) {
 
         List<ClaimDialectResDTO> claimDialectResDTOList = new ArrayList<>();
 
@@ -637,7 +682,7 @@ public class ServerClaimManagementService {
         return externalClaimResDTO;
     }
 
-    private List<ExternalClaimResDTO> getExternalClaimResDTOs(List<ExternalClaim> externalClaimList) {
+    private List<ExternalClaimResDTO> getExternalClaimResDTOs(Collection<ExternalClaim> externalClaimList) {
 
         List<ExternalClaimResDTO> externalClaimResDTOList = new ArrayList<>();
 
@@ -652,36 +697,23 @@ public class ServerClaimManagementService {
 
     private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim) {
 
-        LocalClaimResDTO localClaimResDTO = new LocalClaimResDTO();
-
-        localClaimResDTO.setId(base64EncodeId(localClaim.getClaimURI()));
-        localClaimResDTO.setClaimURI(localClaim.getClaimURI());
-        localClaimResDTO.setDialectURI(localClaim.getClaimDialectURI());
-
-        Map<String, String> claimProperties = new HashMap<>(localClaim.getClaimProperties());
+        return getLocalClaimResDTO(localClaim, LOCAL_CLAIM_RESPONSE_ATTRIBUTES.keySet());
+    }
 
-        String description = claimProperties.remove(PROP_DESCRIPTION);
-        localClaimResDTO.setDescription(description);
-        if (description == null) {
-            localClaimResDTO.setDescription(StringUtils.EMPTY);
-        }
+    private LocalClaimResDTO getLocalClaimResDTO(LocalClaim localClaim, Collection<String> responseAttributes) {
 
-        String propDisplayOrder = claimProperties.remove(PROP_DISPLAY_ORDER);
-        if (StringUtils.isNumeric(propDisplayOrder)) {
-            localClaimResDTO.setDisplayOrder(Integer.valueOf(propDisplayOrder));
-        } else {
-            localClaimResDTO.setDisplayOrder(0);
+        LocalClaimResDTO localClaimResDTO = new LocalClaimResDTO();
+        localClaimResDTO.setId(base64EncodeId(localClaim.getClaimURI()));
+        // Attributes which are not requested are left out of the response.
+        localClaimResDTO.setAttributeMapping(null);
+        localClaimResDTO.setProperties(null);
+        for (String attribute : responseAttributes) {
+            LOCAL_CLAIM_RESPONSE_ATTRIBUTES.get(attribute).accept(localClaim, localClaimResDTO);
         }
+        return localClaimResDTO;
+    }
 
-        localClaimResDTO.setDisplayName(claimProperties.remove(PROP_DISPLAY_NAME));
-        localClaimResDTO.setReadOnly(Boolean.valueOf(claimProperties.remove(PROP_READ_ONLY)));
-        String regEx = claimProperties.remove(PROP_REG_EX);
-        localClaimResDTO.setRegEx(regEx);
-        if (regEx == null) {
-            localClaimResDTO.setRegEx(StringUtils.EMPTY);
-        }
-        localClaimResDTO.setRequired(Boolean.valueOf(claimProperties.remove(PROP_REQUIRED)));
-        localClaimResDTO.setSupportedByDefault(Boolean.valueOf(claimProperties.remove(PROP_SUPPORTED_BY_DEFAULT)));
+    private static List<AttributeMappingDTO> getAttributeMappingDTOs(LocalClaim localClaim) {
 
         List<AttributeMappingDTO> attributeMappingDTOs = new ArrayList<>();
         for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
@@ -692,23 +724,47 @@ public class ServerClaimManagementService {
 
             attributeMappingDTOs.add(attributeMappingDTO);
         }
-        localClaimResDTO.setAttributeMapping(attributeMappingDTOs);
-        localClaimResDTO.setProperties(mapToProperties(claimProperties));
-
-        return localClaimResDTO;
+        return attributeMappingDTOs;
     }
 
-    private List<LocalClaimResDTO> getLocalClaimResDTOs(List<LocalClaim> localClaimList) {
+    private List<LocalClaimResDTO> getLocalClaimResDTOs(Collection<LocalClaim> localClaimList,
+                                                        Collection<String> responseAttributes) {
 
         List<LocalClaimResDTO> localClaimResDTOList = new ArrayList<>();
 
         for (LocalClaim localClaim : localClaimList) {
-            localClaimResDTOList.add(getLocalClaimResDTO(localClaim));
+            localClaimResDTOList.add(getLocalClaimResDTO(localClaim, responseAttributes));
         }
 
         return localClaimResDTOList;
     }
 
+    /**
+     * Resolve the local claim attributes to be returned in the response.
+     *
+     * @param attributes Comma separated attributes requested with the 'attributes' parameter.
+     * @return Attributes to be returned. All the attributes are returned if no attribute is requested.
+     */
+    private Collection<String> getLocalClaimResponseAttributes(String attributes) {
+
+        if (StringUtils.isBlank(attributes)) {
+            return LOCAL_CLAIM_RESPONSE_ATTRIBUTES.keySet();
+        }
+        Set<String> responseAttributes = new LinkedHashSet<>();
+        for (String attribute : attributes.split(",")) {
+            String trimmedAttribute = attribute.trim();
+            if (StringUtils.isEmpty(trimmedAttribute) || "id".equals(trimmedAttribute)) {
+                continue;
+            }
+            if (!LOCAL_CLAIM_RESPONSE_ATTRIBUTES.containsKey(trimmedAttribute)) {
+                throw handleClaimManagementClientError(ERROR_CODE_UNSUPPORTED_RESPONSE_ATTRIBUTE, BAD_REQUEST,
+                        trimmedAttribute);
+            }
+            responseAttributes.add(trimmedAttribute);
+        }
+        return responseAttributes;
+    }
+
     private LocalClaim createLocalClaim(LocalClaimReqDTO localClaimReqDTO) {
 
         Map<String, String> claimProperties = new HashMap<>();
@@ -785,11 +841,46 @@ public class ServerClaimManagementService {
 
     private boolean isDialectExists(String dialectId) throws ClaimMetadataException {
 
-        List<ClaimDialect> claimDialectList =
-                getClaimMetadataManagementService().getClaimDialects(ContextLoader.getTenantDomainFromContext());
-        ClaimDialect claimDialect = extractDialectFromDialectList(base64DecodeId(dialectId), claimDialectList);
+        return CLAIM_METADATA_CACHE.getClaimDialects(ContextLoader.getTenantDomainFromContext())
+                .containsKey(base64DecodeId(dialectId));
+    }
+
+    /**
+     * Filter, sort and paginate the given claims or dialects. The response objects are only built for the returned
+     * page by the callers.
+     *
+     * @param items      Claims or dialects in the order returned by the claim metadata management service.
+     * @param attributes Attributes which can be used to filter and sort the items.
+     * @param limit      limit (optional).
+     * @param offset     offset (optional).
+     * @param filter     filter (optional).
+     * @param sort       sort (optional).
+     * @param <T>        Type of the items.
+     * @return Requested page of the items.
+     */
+    private <T> List<T> applyListQuery(Collection<T> items, Map<String, Function<T, String>> attributes,
+                                       Integer limit, Integer offset, String filter, String sort) {
 
-        return claimDialect != null;
+        try {
+            return new InMemoryListQuery<>(attributes).apply(items, limit, offset, filter, sort);
+        } catch (ListQueryException e) {
+            switch (e.getReason()) {
+                case INVALID_PAGINATION:
+                    throw handleClaimManagementClientError(ERROR_CODE_INVALID_PAGINATION_PARAMETERS, BAD_REQUEST);
+                case UNSUPPORTED_FILTER_ATTRIBUTE:
+                    throw handleClaimManagementClientError(ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE, BAD_REQUEST,
+                            e.getValue());
+                case UNSUPPORTED_FILTER_OPERATION:
+                    throw handleClaimManagementClientError(ERROR_CODE_UNSUPPORTED_FILTER_OPERATION, BAD_REQUEST,
+                            e.getValue());
+                case UNSUPPORTED_SORT:
+                    throw handleClaimManagementClientError(ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE, BAD_REQUEST,
+                            e.getValue());
+                default:
+                    throw handleClaimManagementClientError(ERROR_CODE_INVALID_FILTER_FORMAT, BAD_REQUEST,
+                            e.getValue());
+            }
+        }
     }
 
     private APIError handleClaimManagementException(ClaimMetadataException e, Constant.ErrorMessage errorEnum,
@@ -845,11 +936,6 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(Integer limit, Integer offset, String filter, String sort) {
-
-        handleNotImplementedCapabilities(null, limit, offset, filter, sort);
-    }
-
     private APIError handleException(Exception e, Constant.ErrorMessage errorEnum, String... data) {
 
         ErrorResponse errorResponse = getErrorBuilder(errorEnum, data)
@@ -860,31 +946,6 @@ public class ServerClaimManagementService {
         return new APIError(status, errorResponse);
     }
 
-    private void handleNotImplementedCapabilities(String attributes, Integer limit, Integer offset, String filter,
-                                                  String sort) {
-
-        Constant.ErrorMessage errorEnum = null;
-
-        if (limit != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        } else if (attributes != null) {
-            errorEnum = ERROR_CODE_ATTRIBUTE_FILTERING_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-
-            throw new APIError(status, errorResponse);
-        }
-    }
-
     private ErrorResponse.Builder getErrorBuilder(Constant.ErrorMessage errorEnum, String... data) {
 
         return new ErrorResponse.Builder()
@@ -936,7 +997,7 @@ public class ServerClaimManagementService {
         return propMap;
     }
 
-    private List<PropertyDTO> mapToProperties(Map<String, String> propMap) {
+    private static List<PropertyDTO> mapToProperties(Map<String, String> propMap) {
 
         List<PropertyDTO> propList = new ArrayList<>();
 
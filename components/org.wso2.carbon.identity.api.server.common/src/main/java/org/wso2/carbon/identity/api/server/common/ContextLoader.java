@@ -21,14 +21,18 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.core.ServiceURL;
 import org.wso2.carbon.identity.core.ServiceURLBuilder;
 import org.wso2.carbon.identity.core.URLBuilderException;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.ws.rs.core.Response;
 
@@ -45,6 +49,13 @@ public class ContextLoader {
 
     private static final Log LOG = LogFactory.getLog(ContextLoader.class);
 
+    private static final String ABSOLUTE_URL = "absolute";
+    private static final String RELATIVE_URL = "relative";
+    private static final long URL_PREFIX_CACHE_TIME_TO_LIVE_MILLIS = 60000L;
+    private static final int URL_PREFIX_CACHE_MAX_ENTRIES = 1000;
+    private static final ExpiringCache<List<String>, String> URL_PREFIX_CACHE = new ExpiringCache<>(
+            "ServerAPIURLPrefixes", URL_PREFIX_CACHE_TIME_TO_LIVE_MILLIS, URL_PREFIX_CACHE_MAX_ENTRIES);
+
     /**
      * Retrieves loaded tenant domain from carbon context.
      *
@@ -88,16 +99,14 @@ public class ContextLoader {
      */
     public static URI buildURIForBody(String endpoint) {
 
-        String url;
-        String context = getContext(endpoint);
-
+        String urlPrefix;
         try {
-            url = ServiceURLBuilder.create().addPath(context).build().getRelativePublicURL();
+            urlPrefix = getURLPrefix(false);
         } catch (URLBuilderException e) {
             String errorDescription = "Server encountered an error while building URL for response body.";
             throw buildInternalServerError(e, errorDescription);
         }
-        return URI.create(url);
+        return URI.create(urlPrefix + normalizeEndpoint(endpoint));
     }
 
     /**
@@ -110,17 +119,45 @@ public class ContextLoader {
      */
     public static URI buildURIForHeader(String endpoint) {
 
-        URI loc;
-        String context = getContext(endpoint);
-
+        String urlPrefix;
         try {
-            String url = ServiceURLBuilder.create().addPath(context).build().getAbsolutePublicURL();
-            loc = URI.create(url);
+            urlPrefix = getURLPrefix(true);
         } catch (URLBuilderException e) {
             String errorDescription = "Server encountered an error while building URL for response header.";
             throw buildInternalServerError(e, errorDescription);
         }
-        return loc;
+        return URI.create(urlPrefix + normalizeEndpoint(endpoint));
+    }
+
+    /**
+     * Retrieves the URL of the server API context, which is prepended to the endpoints. The URL only depends on the
+     * server configuration and the tenant or organization of the request, hence it is built once and shared by the
+     * links of a response, as well as by the subsequent requests of the tenant or organization.
+     *
+     * @param absolute Whether the absolute public URL or the relative public URL is required.
+     * @return URL of the server API context, without a trailing slash.
+     * @throws URLBuilderException If an error occurred while building the URL.
+     */
+    private static String getURLPrefix(boolean absolute) throws URLBuilderException {
+
+        List<String> cacheKey = Arrays.asList(absolute ? ABSOLUTE_URL : RELATIVE_URL, getTenantDomainFromContext(),
+                getOrganizationIdFromContext());
+        return URL_PREFIX_CACHE.get(cacheKey, () -> {
+            ServiceURL serviceURL = ServiceURLBuilder.create().addPath(getContext(StringUtils.EMPTY)).build();
+            return absolute ? serviceURL.getAbsolutePublicURL() : serviceURL.getRelativePublicURL();
+        });
+    }
+
+    /**
+     * The ServiceURLBuilder drops a trailing slash of the path. The same is done here so that the URLs remain the
+     * same as the ones built for the complete path.
+     *
+     * @param endpoint Relative endpoint path.
+     * @return Endpoint path without a trailing slash.
+     */
+    private static String normalizeEndpoint(String endpoint) {
+
+        return StringUtils.removeEnd(StringUtils.defaultString(endpoint), "/");
     }
 
     /**
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor which runs the submitted tasks within the carbon context of the submitting request thread.
+ * When the pool and its queue are saturated, the task is either run on the caller's thread, which suits tasks the
+ * caller waits for anyway, or rejected, which suits tasks the caller must not be held up by.
+ */
+public class ContextPropagatingExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Creates a bounded executor which runs the tasks on the caller's thread when saturated.
+     *
+     * @param name      Name used as the prefix of the worker threads.
+     * @param poolSize  Maximum number of worker threads.
+     * @param queueSize Maximum number of tasks waiting for a worker.
+     */
+    public ContextPropagatingExecutor(String name, int poolSize, int queueSize) {
+
+        this(name, poolSize, queueSize, true);
+    }
+
+    /**
+     * Creates a bounded executor.
+     *
+     * @param name              Name used as the prefix of the worker threads.
+     * @param poolSize          Maximum number of worker threads.
+     * @param queueSize         Maximum number of tasks waiting for a worker.
+     * @param runOnCallerIfFull Whether the tasks are run on the caller's thread when saturated, instead of being
+     *                          rejected with a {@link RejectedExecutionException}.
+     */
+    public ContextPropagatingExecutor(String name, int poolSize, int queueSize, boolean runOnCallerIfFull) {
+
+        executor = new ThreadPoolExecutor(poolSize, poolSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new NamedDaemonThreadFactory(name),
+                runOnCallerIfFull ? new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Submit a task to be run with the tenant, user and thread local identity properties of the calling thread.
+     *
+     * @param task Task to be run.
+     * @param <T>  Result type of the task.
+     * @return Future of the task result.
+     * @throws RejectedExecutionException If the executor is saturated and does not run the tasks on the caller's
+     *                                    thread.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+
+        return executor.submit(withCallerContext(task));
+    }
+
+    /**
+     * Stop the executor when its owner is undeployed. Running tasks are interrupted, and queued or later submitted
+     * tasks are not run.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+    }
+
+    /**
+     * Wrap a task to be run with the tenant, user and thread local identity properties of the calling thread, so that
+     * it can be run later on a thread of another executor, such as a scheduled executor.
+     *
+     * @param task Task to be run.
+     * @param <T>  Result type of the task.
+     * @return Task which runs the given task within the context of the calling thread.
+     */
+    public static <T> Callable<T> withCallerContext(Callable<T> task) {
+
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        int tenantId = carbonContext.getTenantId();
+        String tenantDomain = carbonContext.getTenantDomain();
+        String username = carbonContext.getUsername();
+        String organizationId = carbonContext.getOrganizationId();
+        Map<String, Object> threadLocalProperties = new HashMap<>(IdentityUtil.threadLocalProperties.get());
+
+        return () -> {
+            Map<String, Object> previousThreadLocalProperties = IdentityUtil.threadLocalProperties.get();
+            try {
+                PrivilegedCarbonContext.startTenantFlow();
+                PrivilegedCarbonContext context = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+                context.setTenantId(tenantId);
+                context.setTenantDomain(tenantDomain);
+                context.setUsername(username);
+                context.setOrganizationId(organizationId);
+                IdentityUtil.threadLocalProperties.set(new HashMap<>(threadLocalProperties));
+                return task.call();
+            } finally {
+                IdentityUtil.threadLocalProperties.set(previousThreadLocalProperties);
+                PrivilegedCarbonContext.endTenantFlow();
+            }
+        };
+    }
+
+    /**
+     * Thread factory creating daemon threads with a common name prefix.
+     */
+    public static class NamedDaemonThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        /**
+         * @param name Name used as the prefix of the threads.
+         */
+        public NamedDaemonThreadFactory(String name) {
+
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
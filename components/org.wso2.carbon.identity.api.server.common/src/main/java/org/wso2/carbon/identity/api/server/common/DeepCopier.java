@@ -0,0 +1,371 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.security.cert.Certificate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Structural deep copier of model object graphs, such as the IdentityProvider and ServiceProvider models which are
+ * modified on a copy before being passed to the backend.
+ *
+ * Unlike copying through a JSON round trip, no intermediate representation of the graph is built and immutable values
+ * such as strings are shared with the copy. Arrays, collections, maps, dates and calendars are copied, and other
+ * objects are instantiated with their no-argument constructor and have their fields copied recursively. Static and
+ * transient fields are not copied, in line with the JSON based copy.
+ *
+ * Only the JDK types known to be immutable, such as the boxed primitives, the java.time values, URIs and
+ * certificates, are shared with the copy. Any other JDK type may hold mutable state which cannot be copied through
+ * its fields, so a graph holding one is not copied and {@link #copyOrSerialize(Object, Class)} falls back to the JSON
+ * round trip instead. Whether a class can be copied is resolved once per class, as is whether a graph of a given type
+ * has to be copied through JSON.
+ */
+public final class DeepCopier {
+
+    private static final Log log = LogFactory.getLog(DeepCopier.class);
+
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+            BigInteger.class, BigDecimal.class, UUID.class, Locale.class, Class.class, Currency.class, URI.class,
+            URL.class, File.class, Pattern.class));
+    // Abstract JDK types whose implementations are immutable, and are commonly provided outside the java packages.
+    private static final List<Class<?>> IMMUTABLE_SUPERTYPES = Arrays.asList(Certificate.class, Path.class);
+    private static final String JAVA_TIME_PACKAGE = "java.time.";
+    private static final Gson GSON = new Gson();
+
+    private static final Map<Class<?>, ClassLayout> CLASS_LAYOUTS = new ConcurrentHashMap<>();
+    // Types of the graphs which could not be copied structurally, and are copied through JSON instead.
+    private static final Set<Class<?>> SERIALIZED_TYPES = ConcurrentHashMap.newKeySet();
+
+    private DeepCopier() {
+
+    }
+
+    /**
+     * Create a deep copy of the given object.
+     *
+     * @param source Object to be copied.
+     * @param <T>    Type of the object.
+     * @return Copy of the object, or null if the given object is null.
+     * @throws CopyException If an object in the graph cannot be copied.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T source) {
+
+        return (T) copy(source, new IdentityHashMap<>());
+    }
+
+    /**
+     * Create a deep copy of the given object, through a JSON round trip if the object cannot be copied structurally.
+     * Once a graph of the given type could not be copied structurally, further graphs of the type are copied through
+     * JSON without being attempted again.
+     *
+     * @param source Object to be copied.
+     * @param type   Type of the object.
+     * @param <T>    Type of the object.
+     * @return Copy of the object, or null if the given object is null.
+     * @throws CopyException If the object cannot be copied through JSON either.
+     */
+    public static <T> T copyOrSerialize(T source, Class<T> type) {
+
+        if (source == null) {
+            return null;
+        }
+        if (!SERIALIZED_TYPES.contains(type)) {
+            try {
+                return copy(source);
+            } catch (CopyException e) {
+                SERIALIZED_TYPES.add(type);
+                log.warn("Unable to copy " + type.getName() + " structurally. Graphs of the type are copied " +
+                        "through JSON from now on. " + e.getMessage());
+                if (log.isDebugEnabled()) {
+                    log.debug("Error while copying " + type.getName() + " structurally.", e);
+                }
+            }
+        }
+        try {
+            return GSON.fromJson(GSON.toJson(source), type);
+        } catch (JsonParseException e) {
+            throw new CopyException("Unable to copy " + type.getName() + " through JSON.", e);
+        }
+    }
+
+    private static Object copy(Object source, Map<Object, Object> copies) {
+
+        if (source == null || isShared(source)) {
+            return source;
+        }
+        // Objects referred from multiple places of the graph are copied once, which also handles cycles.
+        Object copy = copies.get(source);
+        if (copy != null) {
+            return copy;
+        }
+
+        if (source.getClass().isArray()) {
+            return copyArray(source, copies);
+        }
+        if (source instanceof Collection) {
+            return copyCollection((Collection<?>) source, copies);
+        }
+        if (source instanceof Map) {
+            return copyMap((Map<?, ?>) source, copies);
+        }
+        if (source instanceof Date) {
+            copy = ((Date) source).clone();
+            copies.put(source, copy);
+            return copy;
+        }
+        if (source instanceof Calendar) {
+            copy = ((Calendar) source).clone();
+            copies.put(source, copy);
+            return copy;
+        }
+        return copyObject(source, copies);
+    }
+
+    private static boolean isShared(Object source) {
+
+        Class<?> type = source.getClass();
+        if (IMMUTABLE_TYPES.contains(type) || source instanceof Enum) {
+            return true;
+        }
+        for (Class<?> immutableSupertype : IMMUTABLE_SUPERTYPES) {
+            if (immutableSupertype.isInstance(source)) {
+                return true;
+            }
+        }
+        // The value types of the java.time package are immutable, unlike some types of its sub packages such as
+        // the formatter builder.
+        String className = type.getName();
+        return className.startsWith(JAVA_TIME_PACKAGE) && className.indexOf('.', JAVA_TIME_PACKAGE.length()) < 0;
+    }
+
+    private static boolean isPlatformType(Class<?> type) {
+
+        String className = type.getName();
+        return className.startsWith("java.") || className.startsWith("javax.") || className.startsWith("sun.") ||
+                className.startsWith("jdk.");
+    }
+
+    private static Object copyArray(Object source, Map<Object, Object> copies) {
+
+        int length = Array.getLength(source);
+        Class<?> componentType = source.getClass().getComponentType();
+        Object copy = Array.newInstance(componentType, length);
+        copies.put(source, copy);
+        if (componentType.isPrimitive()) {
+            System.arraycopy(source, 0, copy, 0, length);
+        } else {
+            Object[] sourceArray = (Object[]) source;
+            Object[] copyArray = (Object[]) copy;
+            for (int i = 0; i < length; i++) {
+                copyArray[i] = copy(sourceArray[i], copies);
+            }
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object copyCollection(Collection<?> source, Map<Object, Object> copies) {
+
+        if (source instanceof EnumSet) {
+            Object copy = EnumSet.copyOf((EnumSet) source);
+            copies.put(source, copy);
+            return copy;
+        }
+        Collection<Object> copy;
+        if (source instanceof SortedSet) {
+            copy = new TreeSet<>(((SortedSet) source).comparator());
+        } else {
+            copy = (Collection<Object>) newInstanceOrNull(source.getClass());
+            if (copy == null) {
+                // Unmodifiable and other collections without a default constructor are copied into a general purpose
+                // collection of the same kind.
+                if (source instanceof Set) {
+                    copy = new LinkedHashSet<>();
+                } else if (source instanceof Queue && !(source instanceof List)) {
+                    copy = new ArrayDeque<>();
+                } else {
+                    copy = new ArrayList<>();
+                }
+            }
+        }
+        copies.put(source, copy);
+        for (Object element : source) {
+            copy.add(copy(element, copies));
+        }
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object copyMap(Map<?, ?> source, Map<Object, Object> copies) {
+
+        Map<Object, Object> copy;
+        if (source instanceof EnumMap) {
+            copy = new EnumMap((EnumMap) source);
+        } else if (source instanceof SortedMap) {
+            copy = new TreeMap<>(((SortedMap) source).comparator());
+        } else {
+            copy = (Map<Object, Object>) newInstanceOrNull(source.getClass());
+            if (copy == null) {
+                copy = new LinkedHashMap<>();
+            }
+        }
+        copies.put(source, copy);
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            copy.put(copy(entry.getKey(), copies), copy(entry.getValue(), copies));
+        }
+        return copy;
+    }
+
+    private static Object newInstanceOrNull(Class<?> type) {
+
+        try {
+            return type.getConstructor().newInstance();
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException |
+                InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private static Object copyObject(Object source, Map<Object, Object> copies) {
+
+        ClassLayout layout = CLASS_LAYOUTS.computeIfAbsent(source.getClass(), ClassLayout::new);
+        if (layout.failure != null) {
+            throw new CopyException(layout.failure.getMessage(), layout.failure.getCause());
+        }
+        Object copy = layout.newInstance();
+        copies.put(source, copy);
+        for (Field field : layout.fields) {
+            try {
+                Object value = field.get(source);
+                field.set(copy, field.getType().isPrimitive() ? value : copy(value, copies));
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                throw new CopyException("Unable to copy the field: " + field.getName() + " of " +
+                        source.getClass().getName(), e);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Constructor and copyable fields of a class, or the reason the class cannot be copied, resolved once per class.
+     */
+    private static class ClassLayout {
+
+        private final Class<?> type;
+        private final List<Field> fields = new ArrayList<>();
+        private Constructor<?> constructor;
+        private CopyException failure;
+
+        ClassLayout(Class<?> type) {
+
+            this.type = type;
+            if (isPlatformType(type)) {
+                failure = new CopyException(type.getName() + " cannot be copied as it is a JDK type which is not " +
+                        "known to be immutable.");
+                return;
+            }
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (NoSuchMethodException | SecurityException e) {
+                failure = new CopyException(type.getName() + " cannot be copied as it does not have an accessible " +
+                        "no-argument constructor.", e);
+                return;
+            }
+            for (Class<?> current = type; current != null && current != Object.class;
+                 current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+
+        Object newInstance() {
+
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new CopyException("Unable to instantiate " + type.getName() + " while copying.", e);
+            }
+        }
+    }
+
+    /**
+     * Thrown when an object graph cannot be copied.
+     */
+    public static class CopyException extends RuntimeException {
+
+        public CopyException(String message) {
+
+            super(message);
+        }
+
+        public CopyException(String message, Throwable cause) {
+
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.INVALID_REQUEST;
+import static org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants.Error.UNEXPECTED_SERVER_ERROR;
+
+/**
+ * Cursor based pagination of listing endpoints.
+ *
+ * A cursor is an opaque token marking a boundary in the result set. The 'after' cursor of a page points to the first
+ * result of the next page, and the 'before' cursor points to the first result of the current page, so that the page
+ * preceding it can be requested. Clients should only use cursors received in the pagination links, which carry the
+ * filter, sort order and other query parameters of the listing along with the cursor.
+ */
+public class PaginationCursor {
+
+    private static final Log LOG = LogFactory.getLog(PaginationCursor.class);
+
+    public static final String FILTER_PARAM = "filter";
+    public static final String SORT_BY_PARAM = "sortBy";
+    public static final String SORT_ORDER_PARAM = "sortOrder";
+
+    private static final String CURSOR_PREFIX = "v1:";
+    private static final String PAGE_LINK_REL_NEXT = "next";
+    private static final String PAGE_LINK_REL_PREVIOUS = "previous";
+    private static final String AFTER_LINK_FORMAT = "%s?after=%s&limit=%d";
+    private static final String BEFORE_LINK_FORMAT = "%s?before=%s&limit=%d";
+    private static final String QUERY_PARAM_FORMAT = "&%s=%s";
+
+    private final int offset;
+    private final int limit;
+
+    private PaginationCursor(int offset, int limit) {
+
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    /**
+     * Resolve the page requested with the 'after' or 'before' cursor.
+     *
+     * @param after  Cursor of the boundary after which the page starts.
+     * @param before Cursor of the boundary before which the page ends.
+     * @param limit  Maximum number of results in the page.
+     * @return Requested page, or null if no cursor is given.
+     */
+    public static PaginationCursor resolve(String after, String before, int limit) {
+
+        if (StringUtils.isNotBlank(after) && StringUtils.isNotBlank(before)) {
+            throw buildBadRequestError("Only one of the 'after' and 'before' cursors can be used in a request.");
+        }
+        if (StringUtils.isNotBlank(after)) {
+            return new PaginationCursor(decode(after), limit);
+        }
+        if (StringUtils.isNotBlank(before)) {
+            int boundary = decode(before);
+            // Nothing precedes the start of the results. Hence the first page is served.
+            return new PaginationCursor(Math.max(0, boundary - limit), boundary > 0 ? Math.min(limit, boundary) :
+                    limit);
+        }
+        return null;
+    }
+
+    /**
+     * @return Offset of the requested page.
+     */
+    public int getOffset() {
+
+        return offset;
+    }
+
+    /**
+     * @return Limit of the requested page. A 'before' page ending near the start of the results can be smaller than
+     * the requested limit.
+     */
+    public int getLimit() {
+
+        return limit;
+    }
+
+    /**
+     * Encode the boundary at the given position of the result set.
+     *
+     * @param position Position of the first result after the boundary.
+     * @return Opaque cursor.
+     */
+    public static String encode(int position) {
+
+        return Util.base64URLEncode(CURSOR_PREFIX + position);
+    }
+
+    /**
+     * Build 'next' and 'previous' links with cursors.
+     *
+     * @param limit                Requested limit, carried to the 'limit' parameter of the links.
+     * @param pageLimit            Limit of the current page, which is smaller than the requested limit for a
+     *                             'before' page ending near the start of the results.
+     * @param offset               Offset of the current page.
+     * @param resultsInCurrentPage Number of results in the current page.
+     * @param totalResults         Total number of results, or null if it is unknown. When unknown, a full page is
+     *                             assumed to be followed by another page.
+     * @param servicePath          API path of the listing endpoint including the version. E.g: /v1/applications
+     * @param queryParams          Query parameters of the listing other than the cursors and the limit, such as the
+     *                             filter and the sort order, to be carried to the links. Blank values are left out.
+     * @return A map containing pagination link key-value pairs.
+     */
+    public static Map<String, String> buildLinks(int limit, int pageLimit, int offset, int resultsInCurrentPage,
+                                                 Integer totalResults, String servicePath,
+                                                 Map<String, String> queryParams) {
+
+        Map<String, String> links = new LinkedHashMap<>();
+        if (hasNextPage(pageLimit, offset, resultsInCurrentPage, totalResults)) {
+            links.put(PAGE_LINK_REL_NEXT, buildLink(AFTER_LINK_FORMAT, servicePath,
+                    encode(offset + resultsInCurrentPage), limit, queryParams));
+        }
+        if (hasPreviousPage(offset)) {
+            links.put(PAGE_LINK_REL_PREVIOUS, buildLink(BEFORE_LINK_FORMAT, servicePath, encode(offset), limit,
+                    queryParams));
+        }
+        return links;
+    }
+
+    /**
+     * Check whether the current page is followed by another page. Without the total number of results, a page filled
+     * up to its own limit is assumed to be followed by another page.
+     */
+    static boolean hasNextPage(int pageLimit, int offset, int resultsInCurrentPage, Integer totalResults) {
+
+        if (resultsInCurrentPage <= 0) {
+            return false;
+        }
+        return totalResults != null ? offset + resultsInCurrentPage < totalResults : resultsInCurrentPage >= pageLimit;
+    }
+
+    /**
+     * Check whether the current page is preceded by another page.
+     */
+    static boolean hasPreviousPage(int offset) {
+
+        return offset > 0;
+    }
+
+    private static String buildLink(String format, String servicePath, String cursor, int limit,
+                                    Map<String, String> queryParams) {
+
+        StringBuilder link = new StringBuilder(String.format(format, servicePath, cursor, limit));
+        if (queryParams == null) {
+            queryParams = Collections.emptyMap();
+        }
+        for (Map.Entry<String, String> queryParam : queryParams.entrySet()) {
+            if (StringUtils.isBlank(queryParam.getValue())) {
+                continue;
+            }
+            try {
+                link.append(String.format(QUERY_PARAM_FORMAT, queryParam.getKey(),
+                        URLEncoder.encode(queryParam.getValue(), StandardCharsets.UTF_8.name())));
+            } catch (UnsupportedEncodingException e) {
+                String description = "Unable to url-encode " + queryParam.getKey() + ": " + queryParam.getValue();
+                ErrorResponse errorResponse = new ErrorResponse.Builder()
+                        .withCode(UNEXPECTED_SERVER_ERROR.getCode())
+                        .withMessage("Error while building response.")
+                        .withDescription(description)
+                        .build(LOG, e, description);
+                throw new APIError(Response.Status.INTERNAL_SERVER_ERROR, errorResponse);
+            }
+        }
+        return ContextLoader.buildURIForBody(link.toString()).toString();
+    }
+
+    private static int decode(String cursor) {
+
+        try {
+            String decodedCursor = Util.base64URLDecode(cursor);
+            if (decodedCursor.startsWith(CURSOR_PREFIX)) {
+                int position = Integer.parseInt(decodedCursor.substring(CURSOR_PREFIX.length()));
+                if (position >= 0) {
+                    return position;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Unable to decode the pagination cursor: " + cursor, e);
+            }
+        }
+        throw buildBadRequestError("Invalid pagination cursor: " + cursor);
+    }
+
+    private static APIError buildBadRequestError(String description) {
+
+        ErrorResponse errorResponse = new ErrorResponse.Builder()
+                .withCode(INVALID_REQUEST.getCode())
+                .withMessage("Invalid Request.")
+                .withDescription(description)
+                .build(LOG, description);
+        return new APIError(Response.Status.BAD_REQUEST, errorResponse);
+    }
+}
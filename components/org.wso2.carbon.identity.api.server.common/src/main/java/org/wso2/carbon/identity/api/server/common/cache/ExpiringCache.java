@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Node local cache whose entries expire after a fixed time to live.
+ *
+ * Entries are not invalidated across the nodes of a cluster, so changes made through other nodes, or outside the
+ * APIs which invalidate a cache, are picked up once the entries expire. The statistics of each cache are exposed
+ * over JMX under {@link #OBJECT_NAME_PREFIX}.
+ *
+ * @param <K> Type of the cache key.
+ * @param <V> Type of the cached value.
+ */
+public class ExpiringCache<K, V> implements ExpiringCacheMXBean {
+
+    private static final Log LOG = LogFactory.getLog(ExpiringCache.class);
+
+    public static final String OBJECT_NAME_PREFIX = "org.wso2.carbon.identity.api.server:type=ExpiringCache,name=";
+
+    private final String name;
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    // Incremented on each invalidation, so that a value loaded before an invalidation is not cached.
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates a cache.
+     *
+     * @param name             Name of the cache, used in logs and in the JMX object name of the cache.
+     * @param timeToLiveMillis Time in milliseconds an entry is served after it was added.
+     * @param maxEntries       Maximum number of entries held by the cache.
+     */
+    public ExpiringCache(String name, long timeToLiveMillis, int maxEntries) {
+
+        this.name = name;
+        this.timeToLiveMillis = timeToLiveMillis;
+        this.maxEntries = maxEntries;
+        registerMBean();
+    }
+
+    @Override
+    public String getName() {
+
+        return name;
+    }
+
+    @Override
+    public int getSize() {
+
+        return entries.size();
+    }
+
+    /**
+     * Get the value cached against the given key.
+     *
+     * @param key Cache key.
+     * @return Cached value or null if there is no live entry for the key.
+     */
+    public V get(K key) {
+
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            if (entry != null) {
+                entries.remove(key, entry);
+            }
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    /**
+     * Get the value cached against the given key, loading and caching it when there is no live entry.
+     *
+     * The loaded value is returned but not cached if the cache was invalidated while it was being loaded, as the
+     * value may have been read before the change which caused the invalidation.
+     *
+     * @param key    Cache key.
+     * @param loader Loader of the value. Null values are returned but not cached.
+     * @param <E>    Type of the exception thrown by the loader.
+     * @return Cached or loaded value.
+     * @throws E If the loader failed.
+     */
+    public <E extends Exception> V get(K key, Loader<V, E> loader) throws E {
+
+        V value = get(key);
+        if (value == null) {
+            long loadGeneration = generation.get();
+            value = loader.load();
+            if (value != null && loadGeneration == generation.get()) {
+                Entry<V> entry = addEntry(key, value);
+                // Drop the entry if the cache was invalidated while it was being added.
+                if (loadGeneration != generation.get()) {
+                    entries.remove(key, entry);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Cache the given value against the given key.
+     *
+     * @param key   Cache key.
+     * @param value Value to be cached.
+     */
+    public void put(K key, V value) {
+
+        addEntry(key, value);
+    }
+
+    /**
+     * Remove the entry of the given key.
+     *
+     * @param key Cache key.
+     */
+    public void invalidate(K key) {
+
+        generation.incrementAndGet();
+        entries.remove(key);
+    }
+
+    /**
+     * Remove the entries whose keys match the given condition.
+     *
+     * @param condition Condition on the cache key.
+     */
+    public void invalidateIf(Predicate<K> condition) {
+
+        generation.incrementAndGet();
+        entries.keySet().removeIf(condition);
+    }
+
+    @Override
+    public void clear() {
+
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    @Override
+    public long getHitCount() {
+
+        return hitCount.get();
+    }
+
+    @Override
+    public long getMissCount() {
+
+        return missCount.get();
+    }
+
+    /**
+     * Register the cache with the platform MBean server, replacing a cache of the same name registered by a
+     * previous deployment of the API.
+     */
+    private void registerMBean() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+            try {
+                mBeanServer.registerMBean(this, objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                mBeanServer.unregisterMBean(objectName);
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            LOG.warn("Error while registering the statistics of the cache: " + name + " over JMX.", e);
+        }
+    }
+
+    private Entry<V> addEntry(K key, V value) {
+
+        if (entries.size() >= maxEntries) {
+            evict();
+        }
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + timeToLiveMillis);
+        entries.put(key, entry);
+        return entry;
+    }
+
+    private void evict() {
+
+        entries.values().removeIf(Entry::isExpired);
+        // Drop arbitrary entries if the cache is still full after removing the expired ones.
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() >= maxEntries && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Evicted entries of the cache: " + name + ". Hits: " + hitCount.get() + ", misses: " +
+                    missCount.get());
+        }
+    }
+
+    /**
+     * Loads a value to be cached.
+     *
+     * @param <V> Type of the value.
+     * @param <E> Type of the exception thrown while loading.
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+
+        V load() throws E;
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiryTime;
+
+        Entry(V value, long expiryTime) {
+
+            this.value = value;
+            this.expiryTime = expiryTime;
+        }
+
+        boolean isExpired() {
+
+            return System.currentTimeMillis() > expiryTime;
+        }
+    }
+}
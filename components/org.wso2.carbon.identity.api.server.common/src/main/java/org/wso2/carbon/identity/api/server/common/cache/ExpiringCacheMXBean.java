@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+/**
+ * Management interface of an {@link ExpiringCache}, through which its statistics are exposed over JMX.
+ */
+public interface ExpiringCacheMXBean {
+
+    /**
+     * @return Name of the cache.
+     */
+    String getName();
+
+    /**
+     * @return Number of entries held by the cache, including the expired entries not removed yet.
+     */
+    int getSize();
+
+    /**
+     * @return Number of lookups served from the cache.
+     */
+    long getHitCount();
+
+    /**
+     * @return Number of lookups which did not find a live entry.
+     */
+    long getMissCount();
+
+    /**
+     * Remove all the entries.
+     */
+    void clear();
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Notifies the API layer caches of the different APIs when a resource they derive their entries from is changed
+ * through one of the APIs, so that the entries of the tenant can be invalidated.
+ *
+ * Like the caches, notifications are node local.
+ */
+public final class TenantInvalidationTopic {
+
+    private static final Log LOG = LogFactory.getLog(TenantInvalidationTopic.class);
+
+    /**
+     * Published when the local claims of a tenant, including their attribute mappings, are changed.
+     */
+    public static final TenantInvalidationTopic LOCAL_CLAIMS = new TenantInvalidationTopic("LocalClaims");
+
+    /**
+     * Published when the resident identity provider of a tenant, including the governance connector properties
+     * stored in it, is changed.
+     */
+    public static final TenantInvalidationTopic RESIDENT_IDP = new TenantInvalidationTopic("ResidentIdP");
+
+    /**
+     * Published when the resident application of a tenant, including its inbound and outbound provisioning
+     * configurations, is changed.
+     */
+    public static final TenantInvalidationTopic RESIDENT_APPLICATION =
+            new TenantInvalidationTopic("ResidentApplication");
+
+    /**
+     * Published when a certificate of a tenant is changed through the identity provider or the application update
+     * paths.
+     */
+    public static final TenantInvalidationTopic CERTIFICATES = new TenantInvalidationTopic("Certificates");
+
+    private final String name;
+    private final List<Consumer<String>> subscribers = new CopyOnWriteArrayList<>();
+
+    private TenantInvalidationTopic(String name) {
+
+        this.name = name;
+    }
+
+    /**
+     * Subscribe to the changes of the topic.
+     *
+     * @param subscriber Invalidates the entries of the tenant domain it is called with.
+     */
+    public void subscribe(Consumer<String> subscriber) {
+
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Notify the subscribers of a change in the given tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void publish(String tenantDomain) {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Invalidating the caches subscribed to: " + name + " for tenant: " + tenantDomain);
+        }
+        for (Consumer<String> subscriber : subscribers) {
+            subscriber.accept(tenantDomain);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.patch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies the operations of a patch request to a resource by dispatching each operation to the handler registered
+ * for its operation type and path.
+ *
+ * Paths are given as regular expressions which are compiled once, when the dispatcher is built. Paths without any
+ * regular expression constructs are looked up directly instead of being matched. All the operations are applied in a
+ * single pass, and the errors of all the invalid operations are reported together once the pass completes. Since the
+ * valid operations are still applied, the patched resource should be discarded when the patch is rejected.
+ *
+ * @param <T> Type of the patched resource.
+ * @param <P> Type of the patch operations.
+ */
+public class PatchDispatcher<T, P> {
+
+    private static final String UNSUPPORTED_OPERATION = "Unsupported patch operation";
+    private static final Pattern LITERAL_PATH = Pattern.compile("\\^?([\\w/-]*)\\$?");
+
+    private final Function<P, String> operationResolver;
+    private final Function<P, String> pathResolver;
+    private final Map<String, Map<String, Handler<T, P>>> literalRoutes;
+    private final Map<String, List<PatternRoute<T, P>>> patternRoutes;
+
+    private PatchDispatcher(Builder<T, P> builder) {
+
+        this.operationResolver = builder.operationResolver;
+        this.pathResolver = builder.pathResolver;
+        this.literalRoutes = builder.literalRoutes;
+        this.patternRoutes = builder.patternRoutes;
+    }
+
+    /**
+     * Create a builder of a dispatcher for the given type of patch operations.
+     *
+     * @param operationResolver Resolves the operation type, such as 'ADD' or 'REPLACE', of a patch operation.
+     * @param pathResolver      Resolves the path of a patch operation.
+     * @param <T>               Type of the patched resource.
+     * @param <P>               Type of the patch operations.
+     * @return Dispatcher builder.
+     */
+    public static <T, P> Builder<T, P> builder(Function<P, String> operationResolver,
+                                               Function<P, String> pathResolver) {
+
+        return new Builder<>(operationResolver, pathResolver);
+    }
+
+    /**
+     * Apply the patch operations to the resource, in the given order.
+     *
+     * @param resource   Resource to patch.
+     * @param operations Patch operations.
+     * @throws PatchException If any of the operations is unsupported or invalid, with the errors of all of them.
+     */
+    public void apply(T resource, List<P> operations) throws PatchException {
+
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            P operation = operations.get(i);
+            String operationType = operationResolver.apply(operation);
+            String path = pathResolver.apply(operation);
+            try {
+                dispatch(resource, operation, operationType, path);
+            } catch (PatchException e) {
+                for (String error : e.getErrors()) {
+                    errors.add("Operation " + i + " (" + operationType + " " + path + "): " + error);
+                }
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new PatchException(errors);
+        }
+    }
+
+    private void dispatch(T resource, P operation, String operationType, String path) throws PatchException {
+
+        if (operationType == null || path == null) {
+            throw new PatchException(UNSUPPORTED_OPERATION);
+        }
+        String operationKey = operationType.toUpperCase(Locale.ENGLISH);
+        Handler<T, P> handler = literalRoutes.getOrDefault(operationKey, Collections.emptyMap()).get(path);
+        if (handler != null) {
+            handler.apply(resource, operation, Collections.emptyList());
+            return;
+        }
+        for (PatternRoute<T, P> route : patternRoutes.getOrDefault(operationKey, Collections.emptyList())) {
+            Matcher matcher = route.pattern.matcher(path);
+            if (matcher.matches()) {
+                List<String> pathParameters = new ArrayList<>(matcher.groupCount());
+                for (int group = 1; group <= matcher.groupCount(); group++) {
+                    pathParameters.add(matcher.group(group));
+                }
+                route.handler.apply(resource, operation, pathParameters);
+                return;
+            }
+        }
+        throw new PatchException(UNSUPPORTED_OPERATION);
+    }
+
+    /**
+     * Applies a patch operation to a resource.
+     *
+     * @param <T> Type of the patched resource.
+     * @param <P> Type of the patch operations.
+     */
+    @FunctionalInterface
+    public interface Handler<T, P> {
+
+        /**
+         * Apply the patch operation to the resource.
+         *
+         * @param resource       Resource to patch.
+         * @param operation      Patch operation.
+         * @param pathParameters Values of the capturing groups of the matched path, in order.
+         * @throws PatchException If the operation is invalid.
+         */
+        void apply(T resource, P operation, List<String> pathParameters) throws PatchException;
+    }
+
+    /**
+     * Builder of the dispatch table of a PatchDispatcher.
+     *
+     * @param <T> Type of the patched resource.
+     * @param <P> Type of the patch operations.
+     */
+    public static class Builder<T, P> {
+
+        private final Function<P, String> operationResolver;
+        private final Function<P, String> pathResolver;
+        private final Map<String, Map<String, Handler<T, P>>> literalRoutes = new HashMap<>();
+        private final Map<String, List<PatternRoute<T, P>>> patternRoutes = new HashMap<>();
+
+        private Builder(Function<P, String> operationResolver, Function<P, String> pathResolver) {
+
+            this.operationResolver = operationResolver;
+            this.pathResolver = pathResolver;
+        }
+
+        /**
+         * Register the handler of an operation type on the paths matching the given regular expression. Patterns are
+         * matched against the whole path, in the order they are registered.
+         *
+         * @param operationType Operation type, such as 'ADD' or 'REPLACE'.
+         * @param pathRegex     Regular expression of the paths.
+         * @param handler       Handler of the operation.
+         * @return This builder.
+         */
+        public Builder<T, P> on(String operationType, String pathRegex, Handler<T, P> handler) {
+
+            String operationKey = operationType.toUpperCase(Locale.ENGLISH);
+            Matcher literalPath = LITERAL_PATH.matcher(pathRegex);
+            if (literalPath.matches()) {
+                literalRoutes.computeIfAbsent(operationKey, key -> new HashMap<>())
+                        .put(literalPath.group(1), handler);
+            } else {
+                patternRoutes.computeIfAbsent(operationKey, key -> new ArrayList<>())
+                        .add(new PatternRoute<>(Pattern.compile(pathRegex), handler));
+            }
+            return this;
+        }
+
+        public PatchDispatcher<T, P> build() {
+
+            return new PatchDispatcher<>(this);
+        }
+    }
+
+    private static class PatternRoute<T, P> {
+
+        private final Pattern pattern;
+        private final Handler<T, P> handler;
+
+        private PatternRoute(Pattern pattern, Handler<T, P> handler) {
+
+            this.pattern = pattern;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.patch;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Thrown when one or more operations of a patch request are invalid. The APIs map the errors to their own error
+ * codes.
+ */
+public class PatchException extends Exception {
+
+    private static final String ERROR_DELIMITER = "; ";
+
+    private final List<String> errors;
+
+    public PatchException(String error) {
+
+        this(Collections.singletonList(error));
+    }
+
+    public PatchException(List<String> errors) {
+
+        super(String.join(ERROR_DELIMITER, errors));
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @return Errors of the invalid operations, in the order of the operations.
+     */
+    public List<String> getErrors() {
+
+        return errors;
+    }
+}
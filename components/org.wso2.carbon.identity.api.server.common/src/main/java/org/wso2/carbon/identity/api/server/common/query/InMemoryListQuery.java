@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.query;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.identity.core.model.ExpressionNode;
+import org.wso2.carbon.identity.core.model.FilterTreeBuilder;
+import org.wso2.carbon.identity.core.model.Node;
+import org.wso2.carbon.identity.core.model.OperationNode;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Filtering, sorting and pagination of resources listed from a backend service which returns all the resources at
+ * once.
+ *
+ * Filters are parsed with the FilterTreeBuilder. The 'eq', 'ne', 'co', 'sw' and 'ew' operations are supported on the
+ * string attributes of the resources, ignoring the case, and conditions can be combined with 'and' and 'or'. The sort
+ * is given as the attribute to sort by, optionally followed by ':asc' or ':desc'. Resources which are equal in the
+ * sort order keep the order returned by the backend.
+ *
+ * @param <T> Type of the listed resources.
+ */
+public class InMemoryListQuery<T> {
+
+    private static final String SORT_ORDER_DELIMITER = ":";
+    private static final String SORT_ORDER_ASC = "asc";
+    private static final String SORT_ORDER_DESC = "desc";
+    private static final String FILTER_OPERATION_AND = "and";
+    private static final String FILTER_OPERATION_OR = "or";
+
+    private static final Map<String, BiPredicate<String, String>> FILTER_OPERATIONS = new HashMap<>();
+
+    static {
+        FILTER_OPERATIONS.put("eq", StringUtils::equalsIgnoreCase);
+        FILTER_OPERATIONS.put("ne", (attribute, value) -> !StringUtils.equalsIgnoreCase(attribute, value));
+        FILTER_OPERATIONS.put("co", StringUtils::containsIgnoreCase);
+        FILTER_OPERATIONS.put("sw", (attribute, value) -> StringUtils.startsWithIgnoreCase(attribute, value));
+        FILTER_OPERATIONS.put("ew", (attribute, value) -> StringUtils.endsWithIgnoreCase(attribute, value));
+    }
+
+    private final Map<String, Function<T, String>> attributes;
+
+    /**
+     * Creates a query over resources with the given attributes.
+     *
+     * @param attributes Resolvers of the attributes which can be used to filter and sort the resources, against the
+     *                   attribute names.
+     */
+    public InMemoryListQuery(Map<String, Function<T, String>> attributes) {
+
+        this.attributes = Collections.unmodifiableMap(new HashMap<>(attributes));
+    }
+
+    /**
+     * Filter, sort and paginate the given resources.
+     *
+     * @param resources Resources in the order returned by the backend.
+     * @param limit     Maximum number of resources to return (optional).
+     * @param offset    Number of resources to skip (optional).
+     * @param filter    Filter (optional).
+     * @param sort      Sort (optional).
+     * @return Requested page of the resources.
+     * @throws ListQueryException If any of the query parameters is invalid.
+     */
+    public List<T> apply(Collection<T> resources, Integer limit, Integer offset, String filter, String sort)
+            throws ListQueryException {
+
+        if (limit != null && limit < 0) {
+            throw new ListQueryException(ListQueryException.Reason.INVALID_PAGINATION, String.valueOf(limit));
+        }
+        if (offset != null && offset < 0) {
+            throw new ListQueryException(ListQueryException.Reason.INVALID_PAGINATION, String.valueOf(offset));
+        }
+        Stream<T> stream = resources.stream();
+        if (StringUtils.isNotBlank(filter)) {
+            stream = stream.filter(buildFilter(filter));
+        }
+        if (StringUtils.isNotBlank(sort)) {
+            stream = stream.sorted(buildComparator(sort));
+        }
+        if (offset != null) {
+            stream = stream.skip(offset);
+        }
+        if (limit != null) {
+            stream = stream.limit(limit);
+        }
+        return stream.collect(Collectors.toList());
+    }
+
+    /**
+     * Build a predicate matching the resources which satisfy the given filter.
+     *
+     * @param filter Filter.
+     * @return Predicate of the filter.
+     * @throws ListQueryException If the filter is invalid or uses unsupported attributes or operations.
+     */
+    public Predicate<T> buildFilter(String filter) throws ListQueryException {
+
+        Node rootNode;
+        try {
+            rootNode = new FilterTreeBuilder(filter).buildTree();
+        } catch (IOException | IdentityException e) {
+            throw new ListQueryException(ListQueryException.Reason.INVALID_FILTER, filter);
+        }
+        return buildFilter(rootNode, filter);
+    }
+
+    private Predicate<T> buildFilter(Node node, String filter) throws ListQueryException {
+
+        if (node instanceof ExpressionNode) {
+            ExpressionNode expressionNode = (ExpressionNode) node;
+            Function<T, String> attribute = attributes.get(expressionNode.getAttributeValue());
+            if (attribute == null) {
+                throw new ListQueryException(ListQueryException.Reason.UNSUPPORTED_FILTER_ATTRIBUTE,
+                        expressionNode.getAttributeValue());
+            }
+            BiPredicate<String, String> operation =
+                    FILTER_OPERATIONS.get(StringUtils.lowerCase(expressionNode.getOperation()));
+            if (operation == null) {
+                throw new ListQueryException(ListQueryException.Reason.UNSUPPORTED_FILTER_OPERATION,
+                        expressionNode.getOperation());
+            }
+            String value = expressionNode.getValue();
+            return resource -> operation.test(attribute.apply(resource), value);
+        }
+        if (node instanceof OperationNode) {
+            Predicate<T> left = buildFilter(node.getLeftNode(), filter);
+            Predicate<T> right = buildFilter(node.getRightNode(), filter);
+            String operation = ((OperationNode) node).getOperation();
+            if (StringUtils.equalsIgnoreCase(operation, FILTER_OPERATION_AND)) {
+                return left.and(right);
+            }
+            if (StringUtils.equalsIgnoreCase(operation, FILTER_OPERATION_OR)) {
+                return left.or(right);
+            }
+            throw new ListQueryException(ListQueryException.Reason.UNSUPPORTED_FILTER_OPERATION, operation);
+        }
+        throw new ListQueryException(ListQueryException.Reason.INVALID_FILTER, filter);
+    }
+
+    /**
+     * Build a comparator ordering the resources as given by the sort.
+     *
+     * @param sort Attribute to sort by, optionally followed by ':asc' or ':desc'.
+     * @return Comparator of the sort.
+     * @throws ListQueryException If the attribute or the sort order is not supported.
+     */
+    public Comparator<T> buildComparator(String sort) throws ListQueryException {
+
+        String sortBy = StringUtils.substringBefore(sort, SORT_ORDER_DELIMITER).trim();
+        String sortOrder = StringUtils.substringAfter(sort, SORT_ORDER_DELIMITER).trim();
+        Function<T, String> attribute = attributes.get(sortBy);
+        if (attribute == null || !(StringUtils.isEmpty(sortOrder) || SORT_ORDER_ASC.equalsIgnoreCase(sortOrder) ||
+                SORT_ORDER_DESC.equalsIgnoreCase(sortOrder))) {
+            throw new ListQueryException(ListQueryException.Reason.UNSUPPORTED_SORT, sort);
+        }
+        Comparator<T> comparator = Comparator.comparing(attribute,
+                Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+        return SORT_ORDER_DESC.equalsIgnoreCase(sortOrder) ? comparator.reversed() : comparator;
+    }
+}
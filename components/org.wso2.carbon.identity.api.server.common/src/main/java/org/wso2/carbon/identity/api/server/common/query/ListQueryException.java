@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common.query;
+
+/**
+ * Thrown when a parameter of a listing query is invalid. The APIs map the reason to their own error codes.
+ */
+public class ListQueryException extends Exception {
+
+    /**
+     * Reasons for rejecting a listing query.
+     */
+    public enum Reason {
+        INVALID_FILTER,
+        UNSUPPORTED_FILTER_ATTRIBUTE,
+        UNSUPPORTED_FILTER_OPERATION,
+        UNSUPPORTED_SORT,
+        INVALID_PAGINATION
+    }
+
+    private final Reason reason;
+    private final String value;
+
+    public ListQueryException(Reason reason, String value) {
+
+        super(reason + ": " + value);
+        this.reason = reason;
+        this.value = value;
+    }
+
+    /**
+     * @return Reason for rejecting the query.
+     */
+    public Reason getReason() {
+
+        return reason;
+    }
+
+    /**
+     * @return Rejected value of the query.
+     */
+    public String getValue() {
+
+        return value;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.carbon.identity.application.common.model.CertificateInfo;
+import org.wso2.carbon.identity.application.common.model.ClaimConfig;
+import org.wso2.carbon.identity.application.common.model.ClaimMapping;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.JustInTimeProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the structural copy of an identity provider by {@link DeepCopier} with the JSON round trip it replaced.
+ *
+ * The benchmark is not run with the unit tests. Run it from the module directory with:
+ * mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.wso2.carbon.identity.api.server.common.DeepCopierBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DeepCopierBenchmark {
+
+    private static final int AUTHENTICATORS = 5;
+    private static final int PROPERTIES_PER_AUTHENTICATOR = 20;
+    private static final int CLAIM_MAPPINGS = 30;
+
+    private final Gson gson = new Gson();
+    private IdentityProvider identityProvider;
+
+    @Setup
+    public void setUp() {
+
+        identityProvider = buildIdentityProvider();
+    }
+
+    @Benchmark
+    public IdentityProvider structuralCopy() {
+
+        return DeepCopier.copy(identityProvider);
+    }
+
+    @Benchmark
+    public IdentityProvider jsonRoundTrip() {
+
+        return gson.fromJson(gson.toJson(identityProvider), IdentityProvider.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        new Runner(new OptionsBuilder().include(DeepCopierBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Build an identity provider of the size of a typical federated identity provider with a few authenticators.
+     */
+    private static IdentityProvider buildIdentityProvider() {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName("Enterprise IdP");
+        identityProvider.setIdentityProviderDescription("Federated enterprise identity provider.");
+        identityProvider.setEnable(true);
+
+        CertificateInfo[] certificateInfos = new CertificateInfo[2];
+        for (int i = 0; i < certificateInfos.length; i++) {
+            certificateInfos[i] = new CertificateInfo();
+            certificateInfos[i].setThumbPrint("thumbprint-" + i);
+            certificateInfos[i].setCertValue(repeat("MIIDdzCCAl+gAwIBAgIEbN", 60));
+        }
+        identityProvider.setCertificateInfoArray(certificateInfos);
+
+        JustInTimeProvisioningConfig justInTimeProvisioningConfig = new JustInTimeProvisioningConfig();
+        justInTimeProvisioningConfig.setProvisioningEnabled(true);
+        justInTimeProvisioningConfig.setProvisioningUserStore("PRIMARY");
+        identityProvider.setJustInTimeProvisioningConfig(justInTimeProvisioningConfig);
+
+        FederatedAuthenticatorConfig[] authenticatorConfigs = new FederatedAuthenticatorConfig[AUTHENTICATORS];
+        for (int i = 0; i < AUTHENTICATORS; i++) {
+            Property[] properties = new Property[PROPERTIES_PER_AUTHENTICATOR];
+            for (int j = 0; j < PROPERTIES_PER_AUTHENTICATOR; j++) {
+                properties[j] = new Property();
+                properties[j].setName("Property" + j);
+                properties[j].setValue("value-" + i + "-" + j);
+            }
+            authenticatorConfigs[i] = new FederatedAuthenticatorConfig();
+            authenticatorConfigs[i].setName("Authenticator" + i);
+            authenticatorConfigs[i].setDisplayName("Authenticator " + i);
+            authenticatorConfigs[i].setEnabled(true);
+            authenticatorConfigs[i].setProperties(properties);
+        }
+        identityProvider.setFederatedAuthenticatorConfigs(authenticatorConfigs);
+        identityProvider.setDefaultAuthenticatorConfig(authenticatorConfigs[0]);
+
+        ClaimMapping[] claimMappings = new ClaimMapping[CLAIM_MAPPINGS];
+        for (int i = 0; i < CLAIM_MAPPINGS; i++) {
+            claimMappings[i] = ClaimMapping.build("http://wso2.org/claims/claim" + i, "claim" + i, null, false);
+        }
+        ClaimConfig claimConfig = new ClaimConfig();
+        claimConfig.setClaimMappings(claimMappings);
+        identityProvider.setClaimConfig(claimConfig);
+
+        IdentityProviderProperty jwksUri = new IdentityProviderProperty();
+        jwksUri.setName("jwksUri");
+        jwksUri.setValue("https://example.com/jwks");
+        identityProvider.setIdpProperties(new IdentityProviderProperty[]{jwksUri});
+        return identityProvider;
+    }
+
+    private static String repeat(String value, int times) {
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.common.model.CertificateInfo;
+import org.wso2.carbon.identity.application.common.model.FederatedAuthenticatorConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.IdentityProviderProperty;
+import org.wso2.carbon.identity.application.common.model.JustInTimeProvisioningConfig;
+import org.wso2.carbon.identity.application.common.model.Property;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link DeepCopier}.
+ */
+public class DeepCopierTest {
+
+    @Test
+    public void testCopiedIdentityProviderIsIndependent() {
+
+        IdentityProvider source = buildIdentityProvider();
+        IdentityProvider copy = DeepCopier.copy(source);
+
+        assertNotSame(copy, source);
+        assertEquals(copy.getIdentityProviderName(), "Google");
+        assertNotSame(copy.getCertificateInfoArray(), source.getCertificateInfoArray());
+        assertNotSame(copy.getCertificateInfoArray()[0], source.getCertificateInfoArray()[0]);
+        assertEquals(copy.getCertificateInfoArray()[0].getCertValue(), "cert-value");
+        assertNotSame(copy.getJustInTimeProvisioningConfig(), source.getJustInTimeProvisioningConfig());
+        assertTrue(copy.getJustInTimeProvisioningConfig().isProvisioningEnabled());
+        assertNotSame(copy.getFederatedAuthenticatorConfigs()[0], source.getFederatedAuthenticatorConfigs()[0]);
+        assertNotSame(copy.getFederatedAuthenticatorConfigs()[0].getProperties()[0],
+                source.getFederatedAuthenticatorConfigs()[0].getProperties()[0]);
+        assertNotSame(copy.getIdpProperties()[0], source.getIdpProperties()[0]);
+
+        copy.setIdentityProviderName("Facebook");
+        copy.getCertificateInfoArray()[0].setCertValue("updated-cert-value");
+        copy.setCertificateInfoArray(new CertificateInfo[0]);
+        copy.getJustInTimeProvisioningConfig().setProvisioningEnabled(false);
+        copy.getJustInTimeProvisioningConfig().setProvisioningUserStore("SECONDARY");
+        copy.getFederatedAuthenticatorConfigs()[0].setEnabled(false);
+        copy.getFederatedAuthenticatorConfigs()[0].getProperties()[0].setValue("updated-client-id");
+        copy.getFederatedAuthenticatorConfigs()[0] = new FederatedAuthenticatorConfig();
+        copy.getIdpProperties()[0].setValue("https://updated.example.com/jwks");
+
+        assertEquals(source.getIdentityProviderName(), "Google");
+        assertEquals(source.getCertificateInfoArray().length, 1);
+        assertEquals(source.getCertificateInfoArray()[0].getCertValue(), "cert-value");
+        assertTrue(source.getJustInTimeProvisioningConfig().isProvisioningEnabled());
+        assertEquals(source.getJustInTimeProvisioningConfig().getProvisioningUserStore(), "PRIMARY");
+        assertEquals(source.getFederatedAuthenticatorConfigs()[0].getName(), "GoogleOIDCAuthenticator");
+        assertTrue(source.getFederatedAuthenticatorConfigs()[0].isEnabled());
+        assertEquals(source.getFederatedAuthenticatorConfigs()[0].getProperties()[0].getValue(), "client-id");
+        assertEquals(source.getIdpProperties()[0].getValue(), "https://example.com/jwks");
+    }
+
+    @Test
+    public void testCopyOrSerializeCopiesIdentityProviderStructurally() {
+
+        IdentityProvider source = buildIdentityProvider();
+        IdentityProvider copy = DeepCopier.copyOrSerialize(source, IdentityProvider.class);
+
+        copy.getFederatedAuthenticatorConfigs()[0].getProperties()[0].setValue("updated-client-id");
+        assertEquals(source.getFederatedAuthenticatorConfigs()[0].getProperties()[0].getValue(), "client-id");
+        assertEquals(copy.getCertificateInfoArray()[0].getThumbPrint(), "thumbprint");
+    }
+
+    @Test
+    public void testSharedReferencesAndCyclesArePreserved() {
+
+        Node shared = new Node();
+        shared.name = "shared";
+        Node root = new Node();
+        root.name = "root";
+        root.children.add(shared);
+        root.children.add(shared);
+        shared.parent = root;
+
+        Node copy = DeepCopier.copy(root);
+
+        assertNotSame(copy, root);
+        assertNotSame(copy.children.get(0), shared);
+        assertSame(copy.children.get(0), copy.children.get(1));
+        assertSame(copy.children.get(0).parent, copy);
+    }
+
+    @Test
+    public void testImmutableJdkTypesAreSharedAndDatesAreCopied() {
+
+        Node source = new Node();
+        source.uri = URI.create("https://example.com");
+        source.created = new Date(1000L);
+
+        Node copy = DeepCopier.copy(source);
+
+        assertSame(copy.uri, source.uri);
+        assertNotSame(copy.created, source.created);
+        copy.created.setTime(2000L);
+        assertEquals(source.created.getTime(), 1000L);
+    }
+
+    @Test
+    public void testMutableJdkTypesAreNotCopied() {
+
+        MutableHolder source = new MutableHolder();
+        source.value.append("value");
+
+        // The failure is resolved once for the class, and reported on each attempt.
+        for (int i = 0; i < 2; i++) {
+            try {
+                DeepCopier.copy(source);
+                fail("A graph holding a mutable JDK type should not be copied.");
+            } catch (DeepCopier.CopyException e) {
+                assertTrue(e.getMessage().contains(StringBuilder.class.getName()));
+            }
+        }
+    }
+
+    @Test
+    public void testCopyOrSerializeFallsBackToJson() {
+
+        MutableHolder source = new MutableHolder();
+        source.value.append("value");
+
+        for (int i = 0; i < 2; i++) {
+            MutableHolder copy = DeepCopier.copyOrSerialize(source, MutableHolder.class);
+
+            assertNotSame(copy.value, source.value);
+            assertEquals(copy.value.toString(), "value");
+            copy.value.append("-updated");
+            assertEquals(source.value.toString(), "value");
+        }
+        assertFalse(source.value.toString().contains("updated"));
+    }
+
+    private static IdentityProvider buildIdentityProvider() {
+
+        IdentityProvider identityProvider = new IdentityProvider();
+        identityProvider.setIdentityProviderName("Google");
+        identityProvider.setEnable(true);
+
+        CertificateInfo certificateInfo = new CertificateInfo();
+        certificateInfo.setThumbPrint("thumbprint");
+        certificateInfo.setCertValue("cert-value");
+        identityProvider.setCertificateInfoArray(new CertificateInfo[]{certificateInfo});
+
+        JustInTimeProvisioningConfig justInTimeProvisioningConfig = new JustInTimeProvisioningConfig();
+        justInTimeProvisioningConfig.setProvisioningEnabled(true);
+        justInTimeProvisioningConfig.setProvisioningUserStore("PRIMARY");
+        identityProvider.setJustInTimeProvisioningConfig(justInTimeProvisioningConfig);
+
+        Property clientId = new Property();
+        clientId.setName("ClientId");
+        clientId.setValue("client-id");
+        FederatedAuthenticatorConfig authenticatorConfig = new FederatedAuthenticatorConfig();
+        authenticatorConfig.setName("GoogleOIDCAuthenticator");
+        authenticatorConfig.setDisplayName("Google");
+        authenticatorConfig.setEnabled(true);
+        authenticatorConfig.setProperties(new Property[]{clientId});
+        identityProvider.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[]{authenticatorConfig});
+        identityProvider.setDefaultAuthenticatorConfig(authenticatorConfig);
+
+        IdentityProviderProperty jwksUri = new IdentityProviderProperty();
+        jwksUri.setName("jwksUri");
+        jwksUri.setValue("https://example.com/jwks");
+        identityProvider.setIdpProperties(new IdentityProviderProperty[]{jwksUri});
+        return identityProvider;
+    }
+
+    private static class Node {
+
+        private String name;
+        private Node parent;
+        private List<Node> children = new ArrayList<>();
+        private URI uri;
+        private Date created;
+    }
+
+    private static class MutableHolder {
+
+        private StringBuilder value = new StringBuilder();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.common;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link PaginationCursor}.
+ */
+public class PaginationCursorTest {
+
+    private static final int LIMIT = 10;
+
+    @Test
+    public void testFirstPage() {
+
+        assertNull(PaginationCursor.resolve(null, null, LIMIT));
+        assertNull(PaginationCursor.resolve("", " ", LIMIT));
+
+        // A full first page without the total is followed by another page, and is preceded by none.
+        assertTrue(PaginationCursor.hasNextPage(LIMIT, 0, LIMIT, null));
+        assertFalse(PaginationCursor.hasPreviousPage(0));
+        // A short or empty first page is the only page.
+        assertFalse(PaginationCursor.hasNextPage(LIMIT, 0, 4, null));
+        assertFalse(PaginationCursor.hasNextPage(LIMIT, 0, 0, null));
+        assertFalse(PaginationCursor.hasNextPage(LIMIT, 0, LIMIT, LIMIT));
+    }
+
+    @Test
+    public void testAfterCursor() {
+
+        PaginationCursor cursor = PaginationCursor.resolve(PaginationCursor.encode(20), null, LIMIT);
+
+        assertEquals(cursor.getOffset(), 20);
+        assertEquals(cursor.getLimit(), LIMIT);
+        assertTrue(PaginationCursor.hasPreviousPage(cursor.getOffset()));
+        assertTrue(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), LIMIT, null));
+        assertTrue(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), LIMIT, 31));
+        // The last page is not followed by another page.
+        assertFalse(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), LIMIT, 30));
+        assertFalse(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), 3, null));
+    }
+
+    @Test
+    public void testBeforeCursor() {
+
+        PaginationCursor cursor = PaginationCursor.resolve(null, PaginationCursor.encode(30), LIMIT);
+
+        assertEquals(cursor.getOffset(), 20);
+        assertEquals(cursor.getLimit(), LIMIT);
+        assertTrue(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), LIMIT, null));
+        assertTrue(PaginationCursor.hasPreviousPage(cursor.getOffset()));
+    }
+
+    @Test
+    public void testBeforeCursorNearTheStart() {
+
+        // The page preceding the fourth result holds only the first three results.
+        PaginationCursor cursor = PaginationCursor.resolve(null, PaginationCursor.encode(3), LIMIT);
+
+        assertEquals(cursor.getOffset(), 0);
+        assertEquals(cursor.getLimit(), 3);
+        assertFalse(PaginationCursor.hasPreviousPage(cursor.getOffset()));
+        // The shortened page is full, hence followed by the page it was requested from, even without the total.
+        assertTrue(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), 3, null));
+        assertTrue(PaginationCursor.hasNextPage(cursor.getLimit(), cursor.getOffset(), 3, 13));
+    }
+
+    @Test
+    public void testBeforeCursorAtTheStart() {
+
+        // Nothing precedes the start of the results. Hence the first page is served.
+        PaginationCursor cursor = PaginationCursor.resolve(null, PaginationCursor.encode(0), LIMIT);
+
+        assertEquals(cursor.getOffset(), 0);
+        assertEquals(cursor.getLimit(), LIMIT);
+        assertFalse(PaginationCursor.hasPreviousPage(cursor.getOffset()));
+    }
+}
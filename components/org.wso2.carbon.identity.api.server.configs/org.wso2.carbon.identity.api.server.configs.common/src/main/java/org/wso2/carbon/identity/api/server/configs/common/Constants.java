@@ -33,7 +33,7 @@ public class Constants {
     // PATCH operation paths.
     public static final String IDLE_SESSION_PATH = "/idleSessionTimeoutPeriod";
     public static final String REMEMBER_ME_PATH = "/rememberMePeriod";
-    public static final String HOME_REALM_PATH_REGEX = "/homeRealmIdentifiers/[0-9]+";
+    public static final String HOME_REALM_PATH_REGEX = "/homeRealmIdentifiers/([0-9]+)";
 
     /**
      * PATCH operation path for CORS configuration.
@@ -81,6 +81,9 @@ public class Constants {
         ERROR_CODE_SCHEMA_NOT_FOUND("60004",
                 "Resource not found.",
                 "Unable to find a resource matching the provided schema identifier %s."),
+        ERROR_CODE_TIMEOUT_RETRIEVING_CONFIGS("65008",
+                "Unable to retrieve server configs.",
+                "Server timed out while retrieving the %s section of the server configs."),
 
         /**
          * CORS errors.
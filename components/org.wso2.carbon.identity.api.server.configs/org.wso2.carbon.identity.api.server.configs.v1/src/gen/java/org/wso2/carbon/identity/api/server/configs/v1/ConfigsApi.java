@@ -118,9 +118,9 @@ public class ConfigsApi  {
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getConfigs() {
+    public Response getConfigs(    @Valid@ApiParam(value = "Comma separated sections of the server configs to retrieve. Supported sections are 'realmConfig', 'idleSessionTimeoutPeriod', 'rememberMePeriod', 'homeRealmIdentifiers', 'provisioning', 'authenticators' and 'cors'. All the sections are retrieved if not specified. ")  @QueryParam("sections") String sections) {
 
-        return delegate.getConfigs();
+        return delegate.getConfigs(sections );
     }
 
     @Valid
@@ -43,7 +43,7 @@ public interface ConfigsApiService {
 
       public Response getCORSConfiguration();
 
-      public Response getConfigs();
+      public Response getConfigs(String sections);
 
       public Response getHomeRealmIdentifiers();
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.configs.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
+import org.wso2.carbon.identity.api.server.configs.common.ConfigsServiceHolder;
+import org.wso2.carbon.identity.application.common.IdentityApplicationManagementException;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.application.mgt.ApplicationConstants;
+import org.wso2.carbon.idp.mgt.IdentityProviderManagementException;
+
+/**
+ * Cache of the resident identity provider and the resident application of the tenants, so that the server config
+ * sections derived from them are served without fetching them from the backend on each request.
+ *
+ * The cached entities are shared, hence must not be modified. Updates should be made on a freshly fetched copy, after
+ * which the entity of the tenant is invalidated. The entities are also invalidated when they are updated through other
+ * APIs, such as the identity provider, identity governance and application management APIs.
+ */
+public class ResidentEntityCache {
+
+    private static final Log log = LogFactory.getLog(ResidentEntityCache.class);
+
+    private static final long TIME_TO_LIVE_MILLIS = 30000L;
+    private static final int MAX_TENANTS = 100;
+
+    private static final ResidentEntityCache INSTANCE = new ResidentEntityCache();
+
+    private final ExpiringCache<String, IdentityProvider> residentIdPs =
+            new ExpiringCache<>("ResidentIdPs", TIME_TO_LIVE_MILLIS, MAX_TENANTS);
+    private final ExpiringCache<String, ServiceProvider> residentApplications =
+            new ExpiringCache<>("ResidentApplications", TIME_TO_LIVE_MILLIS, MAX_TENANTS);
+
+    private ResidentEntityCache() {
+
+        TenantInvalidationTopic.RESIDENT_IDP.subscribe(residentIdPs::invalidate);
+        TenantInvalidationTopic.RESIDENT_APPLICATION.subscribe(residentApplications::invalidate);
+    }
+
+    public static ResidentEntityCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the resident identity provider of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Resident identity provider, which must not be modified, or null if not found.
+     * @throws IdentityProviderManagementException If an error occurred while retrieving the resident identity
+     *                                             provider.
+     */
+    public IdentityProvider getResidentIdP(String tenantDomain) throws IdentityProviderManagementException {
+
+        return residentIdPs.get(tenantDomain, () -> {
+            logFetch("resident identity provider", tenantDomain);
+            return ConfigsServiceHolder.getInstance().getIdentityProviderManager().getResidentIdP(tenantDomain);
+        });
+    }
+
+    /**
+     * Get the resident application of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Resident application, which must not be modified, or null if not found.
+     * @throws IdentityApplicationManagementException If an error occurred while retrieving the resident application.
+     */
+    public ServiceProvider getResidentApplication(String tenantDomain) throws IdentityApplicationManagementException {
+
+        return residentApplications.get(tenantDomain, () -> {
+            logFetch("resident application", tenantDomain);
+            return ConfigsServiceHolder.getInstance().getApplicationManagementService()
+                    .getServiceProvider(ApplicationConstants.LOCAL_SP, tenantDomain);
+        });
+    }
+
+    /**
+     * Invalidate the resident identity provider of a tenant, in this cache and in the caches of other APIs derived
+     * from it.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateResidentIdP(String tenantDomain) {
+
+        TenantInvalidationTopic.RESIDENT_IDP.publish(tenantDomain);
+    }
+
+    /**
+     * Invalidate the resident application of a tenant, in this cache and in the caches of other APIs derived from it.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidateResidentApplication(String tenantDomain) {
+
+        TenantInvalidationTopic.RESIDENT_APPLICATION.publish(tenantDomain);
+    }
+
+    private void logFetch(String entity, String tenantDomain) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Fetching the " + entity + " of tenant: " + tenantDomain + " from the backend.");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.configs.v1.core;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextPropagatingExecutor;
+import org.wso2.carbon.identity.api.server.common.error.APIError;
+import org.wso2.carbon.identity.api.server.configs.common.Constants;
+import org.wso2.carbon.identity.api.server.configs.v1.model.AuthenticatorListItem;
+import org.wso2.carbon.identity.api.server.configs.v1.model.CORSConfig;
+import org.wso2.carbon.identity.api.server.configs.v1.model.ProvisioningConfig;
+import org.wso2.carbon.identity.api.server.configs.v1.model.ServerConfig;
+import org.wso2.carbon.identity.application.common.model.IdentityProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.ws.rs.core.Response;
+
+/**
+ * Assembles the server configs of the tenant from the independent backend lookups of its sections.
+ *
+ * The lookups of the requested sections are fanned out on a bounded executor, within the carbon context of the
+ * request, while the realm configuration is read on the request thread. Each lookup is given
+ * {@link #SECTION_TIMEOUT_MILLIS} from the time it is submitted, after which the remaining lookups are cancelled and
+ * the request fails.
+ */
+public class ServerConfigAssembler {
+
+    private static final Log log = LogFactory.getLog(ServerConfigAssembler.class);
+
+    // Sections of the server configs, named after the attributes of the ServerConfig.
+    public static final String REALM_CONFIG = "realmConfig";
+    public static final String IDLE_SESSION_TIMEOUT_PERIOD = "idleSessionTimeoutPeriod";
+    public static final String REMEMBER_ME_PERIOD = "rememberMePeriod";
+    public static final String HOME_REALM_IDENTIFIERS = "homeRealmIdentifiers";
+    public static final String PROVISIONING = "provisioning";
+    public static final String AUTHENTICATORS = "authenticators";
+    public static final String CORS = "cors";
+
+    private static final Set<String> SECTIONS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            REALM_CONFIG, IDLE_SESSION_TIMEOUT_PERIOD, REMEMBER_ME_PERIOD, HOME_REALM_IDENTIFIERS, PROVISIONING,
+            AUTHENTICATORS, CORS)));
+    // Sections resolved from the resident identity provider, which is fetched once for all of them.
+    private static final Set<String> RESIDENT_IDP_SECTIONS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            IDLE_SESSION_TIMEOUT_PERIOD, REMEMBER_ME_PERIOD, HOME_REALM_IDENTIFIERS)));
+    private static final String SECTION_DELIMITER = ",";
+    private static final String RESIDENT_IDP = "residentIdP";
+
+    private static final long SECTION_TIMEOUT_MILLIS = 10000L;
+    private static final int POOL_SIZE = 10;
+    private static final int QUEUE_SIZE = 100;
+    private static final ContextPropagatingExecutor EXECUTOR =
+            new ContextPropagatingExecutor("ServerConfigAssembler", POOL_SIZE, QUEUE_SIZE);
+
+    private final ServerConfigManagementService configManagementService;
+
+    public ServerConfigAssembler(ServerConfigManagementService configManagementService) {
+
+        this.configManagementService = configManagementService;
+    }
+
+    /**
+     * Assemble the requested sections of the server configs.
+     *
+     * @param sections Comma separated sections to include, or empty for all the sections.
+     * @return Server configs with only the requested sections populated.
+     */
+    public ServerConfig assemble(String sections) {
+
+        Set<String> requestedSections = resolveSections(sections);
+        // Attributes with default values in the model are cleared, so that the sections which are not requested, or
+        // not configured, are not returned with the defaults.
+        ServerConfig serverConfig = new ServerConfig().idleSessionTimeoutPeriod(null).rememberMePeriod(null);
+
+        List<Future<?>> futures = new ArrayList<>();
+        long submittedAt = System.currentTimeMillis();
+        Future<IdentityProvider> residentIdP = null;
+        if (!Collections.disjoint(requestedSections, RESIDENT_IDP_SECTIONS)) {
+            residentIdP = submit(configManagementService::getResidentIdP, futures);
+        }
+        Future<ProvisioningConfig> provisioning = null;
+        if (requestedSections.contains(PROVISIONING)) {
+            provisioning = submit(configManagementService::buildProvisioningConfig, futures);
+        }
+        Future<List<AuthenticatorListItem>> authenticators = null;
+        if (requestedSections.contains(AUTHENTICATORS)) {
+            authenticators = submit(() -> configManagementService.getAuthenticators(null), futures);
+        }
+        Future<CORSConfig> cors = null;
+        if (requestedSections.contains(CORS)) {
+            cors = submit(configManagementService::getCORSConfiguration, futures);
+        }
+
+        try {
+            if (requestedSections.contains(REALM_CONFIG)) {
+                // The user realm is resolved from the carbon context of the request thread, hence not fanned out.
+                serverConfig.setRealmConfig(configManagementService.buildRealmConfig());
+            }
+            if (residentIdP != null) {
+                IdentityProvider identityProvider = await(RESIDENT_IDP, residentIdP, submittedAt);
+                if (requestedSections.contains(IDLE_SESSION_TIMEOUT_PERIOD)) {
+                    serverConfig.setIdleSessionTimeoutPeriod(
+                            configManagementService.getIdleSessionTimeoutPeriod(identityProvider));
+                }
+                if (requestedSections.contains(REMEMBER_ME_PERIOD)) {
+                    serverConfig.setRememberMePeriod(configManagementService.getRememberMePeriod(identityProvider));
+                }
+                if (requestedSections.contains(HOME_REALM_IDENTIFIERS)) {
+                    serverConfig.setHomeRealmIdentifiers(
+                            configManagementService.getHomeRealmIdentifiers(identityProvider));
+                }
+            }
+            if (provisioning != null) {
+                serverConfig.setProvisioning(await(PROVISIONING, provisioning, submittedAt));
+            }
+            if (authenticators != null) {
+                serverConfig.setAuthenticators(await(AUTHENTICATORS, authenticators, submittedAt));
+            }
+            if (cors != null) {
+                serverConfig.setCors(await(CORS, cors, submittedAt));
+            }
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        return serverConfig;
+    }
+
+    private Set<String> resolveSections(String sections) {
+
+        if (StringUtils.isBlank(sections)) {
+            return SECTIONS;
+        }
+        Set<String> requestedSections = new HashSet<>();
+        for (String section : sections.split(SECTION_DELIMITER)) {
+            section = section.trim();
+            if (!SECTIONS.contains(section)) {
+                throw configManagementService.handleException(Response.Status.BAD_REQUEST,
+                        Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT, "Unsupported section: " + section +
+                                ". Supported sections are: " + String.join(SECTION_DELIMITER, SECTIONS));
+            }
+            requestedSections.add(section);
+        }
+        return requestedSections;
+    }
+
+    private <T> Future<T> submit(Callable<T> lookup, List<Future<?>> futures) {
+
+        Future<T> future = EXECUTOR.submit(lookup);
+        futures.add(future);
+        return future;
+    }
+
+    private <T> T await(String section, Future<T> future, long submittedAt) {
+
+        long remainingMillis = submittedAt + SECTION_TIMEOUT_MILLIS - System.currentTimeMillis();
+        try {
+            return future.get(Math.max(remainingMillis, 0L), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while retrieving the " + section + " section of the server configs.", e);
+            throw configManagementService.handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        } catch (TimeoutException e) {
+            log.error("Timed out after " + SECTION_TIMEOUT_MILLIS + " ms while retrieving the " + section +
+                    " section of the server configs.");
+            throw configManagementService.handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessage.ERROR_CODE_TIMEOUT_RETRIEVING_CONFIGS, section);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof APIError) {
+                throw (APIError) e.getCause();
+            }
+            log.error("Error while retrieving the " + section + " section of the server configs.", e.getCause());
+            throw configManagementService.handleException(Response.Status.INTERNAL_SERVER_ERROR,
+                    Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        }
+    }
+}
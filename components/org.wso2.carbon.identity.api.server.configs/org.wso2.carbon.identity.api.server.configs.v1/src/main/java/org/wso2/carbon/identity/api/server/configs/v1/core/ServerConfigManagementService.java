@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.api.server.configs.v1.core;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonSyntaxException;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -28,8 +26,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.context.CarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.DeepCopier;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.patch.PatchDispatcher;
+import org.wso2.carbon.identity.api.server.common.patch.PatchException;
 import org.wso2.carbon.identity.api.server.configs.common.ConfigsServiceHolder;
 import org.wso2.carbon.identity.api.server.configs.common.Constants;
 import org.wso2.carbon.identity.api.server.configs.common.SchemaConfigParser;
@@ -102,6 +103,16 @@ import static org.wso2.carbon.identity.api.server.configs.common.Constants.PATH_
 public class ServerConfigManagementService {
 
     private static final Log log = LogFactory.getLog(ServerConfigManagementService.class);
+    private static final String HOME_REALM_ID_SEPARATOR = ",";
+    private static final String INVALID_INDEX = "Invalid index in 'path' attribute";
+    private static final ResidentEntityCache RESIDENT_ENTITY_CACHE = ResidentEntityCache.getInstance();
+
+    private static final PatchDispatcher<IdentityProvider, Patch> SERVER_CONFIG_PATCH_DISPATCHER =
+            buildServerConfigPatchDispatcher();
+    private static final PatchDispatcher<CORSConfiguration, CORSPatch> CORS_PATCH_DISPATCHER =
+            buildCORSPatchDispatcher();
+    private static final PatchDispatcher<JWTValidatorConfig, JWTKeyValidatorPatch> JWT_VALIDATOR_PATCH_DISPATCHER =
+            buildJWTValidatorPatchDispatcher();
 
     /**
      * Get list of local authenticators supported by the server.
@@ -164,54 +175,12 @@ public class ServerConfigManagementService {
     /**
      * Get Server Configs.
      *
+     * @param sections Comma separated sections of the server configs to retrieve, or empty for all the sections.
      * @return ServerConfig.
      */
-    public ServerConfig getConfigs() {
-
-        IdentityProvider residentIdP = getResidentIdP();
-
-        UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
-        RealmConfig realmConfig = new RealmConfig();
-        try {
-            if (userRealm != null && userRealm.getRealmConfiguration() != null) {
-                realmConfig.adminUser(userRealm.getRealmConfiguration().getAdminUserName());
-                realmConfig.adminRole(userRealm.getRealmConfiguration().getAdminRoleName());
-                realmConfig.everyoneRole(userRealm.getRealmConfiguration().getEveryOneRoleName());
-            }
-        } catch (UserStoreException e) {
-            log.error("Error while retrieving user-realm information.", e);
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
-                    .ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
-        }
-        String idleSessionTimeout = null;
-        IdentityProviderProperty idleSessionProp = IdentityApplicationManagementUtil.getProperty(
-                residentIdP.getIdpProperties(), IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
-        if (idleSessionProp != null) {
-            idleSessionTimeout = idleSessionProp.getValue();
-        }
+    public ServerConfig getConfigs(String sections) {
 
-        String rememberMePeriod = null;
-        IdentityProviderProperty rememberMeProp = IdentityApplicationManagementUtil.getProperty(
-                residentIdP.getIdpProperties(), IdentityApplicationConstants.REMEMBER_ME_TIME_OUT);
-        if (rememberMeProp != null) {
-            rememberMePeriod = rememberMeProp.getValue();
-        }
-
-        String homeRealmIdStr = residentIdP.getHomeRealmId();
-        List<String> homeRealmIdentifiers = null;
-        if (StringUtils.isNotBlank(homeRealmIdStr)) {
-            homeRealmIdentifiers =
-                    Arrays.stream(homeRealmIdStr.trim().split("\\s*,\\s*")).collect(Collectors.toList());
-        }
-        ServerConfig serverConfig = new ServerConfig();
-        serverConfig.setRealmConfig(realmConfig);
-        serverConfig.setIdleSessionTimeoutPeriod(idleSessionTimeout);
-        serverConfig.setRememberMePeriod(rememberMePeriod);
-        serverConfig.setHomeRealmIdentifiers(homeRealmIdentifiers);
-        serverConfig.setProvisioning(buildProvisioningConfig());
-        serverConfig.setAuthenticators(getAuthenticators(null));
-        serverConfig.setCors(getCORSConfiguration());
-        return serverConfig;
+        return new ServerConfigAssembler(this).assemble(sections);
     }
 
     /**
@@ -234,7 +203,7 @@ public class ServerConfigManagementService {
                         .ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
             }
             IdentityProvider idpToUpdate = createIdPClone(residentIdP);
-            processPatchRequest(patchRequest, idpToUpdate);
+            applyPatch(SERVER_CONFIG_PATCH_DISPATCHER, idpToUpdate, patchRequest);
             // To avoid updating non-existing authenticators in DB layer.
             idpToUpdate.setFederatedAuthenticatorConfigs(new FederatedAuthenticatorConfig[0]);
             ConfigsServiceHolder.getInstance().getIdentityProviderManager()
@@ -242,6 +211,8 @@ public class ServerConfigManagementService {
 
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
+        } finally {
+            RESIDENT_ENTITY_CACHE.invalidateResidentIdP(ContextLoader.getTenantDomainFromContext());
         }
     }
 
@@ -252,7 +223,7 @@ public class ServerConfigManagementService {
      */
     public ScimConfig getInboundScimConfig() {
 
-        ServiceProvider application = getResidentApplication();
+        ServiceProvider application = getResidentApplication(true);
         ScimConfig scimConfig = new ScimConfig();
         scimConfig.setEnableProxyMode(application.getInboundProvisioningConfig().isDumbMode());
         scimConfig.setProvisioningUserstore(application.getInboundProvisioningConfig().getProvisioningUserStore());
@@ -266,7 +237,8 @@ public class ServerConfigManagementService {
      */
     public void updateInboundScimConfigs(ScimConfig scimConfig) {
 
-        ServiceProvider application = getResidentApplication();
+        // The update is made on a freshly fetched resident application, as the cached one may be stale.
+        ServiceProvider application = getResidentApplication(false);
 
         if (scimConfig != null) {
             InboundProvisioningConfig inboundProvisioningConfig = new InboundProvisioningConfig();
@@ -285,6 +257,8 @@ public class ServerConfigManagementService {
             } catch (IdentityApplicationManagementException e) {
                 throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS,
                         null);
+            } finally {
+                RESIDENT_ENTITY_CACHE.invalidateResidentApplication(ContextLoader.getTenantDomainFromContext());
             }
         }
     }
@@ -325,68 +299,8 @@ public class ServerConfigManagementService {
             throw handleCORSException(e, Constants.ErrorMessage.ERROR_CODE_CORS_CONFIG_RETRIEVE, null);
         }
 
+        applyPatch(CORS_PATCH_DISPATCHER, corsConfiguration, corsPatchList);
         try {
-            for (CORSPatch corsPatch : corsPatchList) {
-                String path = corsPatch.getPath();
-                CORSPatch.OperationEnum operation = corsPatch.getOperation();
-                String value = corsPatch.getValue().trim();
-
-                // We support only 'REPLACE', 'ADD' and 'REMOVE' patch operations.
-                if (operation == CORSPatch.OperationEnum.REPLACE) {
-                    if (path.matches(Constants.CORS_CONFIG_ALLOW_GENERIC_HTTP_PATH_REGEX)) {
-                        corsConfiguration.setAllowGenericHttpRequests(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_ALLOW_ANY_ORIGIN_PATH_REGEX)) {
-                        corsConfiguration.setAllowAnyOrigin(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_ALLOW_SUBDOMAINS_PATH_REGEX)) {
-                        corsConfiguration.setAllowSubdomains(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX)) {
-                        corsConfiguration.setSupportedMethods(new HashSet<>(Collections.singletonList(value)));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORT_ANY_HEADER_PATH_REGEX)) {
-                        corsConfiguration.setSupportAnyHeader(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.setSupportedHeaders(new HashSet<>(Collections.singletonList(value)));
-                    } else if (path.matches(Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.setExposedHeaders(new HashSet<>(Collections.singletonList(value)));
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTS_CREDENTIALS_PATH_REGEX)) {
-                        corsConfiguration.setSupportsCredentials(Boolean.parseBoolean(value));
-                    } else if (path.matches(Constants.CORS_CONFIG_MAX_AGE_PATH_REGEX)) {
-                        corsConfiguration.setMaxAge(Integer.parseInt(value));
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else if (operation == CORSPatch.OperationEnum.ADD) {
-                    if (path.matches(Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedMethods().add(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedHeaders().add(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getExposedHeaders().add(value);
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else if (operation == CORSPatch.OperationEnum.REMOVE) {
-                    if (path.matches(Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedMethods().remove(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getSupportedHeaders().remove(value);
-                    } else if (path.matches(Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX)) {
-                        corsConfiguration.getExposedHeaders().remove(value);
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else {
-                    // Throw an error if any other patch operations are sent in the request.
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                }
-            }
-
             // Set the patched configuration object as the new CORS configuration for the tenant.
             ConfigsServiceHolder.getInstance().getCorsManagementService()
                     .setCORSConfiguration(corsConfiguration, tenantDomain);
@@ -402,14 +316,8 @@ public class ServerConfigManagementService {
      */
     public List<String> getHomeRealmIdentifiers() {
 
-        IdentityProvider residentIdP = getResidentIdP();
-        String homeRealmIdStr = residentIdP.getHomeRealmId();
-        List<String> homeRealmIdentifiers = new ArrayList<>();
-        if (StringUtils.isNotBlank(homeRealmIdStr)) {
-            homeRealmIdentifiers =
-                    Arrays.stream(homeRealmIdStr.trim().split("\\s*,\\s*")).collect(Collectors.toList());
-        }
-        return homeRealmIdentifiers;
+        List<String> homeRealmIdentifiers = getHomeRealmIdentifiers(getResidentIdP());
+        return homeRealmIdentifiers != null ? homeRealmIdentifiers : new ArrayList<>();
     }
 
     /**
@@ -555,7 +463,48 @@ public class ServerConfigManagementService {
         return authenticatorProperty;
     };
 
-    private ProvisioningConfig buildProvisioningConfig() {
+    RealmConfig buildRealmConfig() {
+
+        UserRealm userRealm = CarbonContext.getThreadLocalCarbonContext().getUserRealm();
+        RealmConfig realmConfig = new RealmConfig();
+        try {
+            if (userRealm != null && userRealm.getRealmConfiguration() != null) {
+                realmConfig.adminUser(userRealm.getRealmConfiguration().getAdminUserName());
+                realmConfig.adminRole(userRealm.getRealmConfiguration().getAdminRoleName());
+                realmConfig.everyoneRole(userRealm.getRealmConfiguration().getEveryOneRoleName());
+            }
+        } catch (UserStoreException e) {
+            log.error("Error while retrieving user-realm information.", e);
+            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
+                    .ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
+        }
+        return realmConfig;
+    }
+
+    String getIdleSessionTimeoutPeriod(IdentityProvider residentIdP) {
+
+        IdentityProviderProperty idleSessionProp = IdentityApplicationManagementUtil.getProperty(
+                residentIdP.getIdpProperties(), IdentityApplicationConstants.SESSION_IDLE_TIME_OUT);
+        return idleSessionProp != null ? idleSessionProp.getValue() : null;
+    }
+
+    String getRememberMePeriod(IdentityProvider residentIdP) {
+
+        IdentityProviderProperty rememberMeProp = IdentityApplicationManagementUtil.getProperty(
+                residentIdP.getIdpProperties(), IdentityApplicationConstants.REMEMBER_ME_TIME_OUT);
+        return rememberMeProp != null ? rememberMeProp.getValue() : null;
+    }
+
+    List<String> getHomeRealmIdentifiers(IdentityProvider residentIdP) {
+
+        String homeRealmIdStr = residentIdP.getHomeRealmId();
+        if (StringUtils.isBlank(homeRealmIdStr)) {
+            return null;
+        }
+        return Arrays.stream(homeRealmIdStr.trim().split("\\s*,\\s*")).collect(Collectors.toList());
+    }
+
+    ProvisioningConfig buildProvisioningConfig() {
 
         ProvisioningConfig provisioningConfig = new ProvisioningConfig();
         InboundConfig inboundConfig = new InboundConfig();
@@ -565,93 +514,172 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Evaluate the list of patch operations and update the root level attributes of the ServerConfig accordingly.
+     * Apply the patch operations to the resource, rejecting the request with the errors of all the invalid operations.
      *
-     * @param patchRequest List of patch operations.
-     * @param idpToUpdate  Resident Identity Provider to be updated.
+     * @param dispatcher Dispatcher of the patch operations of the resource.
+     * @param resource   Resource to patch.
+     * @param operations Patch operations.
      */
-    private void processPatchRequest(List<Patch> patchRequest, IdentityProvider idpToUpdate) {
+    private <T, P> void applyPatch(PatchDispatcher<T, P> dispatcher, T resource, List<P> operations) {
 
-        if (CollectionUtils.isEmpty(patchRequest)) {
+        if (CollectionUtils.isEmpty(operations)) {
             return;
         }
-        for (Patch patch : patchRequest) {
-            String path = patch.getPath();
-            Patch.OperationEnum operation = patch.getOperation();
-            String value = patch.getValue();
-            // We support only 'REPLACE', 'ADD' and 'REMOVE' patch operations.
-            if (operation == Patch.OperationEnum.REPLACE) {
-                if (path.matches(Constants.HOME_REALM_PATH_REGEX) && path.split(Constants.PATH_SEPERATOR).length == 3) {
-
-                    int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[2]);
-                    String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
-                    if (ArrayUtils.isNotEmpty(homeRealmArr) && (index >= 0)
-                            && (index < homeRealmArr.length)) {
-                        List<String> homeRealmIds = Arrays.asList(homeRealmArr);
-                        homeRealmIds.set(index, value);
-                        idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
-                    } else {
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                    }
-                } else {
-                    switch (path) {
-                        case Constants.IDLE_SESSION_PATH:
-                            updateIdPProperty(idpToUpdate, IdentityApplicationConstants.SESSION_IDLE_TIME_OUT, value);
-                            break;
-                        case Constants.REMEMBER_ME_PATH:
-                            updateIdPProperty(idpToUpdate, IdentityApplicationConstants.REMEMBER_ME_TIME_OUT, value);
-                            break;
-                        default:
-                            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                    .ERROR_CODE_INVALID_INPUT, "Unsupported value for 'path' attribute");
-                    }
-                }
-            } else if (operation == Patch.OperationEnum.ADD && path.matches(Constants.HOME_REALM_PATH_REGEX) && path
-                    .split(Constants.PATH_SEPERATOR).length == 3) {
-                List<String> homeRealmIds;
-                int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[2]);
-                String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
-                if (ArrayUtils.isNotEmpty(homeRealmArr) && (index >= 0) && index <= homeRealmArr.length) {
-                    homeRealmIds = new ArrayList<>(Arrays.asList(homeRealmArr));
-                    homeRealmIds.add(index, value);
-                } else if (index == 0) {
-                    homeRealmIds = new ArrayList<>();
-                    homeRealmIds.add(value);
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                }
-                idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
-            } else if (operation == Patch.OperationEnum.REMOVE && path.matches(Constants.HOME_REALM_PATH_REGEX) &&
-                    path.split(Constants.PATH_SEPERATOR).length == 3) {
-                List<String> homeRealmIds;
-                int index = Integer.parseInt(path.split(Constants.PATH_SEPERATOR)[2]);
-                String[] homeRealmArr = StringUtils.split(idpToUpdate.getHomeRealmId(), ",");
-                if (ArrayUtils.isNotEmpty(homeRealmArr) && (index >= 0) && index < homeRealmArr.length) {
-                    homeRealmIds = new ArrayList<>(Arrays.asList(homeRealmArr));
-                    homeRealmIds.remove(index);
-                } else {
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Invalid index in 'path' attribute");
-                }
-                idpToUpdate.setHomeRealmId(StringUtils.join(homeRealmIds, ","));
-            } else {
-                // Throw an error if any other patch operations are sent in the request.
-                throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                        .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
+        try {
+            dispatcher.apply(resource, operations);
+        } catch (PatchException e) {
+            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Build the dispatcher of the patch operations on the root level attributes of the ServerConfig, which are
+     * applied to the resident identity provider. Only 'REPLACE', 'ADD' and 'REMOVE' operations are supported.
+     *
+     * @return Patch dispatcher.
+     */
+    private static PatchDispatcher<IdentityProvider, Patch> buildServerConfigPatchDispatcher() {
+
+        return PatchDispatcher.<IdentityProvider, Patch>builder(patch -> String.valueOf(patch.getOperation()),
+                Patch::getPath)
+                .on(Patch.OperationEnum.REPLACE.value(), Constants.HOME_REALM_PATH_REGEX,
+                        (idp, patch, pathParameters) -> {
+                            List<String> homeRealmIds = getHomeRealmIds(idp);
+                            int index = parseIndex(pathParameters.get(0), homeRealmIds.size() - 1);
+                            homeRealmIds.set(index, patch.getValue());
+                            idp.setHomeRealmId(StringUtils.join(homeRealmIds, HOME_REALM_ID_SEPARATOR));
+                        })
+                .on(Patch.OperationEnum.REPLACE.value(), Constants.IDLE_SESSION_PATH,
+                        (idp, patch, pathParameters) -> updateIdPProperty(idp,
+                                IdentityApplicationConstants.SESSION_IDLE_TIME_OUT, patch.getValue()))
+                .on(Patch.OperationEnum.REPLACE.value(), Constants.REMEMBER_ME_PATH,
+                        (idp, patch, pathParameters) -> updateIdPProperty(idp,
+                                IdentityApplicationConstants.REMEMBER_ME_TIME_OUT, patch.getValue()))
+                .on(Patch.OperationEnum.ADD.value(), Constants.HOME_REALM_PATH_REGEX,
+                        (idp, patch, pathParameters) -> {
+                            List<String> homeRealmIds = getHomeRealmIds(idp);
+                            int index = parseIndex(pathParameters.get(0), homeRealmIds.size());
+                            homeRealmIds.add(index, patch.getValue());
+                            idp.setHomeRealmId(StringUtils.join(homeRealmIds, HOME_REALM_ID_SEPARATOR));
+                        })
+                .on(Patch.OperationEnum.REMOVE.value(), Constants.HOME_REALM_PATH_REGEX,
+                        (idp, patch, pathParameters) -> {
+                            List<String> homeRealmIds = getHomeRealmIds(idp);
+                            int index = parseIndex(pathParameters.get(0), homeRealmIds.size() - 1);
+                            homeRealmIds.remove(index);
+                            idp.setHomeRealmId(StringUtils.join(homeRealmIds, HOME_REALM_ID_SEPARATOR));
+                        })
+                .build();
+    }
+
+    /**
+     * Build the dispatcher of the patch operations on the CORS configuration. Only 'REPLACE', 'ADD' and 'REMOVE'
+     * operations are supported.
+     *
+     * @return Patch dispatcher.
+     */
+    private static PatchDispatcher<CORSConfiguration, CORSPatch> buildCORSPatchDispatcher() {
+
+        return PatchDispatcher.<CORSConfiguration, CORSPatch>builder(patch -> String.valueOf(patch.getOperation()),
+                CORSPatch::getPath)
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_ALLOW_GENERIC_HTTP_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setAllowGenericHttpRequests(Boolean.parseBoolean(trimValue(patch))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_ALLOW_ANY_ORIGIN_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setAllowAnyOrigin(Boolean.parseBoolean(trimValue(patch))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_ALLOW_SUBDOMAINS_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setAllowSubdomains(Boolean.parseBoolean(trimValue(patch))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setSupportedMethods(new HashSet<>(Collections.singletonList(trimValue(patch)))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_SUPPORT_ANY_HEADER_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setSupportAnyHeader(Boolean.parseBoolean(trimValue(patch))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setSupportedHeaders(new HashSet<>(Collections.singletonList(trimValue(patch)))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setExposedHeaders(new HashSet<>(Collections.singletonList(trimValue(patch)))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_SUPPORTS_CREDENTIALS_PATH_REGEX,
+                        (config, patch, pathParameters) ->
+                                config.setSupportsCredentials(Boolean.parseBoolean(trimValue(patch))))
+                .on(CORSPatch.OperationEnum.REPLACE.value(), Constants.CORS_CONFIG_MAX_AGE_PATH_REGEX,
+                        (config, patch, pathParameters) -> {
+                            try {
+                                config.setMaxAge(Integer.parseInt(trimValue(patch)));
+                            } catch (NumberFormatException e) {
+                                throw new PatchException("Value should be an integer");
+                            }
+                        })
+                .on(CORSPatch.OperationEnum.ADD.value(), Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX,
+                        (config, patch, pathParameters) -> config.getSupportedMethods().add(trimValue(patch)))
+                .on(CORSPatch.OperationEnum.ADD.value(), Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX,
+                        (config, patch, pathParameters) -> config.getSupportedHeaders().add(trimValue(patch)))
+                .on(CORSPatch.OperationEnum.ADD.value(), Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX,
+                        (config, patch, pathParameters) -> config.getExposedHeaders().add(trimValue(patch)))
+                .on(CORSPatch.OperationEnum.REMOVE.value(), Constants.CORS_CONFIG_SUPPORTED_METHODS_PATH_REGEX,
+                        (config, patch, pathParameters) -> config.getSupportedMethods().remove(trimValue(patch)))
+                .on(CORSPatch.OperationEnum.REMOVE.value(), Constants.CORS_CONFIG_SUPPORTED_HEADERS_PATH_REGEX,
+                        (config, patch, pathParameters) -> config.getSupportedHeaders().remove(trimValue(patch)))
+                .on(CORSPatch.OperationEnum.REMOVE.value(), Constants.CORS_CONFIG_EXPOSED_HEADERS_PATH_REGEX,
+                        (config, patch, pathParameters) -> config.getExposedHeaders().remove(trimValue(patch)))
+                .build();
+    }
+
+    /**
+     * Build the dispatcher of the patch operations on the Private Key JWT validation configuration. Only 'REPLACE'
+     * and 'ADD' operations are supported.
+     *
+     * @return Patch dispatcher.
+     */
+    private static PatchDispatcher<JWTValidatorConfig, JWTKeyValidatorPatch> buildJWTValidatorPatchDispatcher() {
+
+        return PatchDispatcher.<JWTValidatorConfig, JWTKeyValidatorPatch>builder(
+                patch -> String.valueOf(patch.getOperation()), JWTKeyValidatorPatch::getPath)
+                .on(JWTKeyValidatorPatch.OperationEnum.REPLACE.value(),
+                        Constants.PRIVATE_KEY_JWT_VALIDATION_CONFIG_TOKEN_REUSE,
+                        (config, patch, pathParameters) -> config.setEnableTokenReuse(patch.getValue()))
+                .on(JWTKeyValidatorPatch.OperationEnum.ADD.value(),
+                        Constants.PRIVATE_KEY_JWT_VALIDATION_CONFIG_TOKEN_REUSE,
+                        (config, patch, pathParameters) -> config.setEnableTokenReuse(patch.getValue()))
+                .build();
+    }
+
+    private static String trimValue(CORSPatch corsPatch) {
+
+        return StringUtils.trim(corsPatch.getValue());
+    }
+
+    private static List<String> getHomeRealmIds(IdentityProvider identityProvider) {
+
+        String[] homeRealmArr = StringUtils.split(identityProvider.getHomeRealmId(), HOME_REALM_ID_SEPARATOR);
+        return homeRealmArr != null ? new ArrayList<>(Arrays.asList(homeRealmArr)) : new ArrayList<>();
+    }
+
+    private static int parseIndex(String index, int maxIndex) throws PatchException {
+
+        try {
+            int parsedIndex = Integer.parseInt(index);
+            if (parsedIndex <= maxIndex) {
+                return parsedIndex;
             }
+        } catch (NumberFormatException e) {
+            // Indices which do not fit in an integer are out of range.
         }
+        throw new PatchException(INVALID_INDEX);
     }
 
-    private void updateIdPProperty(IdentityProvider identityProvider, String key, String value) {
+    private static void updateIdPProperty(IdentityProvider identityProvider, String key, String value)
+            throws PatchException {
 
         List<IdentityProviderProperty> idPProperties = new ArrayList<>(Arrays.asList(identityProvider
                 .getIdpProperties()));
         if (StringUtils.isBlank(value) || !StringUtils.isNumeric(value) || Integer.parseInt(value) <= 0) {
-            String message = "Value should be numeric and positive";
-            throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage.ERROR_CODE_INVALID_INPUT,
-                    message);
+            throw new PatchException("Value should be numeric and positive");
         }
         boolean isPropertyFound = false;
         if (CollectionUtils.isNotEmpty(idPProperties)) {
@@ -672,12 +700,16 @@ public class ServerConfigManagementService {
         identityProvider.setIdpProperties(idPProperties.toArray(new IdentityProviderProperty[0]));
     }
 
-    private IdentityProvider getResidentIdP() {
+    /**
+     * Get the resident identity provider of the tenant, from the cache of the resident entities.
+     *
+     * @return Resident identity provider, which must not be modified.
+     */
+    IdentityProvider getResidentIdP() {
 
         IdentityProvider residentIdP;
         try {
-            residentIdP = ConfigsServiceHolder.getInstance().getIdentityProviderManager().getResidentIdP(ContextLoader
-                    .getTenantDomainFromContext());
+            residentIdP = RESIDENT_ENTITY_CACHE.getResidentIdP(ContextLoader.getTenantDomainFromContext());
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
         }
@@ -690,12 +722,21 @@ public class ServerConfigManagementService {
         return residentIdP;
     }
 
-    private ServiceProvider getResidentApplication() {
+    /**
+     * Get the resident application of the tenant.
+     *
+     * @param fromCache Whether the resident application can be served from the cache of the resident entities, in
+     *                  which case it must not be modified.
+     * @return Resident application.
+     */
+    private ServiceProvider getResidentApplication(boolean fromCache) {
 
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
         ServiceProvider residentSP;
         try {
-            residentSP = ConfigsServiceHolder.getInstance().getApplicationManagementService()
-                    .getServiceProvider(ApplicationConstants.LOCAL_SP, ContextLoader.getTenantDomainFromContext());
+            residentSP = fromCache ? RESIDENT_ENTITY_CACHE.getResidentApplication(tenantDomain) :
+                    ConfigsServiceHolder.getInstance().getApplicationManagementService()
+                            .getServiceProvider(ApplicationConstants.LOCAL_SP, tenantDomain);
         } catch (IdentityApplicationManagementException e) {
             throw handleApplicationMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONFIGS, null);
         }
@@ -709,7 +750,7 @@ public class ServerConfigManagementService {
     }
 
     /**
-     * Create a shallow copy of the input Identity Provider.
+     * Create a deep copy of the input Identity Provider.
      *
      * @param idP Identity Provider.
      * @return Clone of IDP.
@@ -717,10 +758,9 @@ public class ServerConfigManagementService {
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
         try {
-            Gson gson = new Gson();
-            IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-            return clonedIdentityProvider;
-        } catch (JsonSyntaxException e) {
+            return DeepCopier.copyOrSerialize(idP, IdentityProvider.class);
+        } catch (DeepCopier.CopyException e) {
+            log.error("Error while copying the resident identity provider.", e);
             throw handleException(Response.Status.INTERNAL_SERVER_ERROR, Constants.ErrorMessage
                     .ERROR_CODE_ERROR_UPDATING_CONFIGS, null);
         }
@@ -874,7 +914,7 @@ public class ServerConfigManagementService {
      * @param error  Error Message information.
      * @return APIError.
      */
-    private APIError handleException(Response.Status status, Constants.ErrorMessage error, String data) {
+    APIError handleException(Response.Status status, Constants.ErrorMessage error, String data) {
 
         return new APIError(status, getErrorBuilder(error, data).build());
     }
@@ -967,37 +1007,8 @@ public class ServerConfigManagementService {
             }
         }
 
+        applyPatch(JWT_VALIDATOR_PATCH_DISPATCHER, jwtValidatorConfig, privateKeyJWTValidatorPatchList);
         try {
-            for (JWTKeyValidatorPatch jwtKeyValidatorPatch : privateKeyJWTValidatorPatchList) {
-                String path = jwtKeyValidatorPatch.getPath();
-                JWTKeyValidatorPatch.OperationEnum operation = jwtKeyValidatorPatch.getOperation();
-                Boolean value = jwtKeyValidatorPatch.getValue();
-
-                // We support only 'REPLACE' and 'ADD' patch operations.
-                if (operation == JWTKeyValidatorPatch.OperationEnum.REPLACE) {
-                    if (path.matches(Constants.PRIVATE_KEY_JWT_VALIDATION_CONFIG_TOKEN_REUSE)) {
-                        jwtValidatorConfig.setEnableTokenReuse(value);
-                        ;
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else if (operation == JWTKeyValidatorPatch.OperationEnum.ADD) {
-                    if (path.matches(Constants.PRIVATE_KEY_JWT_VALIDATION_CONFIG_TOKEN_REUSE)) {
-                        jwtValidatorConfig.setEnableTokenReuse(value);
-                    } else {
-                        // Throw an error if any other patch operations are sent in the request.
-                        throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                                .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                    }
-                } else {
-                    // Throw an error if any other patch operations are sent in the request.
-                    throw handleException(Response.Status.BAD_REQUEST, Constants.ErrorMessage
-                            .ERROR_CODE_INVALID_INPUT, "Unsupported patch operation");
-                }
-            }
-
             // Set the patched configuration object as the new CORS configuration for the tenant.
             if (JWTAuthenticationMgtOGSiServiceFactory.getInstance() != null) {
                 JWTAuthenticationMgtOGSiServiceFactory.getInstance()
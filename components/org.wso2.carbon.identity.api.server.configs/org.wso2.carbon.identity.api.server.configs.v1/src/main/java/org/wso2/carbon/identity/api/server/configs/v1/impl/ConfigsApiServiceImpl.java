@@ -52,9 +52,9 @@ public class ConfigsApiServiceImpl implements ConfigsApiService {
     }
 
     @Override
-    public Response getConfigs() {
+    public Response getConfigs(String sections) {
 
-        return Response.ok().entity(configManagementService.getConfigs()).build();
+        return Response.ok().entity(configManagementService.getConfigs(sections)).build();
     }
 
     @Override
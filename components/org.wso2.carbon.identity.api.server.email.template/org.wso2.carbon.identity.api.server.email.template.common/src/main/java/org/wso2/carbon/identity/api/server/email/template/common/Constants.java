@@ -41,6 +41,7 @@ public class Constants {
     public static final String SUBJECT = "templates.subject";
     public static final String BODY = "templates.body";
     public static final String FOOTER = "templates.footer";
+    public static final String HASH = "templates.hash";
 
     private static final Map<String, ErrorMessage> ERROR_CODE_MAP = new HashMap<>();
 
@@ -84,6 +85,9 @@ public class Constants {
         ERROR_SORTING_NOT_SUPPORTED("55012", Status.NOT_IMPLEMENTED,
                 "Sorting is not yet supported.",
                 "Please remove 'sortOrder' and 'sortBy' parameters from the request and try again."),
+        ERROR_UPSERTING_EMAIL_TEMPLATES("55013", Status.INTERNAL_SERVER_ERROR,
+                "Unable to add or replace the email templates.",
+                "Server encountered an error while adding or replacing the email templates."),
         ERROR_EMAIL_TEMPLATE_TYPE_NOT_FOUND("50002", Status.NOT_FOUND,
                 "Email Template Type does not exists.",
                 "Specified email template type does not exist in the system."),
@@ -99,8 +103,14 @@ public class Constants {
                         "in the system."),
         ERROR_ATTRIBUTE_NOT_SUPPORTED("50006", Status.BAD_REQUEST, "Attribute type not found",
                 "Invalid attribute for email templates. Supported attributes are: 'templates', " +
-                        "'templates.id', 'templates.contentType', 'templates.subject', 'templates.body' " +
-                        "and 'templates.footer'.");
+                        "'templates.id', 'templates.contentType', 'templates.subject', 'templates.body', " +
+                        "'templates.footer' and 'templates.hash'."),
+        ERROR_INVALID_PAGINATION_PARAMETERS("50007", Status.BAD_REQUEST,
+                "Invalid pagination parameters.",
+                "'limit' and 'offset' parameters should be non-negative integers."),
+        ERROR_INVALID_EMAIL_TEMPLATE_BATCH("50008", Status.BAD_REQUEST,
+                "Invalid email template batch.",
+                "One or more email templates of the batch are invalid.");
 
         private final String message;
         private final Status httpStatus;
@@ -24,6 +24,7 @@ import java.io.InputStream;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateUpsertResult;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.Error;
 import java.util.List;
@@ -159,9 +160,9 @@ public class EmailApi  {
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getAllEmailTemplateTypes(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. _<b>This option is not yet supported.<b>_")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. _<b>This option is not yet supported.<b>_")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response.")  @QueryParam("requiredAttributes") String requiredAttributes) {
+    public Response getAllEmailTemplateTypes(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. Not applicable when retrieving a single email template.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. Not applicable when retrieving a single email template.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response.")  @QueryParam("requiredAttributes") String requiredAttributes,      @Valid@ApiParam(value = "Locale of the email templates to return, such as 'en_US'.")  @QueryParam("locale") String locale) {
 
-        return delegate.getAllEmailTemplateTypes(limit,  offset,  sortOrder,  sortBy,  requiredAttributes );
+        return delegate.getAllEmailTemplateTypes(limit,  offset,  sortOrder,  sortBy,  requiredAttributes,  locale );
     }
 
     @Valid
@@ -177,15 +178,16 @@ public class EmailApi  {
     }, tags={ "Email Templates", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Search results matching the given criteria.", response = EmailTemplateWithID.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getEmailTemplate(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId, @ApiParam(value = "Email template ID. This should be a valid locale.",required=true) @PathParam("template-id") String templateId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. _<b>This option is not yet supported.<b>_")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. _<b>This option is not yet supported.<b>_")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy) {
+    public Response getEmailTemplate(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId, @ApiParam(value = "Email template ID. This should be a valid locale.",required=true) @PathParam("template-id") String templateId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. Not applicable when retrieving a single email template.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. Not applicable when retrieving a single email template.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy,     @Valid @ApiParam(value = "Entity tags of the representations held by the client. The resource is not returned if its current entity tag matches any of them." )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getEmailTemplate(templateTypeId,  templateId,  limit,  offset,  sortOrder,  sortBy );
+        return delegate.getEmailTemplate(templateTypeId,  templateId,  limit,  offset,  sortOrder,  sortBy,  ifNoneMatch );
     }
 
     @Valid
@@ -201,15 +203,16 @@ public class EmailApi  {
     }, tags={ "Email Template Types", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Search results matching the given criteria.", response = EmailTemplateTypeWithID.class),
+        @ApiResponse(code = 304, message = "Not Modified", response = Void.class),
         @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getEmailTemplateType(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. _<b>This option is not yet supported.<b>_")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. _<b>This option is not yet supported.<b>_")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy) {
+    public Response getEmailTemplateType(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. Not applicable when retrieving a single email template.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. Not applicable when retrieving a single email template.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy,      @Valid@ApiParam(value = "Locale of the email templates to return, such as 'en_US'.")  @QueryParam("locale") String locale,     @Valid @ApiParam(value = "Entity tags of the representations held by the client. The resource is not returned if its current entity tag matches any of them." )@HeaderParam("If-None-Match") String ifNoneMatch) {
 
-        return delegate.getEmailTemplateType(templateTypeId,  limit,  offset,  sortOrder,  sortBy );
+        return delegate.getEmailTemplateType(templateTypeId,  limit,  offset,  sortOrder,  sortBy,  locale,  ifNoneMatch );
     }
 
     @Valid
@@ -231,9 +234,9 @@ public class EmailApi  {
         @ApiResponse(code = 404, message = "The specified resource is not found", response = Error.class),
         @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
     })
-    public Response getTemplatesListOfEmailTemplateType(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. _<b>This option is not yet supported.<b>_")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. _<b>This option is not yet supported.<b>_")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy) {
+    public Response getTemplatesListOfEmailTemplateType(@ApiParam(value = "Email Template Type ID",required=true) @PathParam("template-type-id") String templateTypeId,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return. Not applicable when retrieving a single email template.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination. Not applicable when retrieving a single email template.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Define the order in which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_", allowableValues="asc, desc")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _<b>This option is not yet supported.<b>_")  @QueryParam("sortBy") String sortBy,      @Valid@ApiParam(value = "Locale of the email templates to return, such as 'en_US'.")  @QueryParam("locale") String locale) {
 
-        return delegate.getTemplatesListOfEmailTemplateType(templateTypeId,  limit,  offset,  sortOrder,  sortBy );
+        return delegate.getTemplatesListOfEmailTemplateType(templateTypeId,  limit,  offset,  sortOrder,  sortBy,  locale );
     }
 
     @Valid
@@ -270,7 +273,7 @@ public class EmailApi  {
         @Authorization(value = "OAuth2", scopes = {
             
         })
-    }, tags={ "Email Template Types" })
+    }, tags={ "Email Template Types", })
     @ApiResponses(value = { 
         @ApiResponse(code = 200, message = "Item Updated", response = Void.class),
         @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
@@ -284,4 +287,27 @@ public class EmailApi  {
         return delegate.updateEmailTemplateType(templateTypeId,  emailTemplateWithID );
     }
 
+    @Valid
+    @POST
+    @Path("/batch")
+    @Consumes({ "application/json" })
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Adds or replaces the email templates of multiple email template types.", notes = "Adds or replaces the given email templates, adding the email template types which do not exist. The whole batch is validated before any email template is written, and the result of each email template is returned in the order of the request. <br>  <b>Permission required:</b> <br> * /permission/admin/manage/identity/emailmgt/create <br> * /permission/admin/manage/identity/emailmgt/update <br> <b>Scopes required:</b><br> * internal_email_mgt_create <br> * internal_email_mgt_update ", response = EmailTemplateUpsertResult.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Email Templates" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Results of the email templates of the batch.", response = EmailTemplateUpsertResult.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Invalid input request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 500, message = "Internal Server Error", response = Error.class)
+    })
+    public Response upsertEmailTemplates(@ApiParam(value = "Email template types with the email templates to be added or replaced." ) @Valid List<EmailTemplateType> emailTemplateType) {
+
+        return delegate.upsertEmailTemplates(emailTemplateType );
+    }
+
 }
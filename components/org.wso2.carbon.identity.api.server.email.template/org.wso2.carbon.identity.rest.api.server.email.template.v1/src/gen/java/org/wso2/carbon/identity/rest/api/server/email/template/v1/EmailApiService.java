@@ -24,6 +24,7 @@ import java.io.InputStream;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateUpsertResult;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.Error;
 import java.util.List;
@@ -41,15 +42,17 @@ public interface EmailApiService {
 
       public Response deleteEmailTemplateType(String templateTypeId);
 
-      public Response getAllEmailTemplateTypes(Integer limit, Integer offset, String sortOrder, String sortBy, String requiredAttributes);
+      public Response getAllEmailTemplateTypes(Integer limit, Integer offset, String sortOrder, String sortBy, String requiredAttributes, String locale);
 
-      public Response getEmailTemplate(String templateTypeId, String templateId, Integer limit, Integer offset, String sortOrder, String sortBy);
+      public Response getEmailTemplate(String templateTypeId, String templateId, Integer limit, Integer offset, String sortOrder, String sortBy, String ifNoneMatch);
 
-      public Response getEmailTemplateType(String templateTypeId, Integer limit, Integer offset, String sortOrder, String sortBy);
+      public Response getEmailTemplateType(String templateTypeId, Integer limit, Integer offset, String sortOrder, String sortBy, String locale, String ifNoneMatch);
 
-      public Response getTemplatesListOfEmailTemplateType(String templateTypeId, Integer limit, Integer offset, String sortOrder, String sortBy);
+      public Response getTemplatesListOfEmailTemplateType(String templateTypeId, Integer limit, Integer offset, String sortOrder, String sortBy, String locale);
 
       public Response updateEmailTemplate(String templateTypeId, String templateId, EmailTemplateWithID emailTemplateWithID);
 
       public Response updateEmailTemplateType(String templateTypeId, List<EmailTemplateWithID> emailTemplateWithID);
+
+      public Response upsertEmailTemplates(List<EmailTemplateType> emailTemplateType);
 }
@@ -0,0 +1,223 @@
+/*
+* Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.rest.api.server.email.template.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.Error;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class EmailTemplateUpsertResult  {
+
+    private String templateTypeId;
+    private String id;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("CREATED") CREATED(String.valueOf("CREATED")), @XmlEnumValue("UPDATED") UPDATED(String.valueOf("UPDATED")), @XmlEnumValue("FAILED") FAILED(String.valueOf("FAILED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private String self;
+    private Error error;
+
+    /**
+    * Unique ID of the email template type.
+    **/
+    public EmailTemplateUpsertResult templateTypeId(String templateTypeId) {
+
+        this.templateTypeId = templateTypeId;
+        return this;
+    }
+
+    @ApiModelProperty(example = "YWNjb3VudGNvbmZpcm1hdGlvbg", required = true, value = "Unique ID of the email template type.")
+    @JsonProperty("templateTypeId")
+    @Valid
+    @NotNull(message = "Property templateTypeId cannot be null.")
+
+    public String getTemplateTypeId() {
+        return templateTypeId;
+    }
+    public void setTemplateTypeId(String templateTypeId) {
+        this.templateTypeId = templateTypeId;
+    }
+
+    /**
+    * Unique ID of the email template. This id represents the locale of the email template.
+    **/
+    public EmailTemplateUpsertResult id(String id) {
+
+        this.id = id;
+        return this;
+    }
+
+    @ApiModelProperty(example = "en_US", required = true, value = "Unique ID of the email template. This id represents the locale of the email template.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * Result of adding or replacing the email template.
+    **/
+    public EmailTemplateUpsertResult status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+
+    @ApiModelProperty(example = "CREATED", required = true, value = "Result of adding or replacing the email template.")
+    @JsonProperty("status")
+    @Valid
+    @NotNull(message = "Property status cannot be null.")
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    * Location of the created/updated resource.
+    **/
+    public EmailTemplateUpsertResult self(String self) {
+
+        this.self = self;
+        return this;
+    }
+
+    @ApiModelProperty(example = "/t/{tenant-domain}/api/server/v1/email/template-types/YWNjb3VudGNvbmZpcm1hdGlvbg/templates/en_US", value = "Location of the created/updated resource.")
+    @JsonProperty("self")
+    @Valid
+    public String getSelf() {
+        return self;
+    }
+    public void setSelf(String self) {
+        this.self = self;
+    }
+
+    /**
+    **/
+    public EmailTemplateUpsertResult error(Error error) {
+
+        this.error = error;
+        return this;
+    }
+
+    @ApiModelProperty(value = "")
+    @JsonProperty("error")
+    @Valid
+    public Error getError() {
+        return error;
+    }
+    public void setError(Error error) {
+        this.error = error;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EmailTemplateUpsertResult emailTemplateUpsertResult = (EmailTemplateUpsertResult) o;
+        return Objects.equals(this.templateTypeId, emailTemplateUpsertResult.templateTypeId) &&
+            Objects.equals(this.id, emailTemplateUpsertResult.id) &&
+            Objects.equals(this.status, emailTemplateUpsertResult.status) &&
+            Objects.equals(this.self, emailTemplateUpsertResult.self) &&
+            Objects.equals(this.error, emailTemplateUpsertResult.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(templateTypeId, id, status, self, error);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class EmailTemplateUpsertResult {\n");
+
+        sb.append("    templateTypeId: ").append(toIndentedString(templateTypeId)).append("\n");
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    self: ").append(toIndentedString(self)).append("\n");
+        sb.append("    error: ").append(toIndentedString(error)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
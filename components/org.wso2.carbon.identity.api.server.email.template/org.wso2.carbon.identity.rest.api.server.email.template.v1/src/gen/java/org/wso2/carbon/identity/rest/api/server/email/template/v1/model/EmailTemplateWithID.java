@@ -32,6 +32,7 @@ import javax.xml.bind.annotation.*;
 public class EmailTemplateWithID extends EmailTemplate {
   
     private String id;
+    private String hash;
 
     /**
     * Unique ID of the email template. This id represents the locale of the email template.
@@ -54,6 +55,25 @@ public class EmailTemplateWithID extends EmailTemplate {
         this.id = id;
     }
 
+    /**
+    * Hash of the content of the email template, which is also its entity tag. Only returned when requested.
+    **/
+    public EmailTemplateWithID hash(String hash) {
+
+        this.hash = hash;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08", value = "Hash of the content of the email template, which is also its entity tag. Only returned when requested.")
+    @JsonProperty("hash")
+    @Valid
+    public String getHash() {
+        return hash;
+    }
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
 
 
     @Override
@@ -70,12 +90,13 @@ public class EmailTemplateWithID extends EmailTemplate {
         }
         
         EmailTemplateWithID emailTemplateWithID = (EmailTemplateWithID) o;
-        return Objects.equals(this.id, emailTemplateWithID.id);
+        return Objects.equals(this.id, emailTemplateWithID.id) &&
+            Objects.equals(this.hash, emailTemplateWithID.hash);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Objects.hash(id, hash);
     }
 
     @Override
@@ -85,6 +106,7 @@ public class EmailTemplateWithID extends EmailTemplate {
         sb.append("class EmailTemplateWithID {\n");
         sb.append("    ").append(toIndentedString(super.toString())).append("\n");
         sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    hash: ").append(toIndentedString(hash)).append("\n");
         sb.append("}");
         return sb.toString();
     }
@@ -36,14 +36,23 @@ import org.wso2.carbon.identity.api.server.email.template.common.EmailTemplatesS
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateUpsertResult;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateWithID;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.Error;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEmailTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -63,43 +72,51 @@ import static org.wso2.carbon.identity.api.server.email.template.common.Constant
 public class ServerEmailTemplatesService {
 
     private static final Log log = LogFactory.getLog(ServerEmailTemplatesService.class);
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+    private static final String ERROR_DELIMITER = "; ";
+    private static final int MAX_BATCH_EMAIL_TEMPLATES = 1000;
 
     /**
      * Return all email template types in the system with limited information of the templates inside.
      *
-     * @param limit     Limit the number of email template types in the response. **Not supported at the moment**
-     * @param offset    Offset to be used with the limit parameter. **Not supported at the moment**
+     * @param limit     Limit the number of email template types in the response.
+     * @param offset    Offset to be used with the limit parameter.
      * @param sortOrder Sort the response in ascending order or descending order. **Not supported at the moment**
      * @param sortBy    Element to sort the responses. **Not supported at the moment**
      * @param requiredAttributes Required attributes in the email template types list response.
+     * @param locale    Locale of the templates to include when the required attributes are given, or null for all the
+     *                  locales.
      * @return A list of email template types.
      */
     public List<EmailTemplateTypeWithoutTemplates> getAllEmailTemplateTypes(Integer limit, Integer offset,
                                                                             String sortOrder, String sortBy,
-                                                                            String requiredAttributes) {
+                                                                            String requiredAttributes,
+                                                                            String locale) {
 
-        handleNoteSupportedParameters(limit, offset, sortOrder, sortBy);
+        handleNotSupportedSortingParameters(sortOrder, sortBy);
+        validatePaginationParameters(limit, offset);
 
         try {
             List<String> requestedAttributeList = null;
-            List<EmailTemplate> allTemplates = null;
+            Map<String, List<EmailTemplate>> templatesOfTypes = null;
             List<String> availableTemplateTypes = EmailTemplatesServiceHolder.getEmailTemplateManager()
                     .getAvailableTemplateTypes(getTenantDomainFromContext());
+            List<String> templateTypes = paginate(availableTemplateTypes, limit, offset);
             if (StringUtils.isNotBlank(requiredAttributes)) {
                 requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
                 List<String> supportedAttributes =
                         Arrays.asList(Constants.TEMPLATES, Constants.LOCALE, Constants.CONTENT_TYPE, Constants.SUBJECT,
-                                Constants.BODY, Constants.FOOTER);
+                                Constants.BODY, Constants.FOOTER, Constants.HASH);
                 for (String requestedAttribute : requestedAttributeList) {
                     if (!supportedAttributes.contains(requestedAttribute)) {
                         throw handleError(Constants.ErrorMessage.ERROR_ATTRIBUTE_NOT_SUPPORTED);
                     }
                 }
-                allTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager()
-                        .getAllEmailTemplates(getTenantDomainFromContext());
+                templatesOfTypes = getEmailTemplatesOfTypes(templateTypes,
+                        templateTypes.size() == availableTemplateTypes.size(), locale);
             }
 
-            return buildEmailTemplateTypeWithoutTemplatesList(availableTemplateTypes, allTemplates,
+            return buildEmailTemplateTypeWithoutTemplatesList(templateTypes, templatesOfTypes,
                     requestedAttributeList);
         } catch (I18nEmailMgtException e) {
             throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_RETRIEVING_EMAIL_TEMPLATE_TYPES);
@@ -110,23 +127,26 @@ public class ServerEmailTemplatesService {
      * Return a specific email template type identified by the email template type id.
      *
      * @param templateTypeId Email template type id.
-     * @param limit          Limit the number of email template types in the response. **Not supported at the moment**
-     * @param offset         Offset to be used with the limit parameter. **Not supported at the moment**
+     * @param limit          Limit the number of email templates in the response.
+     * @param offset         Offset to be used with the limit parameter.
      * @param sortOrder      Sort the response in ascending order or descending order. **Not supported at the moment**
      * @param sortBy         Element to sort the responses. **Not supported at the moment**
+     * @param locale         Locale of the templates to include, or null for all the locales.
      * @return The email template type identified by the given id, 404 if not found.
      */
     public EmailTemplateTypeWithID getEmailTemplateType(String templateTypeId, Integer limit, Integer offset,
-                                                        String sortOrder, String sortBy) {
+                                                        String sortOrder, String sortBy, String locale) {
 
-        handleNoteSupportedParameters(limit, offset, sortOrder, sortBy);
+        handleNotSupportedSortingParameters(sortOrder, sortBy);
+        validatePaginationParameters(limit, offset);
 
         String decodedTemplateTypeId = decodeTemplateTypeId(templateTypeId);
 
         try {
             List<EmailTemplate> internalEmailTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager().
                     getEmailTemplateType(decodedTemplateTypeId, getTenantDomainFromContext());
-            return buildEmailTemplateTypeWithID(internalEmailTemplates, templateTypeId);
+            return buildEmailTemplateTypeWithID(
+                    paginate(filterByLocale(internalEmailTemplates, locale), limit, offset), templateTypeId);
         } catch (I18nEmailMgtException e) {
             if (StringUtils.equals(I18nMgtConstants.ErrorCodes.EMAIL_TEMPLATE_TYPE_NOT_FOUND, e.getErrorCode())) {
                 throw handleError(Constants.ErrorMessage.ERROR_EMAIL_TEMPLATE_TYPE_NOT_FOUND);
@@ -139,23 +159,26 @@ public class ServerEmailTemplatesService {
      * Return a list of locations of all available templates in a specific email template type.
      *
      * @param templateTypeId Email template type id.
-     * @param limit          Limit the number of email template types in the response. **Not supported at the moment**
-     * @param offset         Offset to be used with the limit parameter. **Not supported at the moment**
+     * @param limit          Limit the number of email templates in the response.
+     * @param offset         Offset to be used with the limit parameter.
      * @param sortOrder      Sort the response in ascending order or descending order. **Not supported at the moment**
      * @param sortBy         Element to sort the responses. **Not supported at the moment**
+     * @param locale         Locale of the templates to include, or null for all the locales.
      * @return List of SimpleEmailTemplate objects in the template type identified by the given id, 404 if not found.
      */
     public List<SimpleEmailTemplate> getTemplatesListOfEmailTemplateType(String templateTypeId, Integer limit,
                                                                          Integer offset, String sortOrder,
-                                                                         String sortBy) {
+                                                                         String sortBy, String locale) {
 
-        handleNoteSupportedParameters(limit, offset, sortOrder, sortBy);
+        handleNotSupportedSortingParameters(sortOrder, sortBy);
+        validatePaginationParameters(limit, offset);
 
         String templateTypeDisplayName = decodeTemplateTypeId(templateTypeId);
         try {
             List<EmailTemplate> internalEmailTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager().
                     getEmailTemplateType(templateTypeDisplayName, getTenantDomainFromContext());
-            return buildSimpleEmailTemplatesList(internalEmailTemplates, templateTypeId);
+            return buildSimpleEmailTemplatesList(
+                    paginate(filterByLocale(internalEmailTemplates, locale), limit, offset), templateTypeId);
         } catch (I18nEmailMgtException e) {
             if (StringUtils.equals(I18nMgtConstants.ErrorCodes.EMAIL_TEMPLATE_TYPE_NOT_FOUND, e.getErrorCode())) {
                 throw handleError(Constants.ErrorMessage.ERROR_EMAIL_TEMPLATE_TYPE_NOT_FOUND);
@@ -197,6 +220,35 @@ public class ServerEmailTemplatesService {
         }
     }
 
+    /**
+     * Return the entity tag of an email template, which is the hash of its content.
+     *
+     * @param emailTemplate Email template.
+     * @return Entity tag of the email template.
+     */
+    public String getEntityTag(EmailTemplateWithID emailTemplate) {
+
+        return getContentHash(emailTemplate.getId(), emailTemplate.getContentType(), emailTemplate.getSubject(),
+                emailTemplate.getBody(), emailTemplate.getFooter());
+    }
+
+    /**
+     * Return the entity tag of an email template type, which is the hash of the entity tags of its templates.
+     *
+     * @param emailTemplateType Email template type.
+     * @return Entity tag of the email template type.
+     */
+    public String getEntityTag(EmailTemplateTypeWithID emailTemplateType) {
+
+        List<String> contentHashes = new ArrayList<>();
+        contentHashes.add(emailTemplateType.getId());
+        contentHashes.add(emailTemplateType.getDisplayName());
+        for (EmailTemplateWithID emailTemplate : emailTemplateType.getTemplates()) {
+            contentHashes.add(getEntityTag(emailTemplate));
+        }
+        return getContentHash(contentHashes.toArray(new String[0]));
+    }
+
     /**
      * Adds a new email template type to the system. Another template with the same display name should not exists in
      * the system. 0 or more email templates can be provided.
@@ -356,7 +408,8 @@ public class ServerEmailTemplatesService {
                     isEmailTemplateTypeExists(templateTypeDisplayName, getTenantDomainFromContext());
             if (isTemplateTypeExists) {
                 // Delete all existing templates in the template type
-                EmailTemplateTypeWithID templateType = getEmailTemplateType(templateTypeId, null, null, null, null);
+                EmailTemplateTypeWithID templateType = getEmailTemplateType(templateTypeId, null, null, null, null,
+                        null);
                 for (EmailTemplateWithID template : templateType.getTemplates()) {
                     deleteEmailTemplate(templateTypeId, template.getId());
                 }
@@ -374,6 +427,153 @@ public class ServerEmailTemplatesService {
         }
     }
 
+    /**
+     * Add or replace the email templates of multiple email template types, adding the template types which do not
+     * exist. The whole batch is validated before any template is written. The existing templates of each template
+     * type are resolved once for the batch, instead of once per template.
+     *
+     * @param emailTemplateTypes Email template types with the email templates to be added or replaced.
+     * @return Result of each email template, in the order of the request.
+     */
+    public List<EmailTemplateUpsertResult> upsertEmailTemplates(List<EmailTemplateType> emailTemplateTypes) {
+
+        validateEmailTemplateBatch(emailTemplateTypes);
+
+        String tenantDomain = getTenantDomainFromContext();
+        // Locales of the existing templates against the normalized template type name.
+        Map<String, Set<String>> existingLocales = new HashMap<>();
+        Set<String> existingTemplateTypes = new HashSet<>();
+        try {
+            for (String templateType : EmailTemplatesServiceHolder.getEmailTemplateManager()
+                    .getAvailableTemplateTypes(tenantDomain)) {
+                existingTemplateTypes.add(I18nEmailUtil.getNormalizedName(templateType));
+            }
+        } catch (I18nEmailMgtException e) {
+            throw handleI18nEmailMgtException(e, Constants.ErrorMessage.ERROR_UPSERTING_EMAIL_TEMPLATES);
+        }
+
+        List<EmailTemplateUpsertResult> results = new ArrayList<>();
+        for (EmailTemplateType emailTemplateType : emailTemplateTypes) {
+            String templateTypeDisplayName = emailTemplateType.getDisplayName();
+            String templateTypeId = getEmailTemplateIdFromDisplayName(templateTypeDisplayName);
+            Set<String> locales;
+            try {
+                locales = getExistingLocales(templateTypeDisplayName, existingTemplateTypes, existingLocales,
+                        tenantDomain);
+            } catch (I18nEmailMgtException e) {
+                Error error = buildError(handleI18nEmailMgtException(e,
+                        Constants.ErrorMessage.ERROR_ADDING_EMAIL_TEMPLATE_TYPE));
+                for (EmailTemplateWithID emailTemplate : emailTemplateType.getTemplates()) {
+                    results.add(new EmailTemplateUpsertResult().templateTypeId(templateTypeId)
+                            .id(emailTemplate.getId()).status(EmailTemplateUpsertResult.StatusEnum.FAILED)
+                            .error(error));
+                }
+                continue;
+            }
+            for (EmailTemplateWithID emailTemplate : emailTemplateType.getTemplates()) {
+                boolean isTemplateExists = locales.contains(emailTemplate.getId());
+                EmailTemplateUpsertResult result = new EmailTemplateUpsertResult().templateTypeId(templateTypeId)
+                        .id(emailTemplate.getId());
+                try {
+                    addEmailTemplateToTheSystem(templateTypeDisplayName, emailTemplate);
+                    locales.add(emailTemplate.getId());
+                    result.status(isTemplateExists ? EmailTemplateUpsertResult.StatusEnum.UPDATED :
+                            EmailTemplateUpsertResult.StatusEnum.CREATED)
+                            .self(getTemplateLocation(templateTypeId, emailTemplate.getId()));
+                } catch (I18nEmailMgtException e) {
+                    result.status(EmailTemplateUpsertResult.StatusEnum.FAILED)
+                            .error(buildError(handleI18nEmailMgtException(e, isTemplateExists ?
+                                    Constants.ErrorMessage.ERROR_UPDATING_EMAIL_TEMPLATE :
+                                    Constants.ErrorMessage.ERROR_ADDING_EMAIL_TEMPLATE)));
+                }
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Return the locales of the existing templates of a template type, adding the template type if it does not exist.
+     * The locales are resolved once per template type, and the returned set is updated as templates are added.
+     */
+    private Set<String> getExistingLocales(String templateTypeDisplayName, Set<String> existingTemplateTypes,
+                                           Map<String, Set<String>> existingLocales, String tenantDomain)
+            throws I18nEmailMgtException {
+
+        String normalizedTemplateType = I18nEmailUtil.getNormalizedName(templateTypeDisplayName);
+        Set<String> locales = existingLocales.get(normalizedTemplateType);
+        if (locales != null) {
+            return locales;
+        }
+        locales = new HashSet<>();
+        if (existingTemplateTypes.contains(normalizedTemplateType)) {
+            for (EmailTemplate emailTemplate : EmailTemplatesServiceHolder.getEmailTemplateManager()
+                    .getEmailTemplateType(templateTypeDisplayName, tenantDomain)) {
+                locales.add(emailTemplate.getLocale());
+            }
+        } else {
+            EmailTemplatesServiceHolder.getEmailTemplateManager().addEmailTemplateType(templateTypeDisplayName,
+                    tenantDomain);
+            existingTemplateTypes.add(normalizedTemplateType);
+        }
+        existingLocales.put(normalizedTemplateType, locales);
+        return locales;
+    }
+
+    /**
+     * Validate the whole email template batch, reporting the errors of all the invalid items at once.
+     */
+    private void validateEmailTemplateBatch(List<EmailTemplateType> emailTemplateTypes) {
+
+        List<String> errors = new ArrayList<>();
+        if (CollectionUtils.isEmpty(emailTemplateTypes)) {
+            errors.add("No email template types are given.");
+        } else {
+            int templateCount = 0;
+            Set<String> templateKeys = new HashSet<>();
+            for (int i = 0; i < emailTemplateTypes.size(); i++) {
+                EmailTemplateType emailTemplateType = emailTemplateTypes.get(i);
+                if (emailTemplateType == null || StringUtils.isBlank(emailTemplateType.getDisplayName())) {
+                    errors.add("Email template type " + i + ": display name is required.");
+                    continue;
+                }
+                if (CollectionUtils.isEmpty(emailTemplateType.getTemplates())) {
+                    errors.add("Email template type " + i + ": at least one email template is required.");
+                    continue;
+                }
+                String normalizedTemplateType = I18nEmailUtil.getNormalizedName(emailTemplateType.getDisplayName());
+                for (int j = 0; j < emailTemplateType.getTemplates().size(); j++) {
+                    EmailTemplateWithID emailTemplate = emailTemplateType.getTemplates().get(j);
+                    templateCount++;
+                    if (emailTemplate == null || StringUtils.isBlank(emailTemplate.getId())) {
+                        errors.add("Email template type " + i + ", email template " + j + ": id is required.");
+                    } else if (!templateKeys.add(normalizedTemplateType + PATH_SEPARATOR + emailTemplate.getId())) {
+                        errors.add("Email template type " + i + ", email template " + j + ": duplicate email " +
+                                "template: " + emailTemplate.getId() + " of email template type: " +
+                                emailTemplateType.getDisplayName());
+                    }
+                }
+            }
+            if (templateCount > MAX_BATCH_EMAIL_TEMPLATES) {
+                errors.add("The batch contains " + templateCount + " email templates, which exceeds the maximum of " +
+                        MAX_BATCH_EMAIL_TEMPLATES + ".");
+            }
+        }
+        if (!errors.isEmpty()) {
+            Constants.ErrorMessage error = Constants.ErrorMessage.ERROR_INVALID_EMAIL_TEMPLATE_BATCH;
+            throw new APIError(error.getHttpStatus(),
+                    getErrorBuilder(error).withDescription(String.join(ERROR_DELIMITER, errors)).build());
+        }
+    }
+
+    private Error buildError(APIError apiError) {
+
+        return new Error().code(apiError.getResponseEntity().getCode())
+                .message(apiError.getResponseEntity().getMessage())
+                .description(apiError.getResponseEntity().getDescription())
+                .traceId(apiError.getResponseEntity().getRef());
+    }
+
     private void addEmailTemplateToTheSystem(String templateTypeDisplayName, EmailTemplateWithID emailTemplateWithID)
             throws I18nEmailMgtException {
 
@@ -412,18 +612,18 @@ public class ServerEmailTemplatesService {
     }
 
     /**
-     * Create a list EmailTemplateTypeWithoutTemplates objects by reading an internal EmailTemplate list.
+     * Create a list EmailTemplateTypeWithoutTemplates objects by reading the internal EmailTemplates of the types.
      *
-     * @param emailTemplateTypes List of available email template types.
-     * @param internalEmailTemplates List of EmailTemplate objects.
+     * @param emailTemplateTypes List of email template types to include, in order.
+     * @param internalEmailTemplates Email templates against the template type display name.
      * @param requestedAttributeList List of required attributes.
      * @return List of EmailTemplateTypeWithoutTemplates objects.
      */
     private List<EmailTemplateTypeWithoutTemplates> buildEmailTemplateTypeWithoutTemplatesList(
-            List<String> emailTemplateTypes, List<EmailTemplate> internalEmailTemplates,
+            List<String> emailTemplateTypes, Map<String, List<EmailTemplate>> internalEmailTemplates,
             List<String> requestedAttributeList) {
 
-        Map<String, EmailTemplateTypeWithoutTemplates> templateTypeMap = new HashMap<>();
+        List<EmailTemplateTypeWithoutTemplates> emailTemplateTypeList = new ArrayList<>();
         for (String templateType : emailTemplateTypes) {
 
             EmailTemplateTypeWithoutTemplates emailTemplateType = new EmailTemplateTypeWithoutTemplates();
@@ -435,56 +635,64 @@ public class ServerEmailTemplatesService {
             // Set location.
             emailTemplateType.setSelf(getTemplateTypeLocation(templateTypeId));
 
+            // Populate optional email template information if requested.
             if (requestedAttributeList != null) {
-                emailTemplateType.setTemplates(new ArrayList<>());
+                List<EmailTemplateWithID> templates = new ArrayList<>();
+                for (EmailTemplate emailTemplate :
+                        internalEmailTemplates.getOrDefault(templateType, Collections.emptyList())) {
+                    templates.add(buildEmailTemplateWithID(emailTemplate, requestedAttributeList));
+                }
+                emailTemplateType.setTemplates(templates);
             }
-            templateTypeMap.put(templateType, emailTemplateType);
+            emailTemplateTypeList.add(emailTemplateType);
         }
+        return emailTemplateTypeList;
+    }
 
-        // Populate optional email template information if exists.
-        if (requestedAttributeList != null) {
-            for (EmailTemplate emailTemplate : internalEmailTemplates) {
-                EmailTemplateWithID templateWithID = new EmailTemplateWithID();
-                for (String requestedAttribute : requestedAttributeList) {
-                    switch (requestedAttribute) {
-                        case Constants.TEMPLATES:
-                            templateWithID.setContentType(emailTemplate.getEmailContentType());
-                            templateWithID.setSubject(emailTemplate.getSubject());
-                            templateWithID.setBody(emailTemplate.getBody());
-                            templateWithID.setFooter(emailTemplate.getFooter());
-                            templateWithID.setId(emailTemplate.getLocale());
-                            break;
-                        case Constants.LOCALE:
-                            templateWithID.setId(emailTemplate.getLocale());
-                            break;
-                        case Constants.CONTENT_TYPE:
-                            templateWithID.setContentType(emailTemplate.getEmailContentType());
-                            break;
-                        case Constants.SUBJECT:
-                            templateWithID.setSubject(emailTemplate.getSubject());
-                            break;
-                        case Constants.BODY:
-                            templateWithID.setBody(emailTemplate.getBody());
-                            break;
-                        case Constants.FOOTER:
-                            templateWithID.setFooter(emailTemplate.getFooter());
-                            break;
-                        default:
-                            if (log.isDebugEnabled()) {
-                                log.debug("Unknown requested attribute: " + requestedAttribute);
-                            }
-                            break;
+    /**
+     * Convert an internal email template to a new Email Template object with only the requested attributes.
+     */
+    private EmailTemplateWithID buildEmailTemplateWithID(EmailTemplate emailTemplate,
+                                                         List<String> requestedAttributeList) {
+
+        EmailTemplateWithID templateWithID = new EmailTemplateWithID();
+        for (String requestedAttribute : requestedAttributeList) {
+            switch (requestedAttribute) {
+                case Constants.TEMPLATES:
+                    templateWithID.setContentType(emailTemplate.getEmailContentType());
+                    templateWithID.setSubject(emailTemplate.getSubject());
+                    templateWithID.setBody(emailTemplate.getBody());
+                    templateWithID.setFooter(emailTemplate.getFooter());
+                    templateWithID.setId(emailTemplate.getLocale());
+                    break;
+                case Constants.LOCALE:
+                    templateWithID.setId(emailTemplate.getLocale());
+                    break;
+                case Constants.CONTENT_TYPE:
+                    templateWithID.setContentType(emailTemplate.getEmailContentType());
+                    break;
+                case Constants.SUBJECT:
+                    templateWithID.setSubject(emailTemplate.getSubject());
+                    break;
+                case Constants.BODY:
+                    templateWithID.setBody(emailTemplate.getBody());
+                    break;
+                case Constants.FOOTER:
+                    templateWithID.setFooter(emailTemplate.getFooter());
+                    break;
+                case Constants.HASH:
+                    templateWithID.setHash(getContentHash(emailTemplate.getLocale(),
+                            emailTemplate.getEmailContentType(), emailTemplate.getSubject(), emailTemplate.getBody(),
+                            emailTemplate.getFooter()));
+                    break;
+                default:
+                    if (log.isDebugEnabled()) {
+                        log.debug("Unknown requested attribute: " + requestedAttribute);
                     }
-                }
-                /*
-                  Email template's display name is used to search templateTypeMap key because
-                  Template's display name and Template type's display name are equal.
-                 */
-                templateTypeMap.get(emailTemplate.getTemplateDisplayName()).getTemplates().add(templateWithID);
+                    break;
             }
         }
-
-        return new ArrayList<>(templateTypeMap.values());
+        return templateWithID;
     }
 
     /**
@@ -563,16 +771,111 @@ public class ServerEmailTemplatesService {
         return templateLocation + EMAIL_TEMPLATES_PATH + PATH_SEPARATOR + templateId;
     }
 
-    private void handleNoteSupportedParameters(Integer limit, Integer offset, String sortOrder, String sortBy) {
+    /**
+     * Get the email templates of the given template types, grouped by the template type display name.
+     *
+     * @param templateTypes      Display names of the template types.
+     * @param isAllTemplateTypes Whether the given template types are all the template types of the tenant, in which
+     *                           case the templates are retrieved at once instead of per template type.
+     * @param locale             Locale of the templates to include, or null for all the locales.
+     * @return Email templates against the template type display name.
+     * @throws I18nEmailMgtException If an error occurred while retrieving the email templates.
+     */
+    private Map<String, List<EmailTemplate>> getEmailTemplatesOfTypes(List<String> templateTypes,
+                                                                      boolean isAllTemplateTypes, String locale)
+            throws I18nEmailMgtException {
 
-        if (limit != null || offset != null) {
-            throw handleError(Constants.ErrorMessage.ERROR_PAGINATION_NOT_SUPPORTED);
+        Map<String, List<EmailTemplate>> templatesOfTypes = new HashMap<>();
+        if (isAllTemplateTypes) {
+            List<EmailTemplate> allTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager()
+                    .getAllEmailTemplates(getTenantDomainFromContext());
+            for (EmailTemplate emailTemplate : filterByLocale(allTemplates, locale)) {
+                /*
+                  Email template's display name is used as the key because
+                  Template's display name and Template type's display name are equal.
+                 */
+                templatesOfTypes.computeIfAbsent(emailTemplate.getTemplateDisplayName(), type -> new ArrayList<>())
+                        .add(emailTemplate);
+            }
+        } else {
+            // Only the templates of the requested page of template types are loaded.
+            for (String templateType : templateTypes) {
+                List<EmailTemplate> emailTemplates = EmailTemplatesServiceHolder.getEmailTemplateManager()
+                        .getEmailTemplateType(templateType, getTenantDomainFromContext());
+                templatesOfTypes.put(templateType, filterByLocale(emailTemplates, locale));
+            }
         }
+        return templatesOfTypes;
+    }
+
+    private List<EmailTemplate> filterByLocale(List<EmailTemplate> emailTemplates, String locale) {
+
+        if (emailTemplates == null) {
+            return Collections.emptyList();
+        }
+        if (StringUtils.isBlank(locale)) {
+            return emailTemplates;
+        }
+        return emailTemplates.stream()
+                .filter(emailTemplate -> locale.equals(emailTemplate.getLocale()))
+                .collect(Collectors.toList());
+    }
+
+    private <T> List<T> paginate(List<T> items, Integer limit, Integer offset) {
+
+        int fromIndex = offset == null ? 0 : Math.min(offset, items.size());
+        int toIndex = limit == null ? items.size() : (int) Math.min((long) fromIndex + limit, items.size());
+        return items.subList(fromIndex, toIndex);
+    }
+
+    /**
+     * Compute the SHA-256 hash of the given values. Each value is prefixed with its length, so that different values
+     * do not produce the same input when concatenated.
+     */
+    private String getContentHash(String... values) {
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(CONTENT_HASH_ALGORITHM + " is not supported by the runtime.", e);
+        }
+        for (String value : values) {
+            String lengthPrefix = (value == null ? -1 : value.length()) + ":";
+            digest.update(lengthPrefix.getBytes(StandardCharsets.UTF_8));
+            if (value != null) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        StringBuilder contentHash = new StringBuilder();
+        for (byte digestByte : digest.digest()) {
+            contentHash.append(String.format("%02x", digestByte));
+        }
+        return contentHash.toString();
+    }
+
+    private void validatePaginationParameters(Integer limit, Integer offset) {
+
+        if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+            throw handleError(Constants.ErrorMessage.ERROR_INVALID_PAGINATION_PARAMETERS);
+        }
+    }
+
+    private void handleNotSupportedSortingParameters(String sortOrder, String sortBy) {
+
         if (StringUtils.isNotBlank(sortOrder) || StringUtils.isNotBlank(sortBy)) {
             throw handleError(Constants.ErrorMessage.ERROR_SORTING_NOT_SUPPORTED);
         }
     }
 
+    private void handleNoteSupportedParameters(Integer limit, Integer offset, String sortOrder, String sortBy) {
+
+        if (limit != null || offset != null) {
+            throw handleError(Constants.ErrorMessage.ERROR_PAGINATION_NOT_SUPPORTED);
+        }
+        handleNotSupportedSortingParameters(sortOrder, sortBy);
+    }
+
     /**
      * Handle I18nEmailMgtException, i.e. extract error description from the exception and set to the
      * API Error Response, along with an status code to be sent in the response.
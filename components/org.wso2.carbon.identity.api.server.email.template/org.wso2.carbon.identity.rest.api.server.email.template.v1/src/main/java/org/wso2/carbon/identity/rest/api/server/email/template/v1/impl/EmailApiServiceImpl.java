@@ -16,16 +16,19 @@
 
 package org.wso2.carbon.identity.rest.api.server.email.template.v1.impl;
 
+import org.apache.commons.lang.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.EmailApiService;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.core.ServerEmailTemplatesService;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateType;
+import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateTypeWithoutTemplates;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.EmailTemplateWithID;
 import org.wso2.carbon.identity.rest.api.server.email.template.v1.model.SimpleEmailTemplate;
 
 import java.net.URI;
 import java.util.List;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
@@ -40,6 +43,9 @@ import static org.wso2.carbon.identity.api.server.email.template.common.Constant
  */
 public class EmailApiServiceImpl implements EmailApiService {
 
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+
     @Autowired
     private ServerEmailTemplatesService emailTemplatesService;
 
@@ -80,34 +86,38 @@ public class EmailApiServiceImpl implements EmailApiService {
 
     @Override
     public Response getAllEmailTemplateTypes(Integer limit, Integer offset, String sortOrder, String sortBy,
-                                             String requiredAttributes) {
+                                             String requiredAttributes, String locale) {
 
         return Response.ok().entity(emailTemplatesService
-                .getAllEmailTemplateTypes(limit, offset, sortOrder, sortBy, requiredAttributes)).build();
+                .getAllEmailTemplateTypes(limit, offset, sortOrder, sortBy, requiredAttributes, locale)).build();
     }
 
     @Override
     public Response getEmailTemplate(String templateTypeId, String templateId, Integer limit, Integer offset,
-                                     String sortOrder, String sortBy) {
+                                     String sortOrder, String sortBy, String ifNoneMatch) {
 
-        return Response.ok().entity(emailTemplatesService.
-                getEmailTemplate(templateTypeId, templateId, limit, offset, sortOrder, sortBy)).build();
+        EmailTemplateWithID emailTemplate = emailTemplatesService.getEmailTemplate(templateTypeId, templateId, limit,
+                offset, sortOrder, sortBy);
+        return buildConditionalResponse(emailTemplate, emailTemplatesService.getEntityTag(emailTemplate),
+                ifNoneMatch);
     }
 
     @Override
     public Response getEmailTemplateType(String templateTypeId, Integer limit, Integer offset, String sortOrder,
-                                         String sortBy) {
+                                         String sortBy, String locale, String ifNoneMatch) {
 
-        return Response.ok().entity(emailTemplatesService.
-                getEmailTemplateType(templateTypeId, limit, offset, sortOrder, sortBy)).build();
+        EmailTemplateTypeWithID emailTemplateType = emailTemplatesService.getEmailTemplateType(templateTypeId, limit,
+                offset, sortOrder, sortBy, locale);
+        return buildConditionalResponse(emailTemplateType, emailTemplatesService.getEntityTag(emailTemplateType),
+                ifNoneMatch);
     }
 
     @Override
     public Response getTemplatesListOfEmailTemplateType(String templateTypeId, Integer limit, Integer offset,
-                                                        String sortOrder, String sortBy) {
+                                                        String sortOrder, String sortBy, String locale) {
 
         return Response.ok().entity(emailTemplatesService.
-                getTemplatesListOfEmailTemplateType(templateTypeId, limit, offset, sortOrder, sortBy)).build();
+                getTemplatesListOfEmailTemplateType(templateTypeId, limit, offset, sortOrder, sortBy, locale)).build();
     }
 
     @Override
@@ -124,4 +134,42 @@ public class EmailApiServiceImpl implements EmailApiService {
         emailTemplatesService.updateEmailTemplateType(templateTypeId, emailTemplateWithID);
         return Response.ok().build();
     }
+
+    @Override
+    public Response upsertEmailTemplates(List<EmailTemplateType> emailTemplateType) {
+
+        return Response.ok().entity(emailTemplatesService.upsertEmailTemplates(emailTemplateType)).build();
+    }
+
+    /**
+     * Build a response with the entity tag of the entity, or a 304 response without the entity if the entity tag
+     * matches any of the entity tags held by the client.
+     */
+    private Response buildConditionalResponse(Object entity, String entityTagValue, String ifNoneMatch) {
+
+        EntityTag entityTag = new EntityTag(entityTagValue);
+        if (isMatchingEntityTag(ifNoneMatch, entityTagValue)) {
+            return Response.notModified(entityTag).build();
+        }
+        return Response.ok().entity(entity).tag(entityTag).build();
+    }
+
+    private boolean isMatchingEntityTag(String ifNoneMatch, String entityTagValue) {
+
+        if (StringUtils.isBlank(ifNoneMatch)) {
+            return false;
+        }
+        for (String entityTag : ifNoneMatch.split(",")) {
+            entityTag = entityTag.trim();
+            if (ANY_ENTITY_TAG.equals(entityTag)) {
+                return true;
+            }
+            // If-None-Match uses the weak comparison, hence weak entity tags of the same value also match.
+            entityTag = StringUtils.removeStart(entityTag, WEAK_ENTITY_TAG_PREFIX);
+            if (StringUtils.equals(StringUtils.strip(entityTag, "\""), entityTagValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
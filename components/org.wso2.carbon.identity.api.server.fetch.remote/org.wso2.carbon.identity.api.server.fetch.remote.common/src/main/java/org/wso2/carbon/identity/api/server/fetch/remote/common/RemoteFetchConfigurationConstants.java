@@ -40,9 +40,19 @@ public class RemoteFetchConfigurationConstants {
     public static final String CONFIGURATION_DEPLOYER = "configDeployer";
     public static final String CONFIGURATION_DEPLOYER_ATTRIBUTES = "configDeployerAttributes";
     public static final String WEBHOOK_REQUEST = "webHookRequest";
+    public static final String LIMIT = "limit";
+    public static final String OFFSET = "offset";
+    public static final String DEPLOYED_STATUS = "deployedStatus";
+    public static final String FILTER = "filter";
+    public static final String NAME = "name";
     public static final String SUCCESS = "SUCCESS";
     public static final String FAIL = "FAIL";
     public static final String REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT = "/remote-fetch";
+    public static final String REMOTE_FETCH_JOB_PATH_COMPONENT = "/jobs";
+    public static final String PAGINATION_LINK_FORMAT = "?offset=%d&limit=%d";
+    public static final String PAGINATION_WITH_FILTER_LINK_FORMAT = "?offset=%d&limit=%d&filter=%s";
+    public static final String PAGE_LINK_REL_NEXT = "next";
+    public static final String PAGE_LINK_REL_PREVIOUS = "previous";
 
     /**
      * Enum for error messages.
@@ -70,9 +80,16 @@ public class RemoteFetchConfigurationConstants {
         ERROR_CODE_ERROR_STATUS_REMOTE_FETCH("65007",
                 "Unable to get status for remote fetch .",
                 "Server encountered an error while getting status for the remote fetch for identifier %s."),
-        ERROR_CODE_ERROR_WEB_HOOK_REMOTE_FETCH("65008",
-                "Unable to handle web hook for remote fetch .",
-                "Server encountered an error while handling web hook."),
+        ERROR_CODE_ERROR_BUILDING_LINKS("65009",
+                "Unable to build pagination links.",
+                "Server encountered an error while building the pagination links. %s"),
+        ERROR_CODE_WEB_HOOK_QUEUE_FULL("65010",
+                "Unable to handle web hook for remote fetch.",
+                "Too many push events are waiting to be deployed. Retry the push event later."),
+        ERROR_CODE_RF_JOB_QUEUE_FULL("65011",
+                "Unable to trigger remote fetch.",
+                "Too many remote fetch jobs are queued or running. Retry triggering the remote fetch for " +
+                        "identifier %s later."),
         ERROR_CODE_INVALID_RE_CONFIG_INPUT("60001", "Invalid input.",
                 "Unable to create a remote fetch configuration. " +
                         "Input value for %s is Invalid or Missing."),
@@ -80,7 +97,13 @@ public class RemoteFetchConfigurationConstants {
                 "Unable to find a resource matching the provided " +
                         "remote fetch configuration identifier %s."),
         ERROR_CODE_COMMIT_NOT_FOUND("60003", "Commit not found.",
-                "Unable to find commit params.");
+                "Unable to find commit params."),
+        ERROR_CODE_RF_JOB_NOT_FOUND("60004", "Resource not found.",
+                "Unable to find a remote fetch job matching the provided identifier %s."),
+        ERROR_CODE_INVALID_QUERY_PARAM("60005", "Invalid input.",
+                "Input value for the query parameter %s is invalid."),
+        ERROR_CODE_UNSUPPORTED_FILTER("60006", "Unsupported filter.",
+                "Filtering by %s is not supported.");
 
         private final String code;
         private final String message;
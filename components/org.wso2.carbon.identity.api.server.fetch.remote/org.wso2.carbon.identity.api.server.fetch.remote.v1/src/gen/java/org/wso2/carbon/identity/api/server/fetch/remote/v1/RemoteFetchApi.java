@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJobResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.RemoteFetchApiService;
 
@@ -122,7 +123,7 @@ public class RemoteFetchApi  {
     
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "List remote fetch configurations ", notes = "This API provides the capability to retrieve the list of remotefetch configurations.<br> <b>Permission required:</b> <br> * None <br> <b>Scope required:</b> <br> * internal_login", response = RemoteFetchConfigurationListResponse.class, authorizations = {
+    @ApiOperation(value = "List remote fetch configurations ", notes = "This API provides the capability to retrieve the list of remotefetch configurations. The list can be paginated and filtered by the name, enabled state and repository URI of the configurations.<br> <b>Permission required:</b> <br> * None <br> <b>Scope required:</b> <br> * internal_login", response = RemoteFetchConfigurationListResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -137,9 +138,33 @@ public class RemoteFetchApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response getRemoteFetchConfigs() {
+    public Response getRemoteFetchConfigs(    @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew', 'eq' and 'ne' operations on the 'name' and 'isEnabled' attributes, combined with 'and' or 'or' operations. E.g. /remote-fetch?filter=name+sw+\"wso2\"+and+isEnabled+eq+\"true\"")  @QueryParam("filter") String filter) {
 
-        return delegate.getRemoteFetchConfigs();
+        return delegate.getRemoteFetchConfigs(limit,  offset,  filter );
+    }
+
+    @Valid
+    @GET
+    @Path("/{id}/jobs/{job-id}")
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Retrieve a remote fetch job of a remotefetch configuration. ", notes = "This API provides the state of a remote fetch job created by triggering the remote fetch configuration. The deployment counts of a running job are the deployments made since the job started, and are fixed once it finishes. Jobs are available for an hour after they finish. Jobs are held by the node which ran them and are not shared across a cluster, hence other nodes respond with 404 unless requests are routed to the same node. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = RemoteFetchJobResponse.class, authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Remote fetch Configuration Trigger", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "Successful Response", response = RemoteFetchJobResponse.class),
+        @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
+        @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
+        @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
+        @ApiResponse(code = 404, message = "Not Found", response = Error.class),
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+    })
+    public Response getRemoteFetchJob(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id, @ApiParam(value = "ID of the remote fetch job.",required=true) @PathParam("job-id") String jobId) {
+
+        return delegate.getRemoteFetchJob(id,  jobId );
     }
 
     @Valid
@@ -147,7 +172,7 @@ public class RemoteFetchApi  {
     @Path("/{id}/status")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "Retrieve latest Deployment status of remotefetch configuration. ", notes = "This API provides the status of remote fetch configuration. The status hold deployment status and the deployment failure details . <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = StatusListResponse.class, authorizations = {
+    @ApiOperation(value = "Retrieve latest Deployment status of remotefetch configuration. ", notes = "This API provides the status of remote fetch configuration. The status hold deployment status and the deployment failure details . The deployment counts and the last synchronized time are computed over all the deployment revisions on each request, as deployments are also made by web hooks and periodic polling rather than by remote fetch jobs, while the listed revisions can be paginated and filtered by their deployment status. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = StatusListResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -161,9 +186,9 @@ public class RemoteFetchApi  {
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
         @ApiResponse(code = 500, message = "Server Error", response = Error.class)
     })
-    public Response getStatus(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id) {
+    public Response getStatus(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id,     @Valid @Min(0)@ApiParam(value = "Maximum number of records to return.")  @QueryParam("limit") Integer limit,     @Valid @Min(0)@ApiParam(value = "Number of records to skip for pagination.")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Deployment status of the records to return.", allowableValues="SUCCESS, FAIL")  @QueryParam("deployedStatus") String deployedStatus) {
 
-        return delegate.getStatus(id );
+        return delegate.getStatus(id,  limit,  offset,  deployedStatus );
     }
 
     @Valid
@@ -171,7 +196,7 @@ public class RemoteFetchApi  {
     @Path("/webhook/sp")
     @Consumes({ "application/json", "application/xml" })
     @Produces({ "application/json" })
-    @ApiOperation(value = "Web hook endpoint for remote fetch configuration. ", notes = "This API provides the capability to handle web hook request from remote repository. <br> ", response = Void.class, authorizations = {
+    @ApiOperation(value = "Web hook endpoint for remote fetch configuration. ", notes = "This API provides the capability to handle web hook request from remote repository. The files of the push event are deployed asynchronously, along with the files of the other push events to the same repository and branch received within the debounce window. Push events are rejected with 503 while too many deployments are pending, and should then be redelivered. <br> ", response = Void.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
@@ -183,7 +208,8 @@ public class RemoteFetchApi  {
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
-        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
     })
     public Response handleWebHook(@ApiParam(value = "" ) @Valid PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
 
@@ -195,19 +221,20 @@ public class RemoteFetchApi  {
     @Path("/{id}/trigger")
     
     @Produces({ "application/json" })
-    @ApiOperation(value = "Trigger a remote fetch configuration. ", notes = "This API pprovides the capability to trigger given remotefetch configuration. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = Void.class, authorizations = {
+    @ApiOperation(value = "Trigger a remote fetch configuration. ", notes = "This API pprovides the capability to trigger given remotefetch configuration. The configuration is fetched and deployed asynchronously by a remote fetch job, whose location is returned. Triggering a configuration while its job is queued or running returns that job. Triggers are rejected with 503 while too many jobs are queued or running. <br> <b>Permission required:</b> <br>     * None <br> <b>Scope required:</b> <br>     * internal_login ", response = RemoteFetchJobResponse.class, authorizations = {
         @Authorization(value = "BasicAuth"),
         @Authorization(value = "OAuth2", scopes = {
             
         })
     }, tags={ "Remote fetch Configuration Trigger", })
     @ApiResponses(value = { 
-        @ApiResponse(code = 202, message = "Accepted.", response = Void.class),
+        @ApiResponse(code = 202, message = "Accepted.", response = RemoteFetchJobResponse.class),
         @ApiResponse(code = 400, message = "Bad Request", response = Error.class),
         @ApiResponse(code = 401, message = "Unauthorized", response = Void.class),
         @ApiResponse(code = 403, message = "Forbidden", response = Void.class),
         @ApiResponse(code = 404, message = "Not Found", response = Error.class),
-        @ApiResponse(code = 500, message = "Server Error", response = Error.class)
+        @ApiResponse(code = 500, message = "Server Error", response = Error.class),
+        @ApiResponse(code = 503, message = "Service Unavailable", response = Error.class)
     })
     public Response triggerRemoteFetch(@ApiParam(value = "ID of the remote fetch configuration.",required=true) @PathParam("id") String id) {
 
@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJobResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import javax.ws.rs.core.Response;
 
@@ -39,9 +40,11 @@ public interface RemoteFetchApiService {
 
       public Response getRemoteFetch(String id);
 
-      public Response getRemoteFetchConfigs();
+      public Response getRemoteFetchConfigs(Integer limit, Integer offset, String filter);
 
-      public Response getStatus(String id);
+      public Response getRemoteFetchJob(String id, String jobId);
+
+      public Response getStatus(String id, Integer limit, Integer offset, String deployedStatus);
 
       public Response handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest);
 
@@ -22,6 +22,7 @@ import io.swagger.annotations.ApiModel;
 import io.swagger.annotations.ApiModelProperty;
 import java.util.ArrayList;
 import java.util.List;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.Link;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListItem;
 import javax.validation.constraints.*;
 
@@ -34,6 +35,7 @@ import javax.xml.bind.annotation.*;
 public class RemoteFetchConfigurationListResponse  {
   
     private Integer count;
+    private List<Link> links = null;
     private List<RemoteFetchConfigurationListItem> remotefetchConfigurations = null;
 
 
@@ -55,6 +57,32 @@ public class RemoteFetchConfigurationListResponse  {
         this.count = count;
     }
 
+    /**
+    **/
+    public RemoteFetchConfigurationListResponse links(List<Link> links) {
+
+        this.links = links;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "")
+    @JsonProperty("links")
+    @Valid
+    public List<Link> getLinks() {
+        return links;
+    }
+    public void setLinks(List<Link> links) {
+        this.links = links;
+    }
+
+    public RemoteFetchConfigurationListResponse addLinksItem(Link linksItem) {
+        if (this.links == null) {
+            this.links = new ArrayList<>();
+        }
+        this.links.add(linksItem);
+        return this;
+    }
+
     /**
     **/
     public RemoteFetchConfigurationListResponse remotefetchConfigurations(List<RemoteFetchConfigurationListItem> remotefetchConfigurations) {
@@ -94,12 +122,13 @@ public class RemoteFetchConfigurationListResponse  {
         }
         RemoteFetchConfigurationListResponse remoteFetchConfigurationListResponse = (RemoteFetchConfigurationListResponse) o;
         return Objects.equals(this.count, remoteFetchConfigurationListResponse.count) &&
+            Objects.equals(this.links, remoteFetchConfigurationListResponse.links) &&
             Objects.equals(this.remotefetchConfigurations, remoteFetchConfigurationListResponse.remotefetchConfigurations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(count, remotefetchConfigurations);
+        return Objects.hash(count, links, remotefetchConfigurations);
     }
 
     @Override
@@ -109,6 +138,7 @@ public class RemoteFetchConfigurationListResponse  {
         sb.append("class RemoteFetchConfigurationListResponse {\n");
         
         sb.append("    count: ").append(toIndentedString(count)).append("\n");
+        sb.append("    links: ").append(toIndentedString(links)).append("\n");
         sb.append("    remotefetchConfigurations: ").append(toIndentedString(remotefetchConfigurations)).append("\n");
         sb.append("}");
         return sb.toString();
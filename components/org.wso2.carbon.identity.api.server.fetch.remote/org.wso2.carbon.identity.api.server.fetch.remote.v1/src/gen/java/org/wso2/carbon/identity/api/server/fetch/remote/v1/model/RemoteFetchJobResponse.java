@@ -0,0 +1,308 @@
+/*
+* Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class RemoteFetchJobResponse  {
+  
+    private String id;
+    private String remoteFetchConfigurationId;
+
+@XmlType(name="StatusEnum")
+@XmlEnum(String.class)
+public enum StatusEnum {
+
+    @XmlEnumValue("QUEUED") QUEUED(String.valueOf("QUEUED")), @XmlEnumValue("RUNNING") RUNNING(String.valueOf("RUNNING")), @XmlEnumValue("COMPLETED") COMPLETED(String.valueOf("COMPLETED")), @XmlEnumValue("FAILED") FAILED(String.valueOf("FAILED"));
+
+
+    private String value;
+
+    StatusEnum(String v) {
+        value = v;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+        for (StatusEnum b : StatusEnum.values()) {
+            if (b.value.equals(value)) {
+                return b;
+            }
+        }
+        throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+}
+
+    private StatusEnum status;
+    private String submittedTime;
+    private String startedTime;
+    private String completedTime;
+    private Integer successfulDeployments;
+    private Integer failedDeployments;
+    private String errorMessage;
+
+    /**
+    * Unique ID of the remote fetch job.
+    **/
+    public RemoteFetchJobResponse id(String id) {
+
+        this.id = id;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "f0d4e4a4-5b5c-4d7e-9d52-1a2b3c4d5e6f", required = true, value = "Unique ID of the remote fetch job.")
+    @JsonProperty("id")
+    @Valid
+    @NotNull(message = "Property id cannot be null.")
+
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+    * ID of the triggered remote fetch configuration.
+    **/
+    public RemoteFetchJobResponse remoteFetchConfigurationId(String remoteFetchConfigurationId) {
+
+        this.remoteFetchConfigurationId = remoteFetchConfigurationId;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "00000000-13e9-4ed5-afaf-000000000000", required = true, value = "ID of the triggered remote fetch configuration.")
+    @JsonProperty("remoteFetchConfigurationId")
+    @Valid
+    @NotNull(message = "Property remoteFetchConfigurationId cannot be null.")
+
+    public String getRemoteFetchConfigurationId() {
+        return remoteFetchConfigurationId;
+    }
+    public void setRemoteFetchConfigurationId(String remoteFetchConfigurationId) {
+        this.remoteFetchConfigurationId = remoteFetchConfigurationId;
+    }
+
+    /**
+    * State of the remote fetch job.
+    **/
+    public RemoteFetchJobResponse status(StatusEnum status) {
+
+        this.status = status;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "RUNNING", required = true, value = "State of the remote fetch job.")
+    @JsonProperty("status")
+    @Valid
+    @NotNull(message = "Property status cannot be null.")
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    /**
+    **/
+    public RemoteFetchJobResponse submittedTime(String submittedTime) {
+
+        this.submittedTime = submittedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2023-03-29T07:36:08Z", value = "")
+    @JsonProperty("submittedTime")
+    @Valid
+    public String getSubmittedTime() {
+        return submittedTime;
+    }
+    public void setSubmittedTime(String submittedTime) {
+        this.submittedTime = submittedTime;
+    }
+
+    /**
+    **/
+    public RemoteFetchJobResponse startedTime(String startedTime) {
+
+        this.startedTime = startedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2023-03-29T07:36:09Z", value = "")
+    @JsonProperty("startedTime")
+    @Valid
+    public String getStartedTime() {
+        return startedTime;
+    }
+    public void setStartedTime(String startedTime) {
+        this.startedTime = startedTime;
+    }
+
+    /**
+    **/
+    public RemoteFetchJobResponse completedTime(String completedTime) {
+
+        this.completedTime = completedTime;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2023-03-29T07:38:41Z", value = "")
+    @JsonProperty("completedTime")
+    @Valid
+    public String getCompletedTime() {
+        return completedTime;
+    }
+    public void setCompletedTime(String completedTime) {
+        this.completedTime = completedTime;
+    }
+
+    /**
+    * Number of successful deployments made by the job so far.
+    **/
+    public RemoteFetchJobResponse successfulDeployments(Integer successfulDeployments) {
+
+        this.successfulDeployments = successfulDeployments;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "120", value = "Number of successful deployments made by the job so far.")
+    @JsonProperty("successfulDeployments")
+    @Valid
+    public Integer getSuccessfulDeployments() {
+        return successfulDeployments;
+    }
+    public void setSuccessfulDeployments(Integer successfulDeployments) {
+        this.successfulDeployments = successfulDeployments;
+    }
+
+    /**
+    * Number of failed deployments made by the job so far.
+    **/
+    public RemoteFetchJobResponse failedDeployments(Integer failedDeployments) {
+
+        this.failedDeployments = failedDeployments;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2", value = "Number of failed deployments made by the job so far.")
+    @JsonProperty("failedDeployments")
+    @Valid
+    public Integer getFailedDeployments() {
+        return failedDeployments;
+    }
+    public void setFailedDeployments(Integer failedDeployments) {
+        this.failedDeployments = failedDeployments;
+    }
+
+    /**
+    * Error code and description of the failure of the job. The cause is only logged by the server.
+    **/
+    public RemoteFetchJobResponse errorMessage(String errorMessage) {
+
+        this.errorMessage = errorMessage;
+        return this;
+    }
+    
+    @ApiModelProperty(value = "Error code and description of the failure of the job. The cause is only logged by the server.")
+    @JsonProperty("errorMessage")
+    @Valid
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RemoteFetchJobResponse remoteFetchJobResponse = (RemoteFetchJobResponse) o;
+        return Objects.equals(this.id, remoteFetchJobResponse.id) &&
+            Objects.equals(this.remoteFetchConfigurationId, remoteFetchJobResponse.remoteFetchConfigurationId) &&
+            Objects.equals(this.status, remoteFetchJobResponse.status) &&
+            Objects.equals(this.submittedTime, remoteFetchJobResponse.submittedTime) &&
+            Objects.equals(this.startedTime, remoteFetchJobResponse.startedTime) &&
+            Objects.equals(this.completedTime, remoteFetchJobResponse.completedTime) &&
+            Objects.equals(this.successfulDeployments, remoteFetchJobResponse.successfulDeployments) &&
+            Objects.equals(this.failedDeployments, remoteFetchJobResponse.failedDeployments) &&
+            Objects.equals(this.errorMessage, remoteFetchJobResponse.errorMessage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, remoteFetchConfigurationId, status, submittedTime, startedTime, completedTime, successfulDeployments, failedDeployments, errorMessage);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class RemoteFetchJobResponse {\n");
+        
+        sb.append("    id: ").append(toIndentedString(id)).append("\n");
+        sb.append("    remoteFetchConfigurationId: ").append(toIndentedString(remoteFetchConfigurationId)).append("\n");
+        sb.append("    status: ").append(toIndentedString(status)).append("\n");
+        sb.append("    submittedTime: ").append(toIndentedString(submittedTime)).append("\n");
+        sb.append("    startedTime: ").append(toIndentedString(startedTime)).append("\n");
+        sb.append("    completedTime: ").append(toIndentedString(completedTime)).append("\n");
+        sb.append("    successfulDeployments: ").append(toIndentedString(successfulDeployments)).append("\n");
+        sb.append("    failedDeployments: ").append(toIndentedString(failedDeployments)).append("\n");
+        sb.append("    errorMessage: ").append(toIndentedString(errorMessage)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
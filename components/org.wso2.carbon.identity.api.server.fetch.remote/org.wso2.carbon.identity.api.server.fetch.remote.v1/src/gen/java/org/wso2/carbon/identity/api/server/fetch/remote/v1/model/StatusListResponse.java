@@ -34,6 +34,7 @@ import javax.xml.bind.annotation.*;
 public class StatusListResponse  {
   
     private Integer count;
+    private Integer totalResults;
     private Integer successfulDeployments;
     private Integer failedDeployments;
     private String lastSynchronizedTime;
@@ -58,6 +59,25 @@ public class StatusListResponse  {
         this.count = count;
     }
 
+    /**
+    * Number of deployment revisions matching the status filter.
+    **/
+    public StatusListResponse totalResults(Integer totalResults) {
+
+        this.totalResults = totalResults;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "250", value = "Number of deployment revisions matching the status filter.")
+    @JsonProperty("totalResults")
+    @Valid
+    public Integer getTotalResults() {
+        return totalResults;
+    }
+    public void setTotalResults(Integer totalResults) {
+        this.totalResults = totalResults;
+    }
+
     /**
     **/
     public StatusListResponse successfulDeployments(Integer successfulDeployments) {
@@ -151,6 +171,7 @@ public class StatusListResponse  {
         }
         StatusListResponse statusListResponse = (StatusListResponse) o;
         return Objects.equals(this.count, statusListResponse.count) &&
+            Objects.equals(this.totalResults, statusListResponse.totalResults) &&
             Objects.equals(this.successfulDeployments, statusListResponse.successfulDeployments) &&
             Objects.equals(this.failedDeployments, statusListResponse.failedDeployments) &&
             Objects.equals(this.lastSynchronizedTime, statusListResponse.lastSynchronizedTime) &&
@@ -159,7 +180,7 @@ public class StatusListResponse  {
 
     @Override
     public int hashCode() {
-        return Objects.hash(count, successfulDeployments, failedDeployments, lastSynchronizedTime, remoteFetchRevisionStatuses);
+        return Objects.hash(count, totalResults, successfulDeployments, failedDeployments, lastSynchronizedTime, remoteFetchRevisionStatuses);
     }
 
     @Override
@@ -169,6 +190,7 @@ public class StatusListResponse  {
         sb.append("class StatusListResponse {\n");
         
         sb.append("    count: ").append(toIndentedString(count)).append("\n");
+        sb.append("    totalResults: ").append(toIndentedString(totalResults)).append("\n");
         sb.append("    successfulDeployments: ").append(toIndentedString(successfulDeployments)).append("\n");
         sb.append("    failedDeployments: ").append(toIndentedString(failedDeployments)).append("\n");
         sb.append("    lastSynchronizedTime: ").append(toIndentedString(lastSynchronizedTime)).append("\n");
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.wso2.carbon.identity.remotefetch.common.DeploymentRevision;
+
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.FAIL;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.SUCCESS;
+
+/**
+ * Asynchronous run of a triggered remote fetch configuration.
+ *
+ * The deployment counts of a job are the deployments of the configuration made since the job started. They are
+ * refreshed while the job is running and are fixed once it finishes, so that a finished job is reported without
+ * reading the deployment revisions of the configuration again.
+ */
+public class RemoteFetchJob {
+
+    /**
+     * States of a remote fetch job.
+     */
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String tenantDomain;
+    private final String remoteFetchConfigurationId;
+    private final Date submittedTime = new Date();
+    private State state = State.QUEUED;
+    private Date startedTime;
+    private Date completedTime;
+    private int successfulDeployments;
+    private int failedDeployments;
+    private String errorMessage;
+
+    RemoteFetchJob(String tenantDomain, String remoteFetchConfigurationId) {
+
+        this.tenantDomain = tenantDomain;
+        this.remoteFetchConfigurationId = remoteFetchConfigurationId;
+    }
+
+    public String getId() {
+
+        return id;
+    }
+
+    public String getTenantDomain() {
+
+        return tenantDomain;
+    }
+
+    public String getRemoteFetchConfigurationId() {
+
+        return remoteFetchConfigurationId;
+    }
+
+    public Date getSubmittedTime() {
+
+        return submittedTime;
+    }
+
+    public synchronized State getState() {
+
+        return state;
+    }
+
+    public synchronized Date getStartedTime() {
+
+        return startedTime;
+    }
+
+    public synchronized Date getCompletedTime() {
+
+        return completedTime;
+    }
+
+    public synchronized int getSuccessfulDeployments() {
+
+        return successfulDeployments;
+    }
+
+    public synchronized int getFailedDeployments() {
+
+        return failedDeployments;
+    }
+
+    public synchronized String getErrorMessage() {
+
+        return errorMessage;
+    }
+
+    /**
+     * @return Whether the job is completed or failed.
+     */
+    public synchronized boolean isFinished() {
+
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    /**
+     * Count the deployments made since the job started, in a single pass over the deployment revisions of the
+     * configuration. The counts are not changed unless the job is running.
+     *
+     * @param deploymentRevisions Deployment revisions of the configuration.
+     */
+    public synchronized void updateDeploymentCounts(List<DeploymentRevision> deploymentRevisions) {
+
+        if (state != State.RUNNING || deploymentRevisions == null) {
+            return;
+        }
+        int successful = 0;
+        int failed = 0;
+        for (DeploymentRevision deploymentRevision : deploymentRevisions) {
+            if (deploymentRevision == null || deploymentRevision.getDeploymentStatus() == null ||
+                    deploymentRevision.getDeployedDate() == null ||
+                    deploymentRevision.getDeployedDate().before(startedTime)) {
+                continue;
+            }
+            String deploymentStatus = deploymentRevision.getDeploymentStatus().name();
+            if (SUCCESS.equals(deploymentStatus)) {
+                successful++;
+            } else if (FAIL.equals(deploymentStatus)) {
+                failed++;
+            }
+        }
+        successfulDeployments = successful;
+        failedDeployments = failed;
+    }
+
+    synchronized void start() {
+
+        state = State.RUNNING;
+        startedTime = new Date();
+    }
+
+    synchronized void complete(List<DeploymentRevision> deploymentRevisions) {
+
+        updateDeploymentCounts(deploymentRevisions);
+        state = State.COMPLETED;
+        completedTime = new Date();
+    }
+
+    synchronized void fail(String errorMessage) {
+
+        this.errorMessage = errorMessage;
+        state = State.FAILED;
+        completedTime = new Date();
+    }
+}
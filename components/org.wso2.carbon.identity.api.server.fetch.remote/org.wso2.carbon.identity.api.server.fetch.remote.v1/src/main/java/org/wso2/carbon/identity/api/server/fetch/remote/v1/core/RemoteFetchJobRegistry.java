@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextPropagatingExecutor;
+import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ErrorMessage;
+import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchServiceHolder;
+import org.wso2.carbon.identity.remotefetch.common.DeploymentRevision;
+import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfiguration;
+import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfigurationService;
+import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
+
+/**
+ * Registry of the remote fetch jobs, which runs the triggered remote fetch configurations asynchronously.
+ *
+ * A configuration of a tenant has at most one queued or running job. Triggering it again while a job is in progress
+ * returns that job instead of fetching the repository once more. Jobs are run within the carbon context of the
+ * request which triggered them, and are rejected when {@link #POOL_SIZE} jobs are running and {@link #QUEUE_SIZE}
+ * are queued, so that the repositories are never fetched on the request thread.
+ *
+ * Jobs are held in memory by the node which ran them, and are not shared across the nodes of a cluster. Finished
+ * jobs are kept for {@link #FINISHED_JOB_RETENTION_MILLIS}, or until {@link #MAX_JOBS} jobs are held.
+ */
+public class RemoteFetchJobRegistry {
+
+    private static final Log log = LogFactory.getLog(RemoteFetchJobRegistry.class);
+
+    private static final int POOL_SIZE = 2;
+    private static final int QUEUE_SIZE = 50;
+    private static final long FINISHED_JOB_RETENTION_MILLIS = 3600000L;
+    private static final int MAX_JOBS = 1000;
+
+    private static final RemoteFetchJobRegistry INSTANCE = new RemoteFetchJobRegistry();
+
+    private final ContextPropagatingExecutor executor =
+            new ContextPropagatingExecutor("RemoteFetchJob", POOL_SIZE, QUEUE_SIZE, false);
+    // Jobs against their IDs, in the order they were submitted.
+    private final Map<String, RemoteFetchJob> jobs = new LinkedHashMap<>();
+    // Queued or running jobs against the tenant domain and ID of their configuration.
+    private final Map<List<String>, RemoteFetchJob> activeJobs = new HashMap<>();
+
+    private RemoteFetchJobRegistry() {
+
+    }
+
+    public static RemoteFetchJobRegistry getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Submit a job to run the given remote fetch configuration.
+     *
+     * @param remoteFetchConfiguration Remote fetch configuration to be triggered.
+     * @return Submitted job, or the job of the configuration which is already queued or running.
+     * @throws RejectedExecutionException If too many jobs are queued or running.
+     */
+    public RemoteFetchJob submit(RemoteFetchConfiguration remoteFetchConfiguration) {
+
+        String tenantDomain = getTenantDomainFromContext();
+        String remoteFetchConfigurationId = remoteFetchConfiguration.getRemoteFetchConfigurationId();
+        List<String> key = Arrays.asList(tenantDomain, remoteFetchConfigurationId);
+        RemoteFetchJob job;
+        synchronized (jobs) {
+            RemoteFetchJob activeJob = activeJobs.get(key);
+            if (activeJob != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Remote fetch configuration: " + remoteFetchConfigurationId + " of tenant: " +
+                            tenantDomain + " is already being fetched by the job: " + activeJob.getId());
+                }
+                return activeJob;
+            }
+            removeFinishedJobs();
+            job = new RemoteFetchJob(tenantDomain, remoteFetchConfigurationId);
+            jobs.put(job.getId(), job);
+            activeJobs.put(key, job);
+        }
+        try {
+            executor.submit(() -> {
+                run(key, job, remoteFetchConfiguration);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (jobs) {
+                jobs.remove(job.getId());
+                activeJobs.remove(key, job);
+            }
+            log.warn("Too many remote fetch jobs are queued or running. Rejecting the job of the remote fetch " +
+                    "configuration: " + remoteFetchConfigurationId + " of tenant: " + tenantDomain);
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Get a job of a remote fetch configuration of the tenant in the context.
+     *
+     * @param remoteFetchConfigurationId ID of the remote fetch configuration.
+     * @param jobId                      ID of the job.
+     * @return Job, or null if the configuration has no such job on this node.
+     */
+    public RemoteFetchJob getJob(String remoteFetchConfigurationId, String jobId) {
+
+        RemoteFetchJob job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        if (job == null || !job.getTenantDomain().equals(getTenantDomainFromContext()) ||
+                !job.getRemoteFetchConfigurationId().equals(remoteFetchConfigurationId)) {
+            return null;
+        }
+        return job;
+    }
+
+    private void run(List<String> key, RemoteFetchJob job, RemoteFetchConfiguration remoteFetchConfiguration) {
+
+        RemoteFetchConfigurationService remoteFetchConfigurationService =
+                RemoteFetchServiceHolder.getRemoteFetchConfigurationService();
+        job.start();
+        try {
+            remoteFetchConfigurationService.triggerRemoteFetch(remoteFetchConfiguration);
+            List<DeploymentRevision> deploymentRevisions = null;
+            try {
+                deploymentRevisions = remoteFetchConfigurationService.getDeploymentRevisions(
+                        job.getRemoteFetchConfigurationId());
+            } catch (RemoteFetchCoreException e) {
+                log.warn("Error while counting the deployments of the remote fetch job: " + job.getId() +
+                        ". The deployment counts of the job may be incomplete.", e);
+            }
+            job.complete(deploymentRevisions);
+        } catch (RemoteFetchCoreException | RuntimeException e) {
+            log.error("Error while running the remote fetch job: " + job.getId() + " of the configuration: " +
+                    job.getRemoteFetchConfigurationId(), e);
+            // The job is exposed through the API, hence the backend error is only logged.
+            ErrorMessage errorMessage = ErrorMessage.ERROR_CODE_ERROR_TRIGGER_REMOTE_FETCH;
+            job.fail(errorMessage.getCode() + " - " +
+                    String.format(errorMessage.getDescription(), job.getRemoteFetchConfigurationId()));
+        } finally {
+            synchronized (jobs) {
+                activeJobs.remove(key, job);
+            }
+        }
+    }
+
+    /**
+     * Remove the finished jobs past their retention, and the oldest finished jobs while the registry is full.
+     */
+    private void removeFinishedJobs() {
+
+        long retainedAfter = System.currentTimeMillis() - FINISHED_JOB_RETENTION_MILLIS;
+        Iterator<RemoteFetchJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            RemoteFetchJob job = iterator.next();
+            if (job.isFinished() && (jobs.size() >= MAX_JOBS || job.getCompletedTime().getTime() < retainedAfter)) {
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -23,12 +23,16 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.Constants;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.query.InMemoryListQuery;
+import org.wso2.carbon.identity.api.server.common.query.ListQueryException;
 import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants;
 import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchServiceHolder;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.ActionListenerAttributes;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.Link;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.PushEventWebHookPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.PushEventWebHookPOSTRequestCommits;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationGetResponse;
@@ -36,6 +40,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConf
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJobResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RepositoryManagerAttributes;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListItem;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
@@ -46,15 +51,22 @@ import org.wso2.carbon.identity.remotefetch.common.RemoteFetchConfiguration;
 import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchClientException;
 import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
 import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchServerException;
+import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.ws.rs.core.Response;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ACCESS_TOKEN;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.ACTION_LISTENER;
@@ -62,9 +74,14 @@ import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetc
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.BRANCH;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.CONFIGURATION_DEPLOYER;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.CONFIGURATION_DEPLOYER_ATTRIBUTES;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DEPLOYED_STATUS;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.DIRECTORY;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.FILTER;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.FREQUENCY;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.IS_ENABLED;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.LIMIT;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.NAME;
+import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.OFFSET;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.REMOTE_FETCH_NAME;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.REPOSITORY_MANAGER;
 import static org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchConfigurationConstants.REPOSITORY_MANAGER_ATTRIBUTES;
@@ -82,25 +99,75 @@ public class ServerRemoteFetchConfigManagementService {
     private static final Log log = LogFactory.getLog(ServerRemoteFetchConfigManagementService.class);
 
     /**
-     * Get list of remote fetch configurations.
+     * Get list of remote fetch configurations. Without a filter, the page is retrieved from the backend. Otherwise the
+     * configurations are filtered and paginated after retrieving all of them, since the backend does not filter them.
      *
+     * @param limit  Maximum number of configurations to return.
+     * @param offset Number of configurations to skip.
+     * @param filter Filter on the name and enabled state of the configurations.
      * @return RemoteFetchConfigurationListResponse.
      */
-    public RemoteFetchConfigurationListResponse getRemoteFetchConfigs() {
-
-        OptionalInt optionalIntLimit = OptionalInt.empty();
-        OptionalInt optionalIntOffset = OptionalInt.empty();
+    public RemoteFetchConfigurationListResponse getRemoteFetchConfigs(Integer limit, Integer offset, String filter) {
 
+        validatePaginationParameters(limit, offset);
         try {
-            return createRemoteFetchConfigurationListResponse(RemoteFetchServiceHolder.
+            if (StringUtils.isBlank(filter)) {
+                OptionalInt optionalIntLimit = limit == null ? OptionalInt.empty() : OptionalInt.of(limit);
+                OptionalInt optionalIntOffset = offset == null ? OptionalInt.empty() : OptionalInt.of(offset);
+                return createRemoteFetchConfigurationListResponse(RemoteFetchServiceHolder.
+                        getRemoteFetchConfigurationService()
+                        .getBasicRemoteFetchConfigurationList(optionalIntLimit, optionalIntOffset), limit, offset,
+                        null, null);
+            }
+            List<BasicRemoteFetchConfiguration> basicRemoteFetchConfigurations = RemoteFetchServiceHolder.
                     getRemoteFetchConfigurationService()
-                    .getBasicRemoteFetchConfigurationList(optionalIntLimit, optionalIntOffset));
+                    .getBasicRemoteFetchConfigurationList(OptionalInt.empty(), OptionalInt.empty());
+            if (basicRemoteFetchConfigurations == null) {
+                basicRemoteFetchConfigurations = Collections.emptyList();
+            }
+            Predicate<BasicRemoteFetchConfiguration> filterPredicate = buildFilter(filter);
+            List<BasicRemoteFetchConfiguration> filteredConfigurations = new ArrayList<>();
+            for (BasicRemoteFetchConfiguration basicRemoteFetchConfiguration : basicRemoteFetchConfigurations) {
+                if (filterPredicate.test(basicRemoteFetchConfiguration)) {
+                    filteredConfigurations.add(basicRemoteFetchConfiguration);
+                }
+            }
+            int startIndex = Math.min(offset == null ? 0 : offset, filteredConfigurations.size());
+            int endIndex = limit == null ? filteredConfigurations.size() :
+                    (int) Math.min((long) startIndex + limit, filteredConfigurations.size());
+            return createRemoteFetchConfigurationListResponse(filteredConfigurations.subList(startIndex, endIndex),
+                    limit, offset, filter, filteredConfigurations.size());
         } catch (RemoteFetchCoreException e) {
             throw handleRemoteFetchConfigurationException(e, RemoteFetchConfigurationConstants.
                     ErrorMessage.ERROR_CODE_ERROR_LISTING_RF_CONFIGS, null);
         }
     }
 
+    /**
+     * Build the predicate of a filter on the remote fetch configurations. Only the attributes of the basic
+     * configurations are supported, so that filtering does not read each configuration from the backend.
+     *
+     * @param filter Filter.
+     * @return Predicate of the filter.
+     */
+    private Predicate<BasicRemoteFetchConfiguration> buildFilter(String filter) {
+
+        Map<String, Function<BasicRemoteFetchConfiguration, String>> attributes = new HashMap<>();
+        attributes.put(NAME, BasicRemoteFetchConfiguration::getRemoteFetchName);
+        attributes.put(IS_ENABLED, basicRemoteFetchConfiguration ->
+                String.valueOf(basicRemoteFetchConfiguration.isEnabled()));
+        try {
+            return new InMemoryListQuery<>(attributes).buildFilter(filter);
+        } catch (ListQueryException e) {
+            if (e.getReason() == ListQueryException.Reason.INVALID_FILTER) {
+                throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                        ErrorMessage.ERROR_CODE_INVALID_QUERY_PARAM, FILTER);
+            }
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER, e.getValue());
+        }
+    }
+
     /**
      * Delete an Remote fetch configuration.
      *
@@ -176,19 +243,26 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * Trigger remote fetch.
+     * Trigger remote fetch. The configuration is fetched and deployed asynchronously by a remote fetch job. The
+     * trigger is rejected as unavailable when too many jobs are queued or running.
      *
      * @param remoteFetchConfigurationId remoteFetchConfigurationId.
+     * @return Job of the triggered remote fetch, or the job already fetching the configuration.
      */
-    public void triggerRemoteFetch(String remoteFetchConfigurationId) {
+    public RemoteFetchJobResponse triggerRemoteFetch(String remoteFetchConfigurationId) {
 
         try {
             RemoteFetchConfiguration remoteFetchConfiguration =
                     RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
                             .getRemoteFetchConfiguration(remoteFetchConfigurationId);
             if (remoteFetchConfiguration != null) {
-                RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
-                        .triggerRemoteFetch(remoteFetchConfiguration);
+                try {
+                    return createRemoteFetchJobResponse(RemoteFetchJobRegistry.getInstance()
+                            .submit(remoteFetchConfiguration));
+                } catch (RejectedExecutionException e) {
+                    throw handleException(Response.Status.SERVICE_UNAVAILABLE, RemoteFetchConfigurationConstants.
+                            ErrorMessage.ERROR_CODE_RF_JOB_QUEUE_FULL, remoteFetchConfigurationId);
+                }
             } else {
                 throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
                         ErrorMessage.ERROR_CODE_RE_CONFIG_NOT_FOUND, remoteFetchConfigurationId);
@@ -199,6 +273,54 @@ public class ServerRemoteFetchConfigManagementService {
         }
     }
 
+    /**
+     * Get a job of a remote fetch configuration. The deployment counts of a running job are the deployments made
+     * since it started. Jobs are only known to the node which ran them.
+     *
+     * @param remoteFetchConfigurationId remoteFetchConfigurationId.
+     * @param jobId                      Job id.
+     * @return RemoteFetchJobResponse.
+     */
+    public RemoteFetchJobResponse getRemoteFetchJob(String remoteFetchConfigurationId, String jobId) {
+
+        RemoteFetchJob job = RemoteFetchJobRegistry.getInstance().getJob(remoteFetchConfigurationId, jobId);
+        if (job == null) {
+            throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_RF_JOB_NOT_FOUND, jobId);
+        }
+        if (job.getState() == RemoteFetchJob.State.RUNNING) {
+            try {
+                job.updateDeploymentCounts(RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
+                        .getDeploymentRevisions(remoteFetchConfigurationId));
+            } catch (RemoteFetchCoreException e) {
+                throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.
+                        ErrorMessage.ERROR_CODE_ERROR_STATUS_REMOTE_FETCH, remoteFetchConfigurationId);
+            }
+        }
+        return createRemoteFetchJobResponse(job);
+    }
+
+    /**
+     * Create the response of a remote fetch job.
+     *
+     * @param job RemoteFetchJob.
+     * @return RemoteFetchJobResponse.
+     */
+    private RemoteFetchJobResponse createRemoteFetchJobResponse(RemoteFetchJob job) {
+
+        RemoteFetchJobResponse remoteFetchJobResponse = new RemoteFetchJobResponse();
+        remoteFetchJobResponse.setId(job.getId());
+        remoteFetchJobResponse.setRemoteFetchConfigurationId(job.getRemoteFetchConfigurationId());
+        remoteFetchJobResponse.setStatus(RemoteFetchJobResponse.StatusEnum.valueOf(job.getState().name()));
+        convertDateToStringIfNotNull(job.getSubmittedTime(), remoteFetchJobResponse::setSubmittedTime);
+        convertDateToStringIfNotNull(job.getStartedTime(), remoteFetchJobResponse::setStartedTime);
+        convertDateToStringIfNotNull(job.getCompletedTime(), remoteFetchJobResponse::setCompletedTime);
+        remoteFetchJobResponse.setSuccessfulDeployments(job.getSuccessfulDeployments());
+        remoteFetchJobResponse.setFailedDeployments(job.getFailedDeployments());
+        remoteFetchJobResponse.setErrorMessage(job.getErrorMessage());
+        return remoteFetchJobResponse;
+    }
+
     /**
      * Add remote fetch configuration.
      *
@@ -270,9 +392,20 @@ public class ServerRemoteFetchConfigManagementService {
      * Get status of remote fetch.
      *
      * @param remoteFetchConfigurationId RemoteFetchConfigurationId.
+     * @param limit                      Maximum number of deployment revisions to return.
+     * @param offset                     Number of deployment revisions to skip.
+     * @param deployedStatus             Deployment status of the deployment revisions to return.
+     * @return StatusListResponse.
      */
-    public StatusListResponse getStatus(String remoteFetchConfigurationId) {
+    public StatusListResponse getStatus(String remoteFetchConfigurationId, Integer limit, Integer offset,
+                                        String deployedStatus) {
 
+        validatePaginationParameters(limit, offset);
+        if (deployedStatus != null && !RemoteFetchConfigurationConstants.SUCCESS.equals(deployedStatus) &&
+                !RemoteFetchConfigurationConstants.FAIL.equals(deployedStatus)) {
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_INVALID_QUERY_PARAM, DEPLOYED_STATUS);
+        }
         try {
             RemoteFetchConfiguration remoteFetchConfiguration =
                     RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
@@ -281,7 +414,7 @@ public class ServerRemoteFetchConfigManagementService {
             if (remoteFetchConfiguration != null) {
 
                 return createStatusListResponse(RemoteFetchServiceHolder.getRemoteFetchConfigurationService()
-                        .getDeploymentRevisions(remoteFetchConfigurationId));
+                        .getDeploymentRevisions(remoteFetchConfigurationId), limit, offset, deployedStatus);
             } else {
                 throw handleException(Response.Status.NOT_FOUND, RemoteFetchConfigurationConstants.
                         ErrorMessage.ERROR_CODE_RE_CONFIG_NOT_FOUND, remoteFetchConfigurationId);
@@ -292,44 +425,83 @@ public class ServerRemoteFetchConfigManagementService {
         }
     }
 
+    private void validatePaginationParameters(Integer limit, Integer offset) {
+
+        if (limit != null && limit < 0) {
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_INVALID_QUERY_PARAM, LIMIT);
+        }
+        if (offset != null && offset < 0) {
+            throw handleException(Response.Status.BAD_REQUEST, RemoteFetchConfigurationConstants.
+                    ErrorMessage.ERROR_CODE_INVALID_QUERY_PARAM, OFFSET);
+        }
+    }
+
     /**
      * This method is used to create status list from list of deployment revisions.
-     * This method uses java stream api to count successful deployments and failed deployments.
      *
      * @param deploymentRevisions List of deployment revisions.
      * @return StatusListResponse.
      */
     private StatusListResponse createStatusListResponse(List<DeploymentRevision> deploymentRevisions) {
 
+        return createStatusListResponse(deploymentRevisions, null, null, null);
+    }
+
+    /**
+     * This method is used to create a page of the status list from list of deployment revisions.
+     * The deployment counts and the last synchronized time are computed over all the deployment revisions, in the
+     * same pass which builds the status list items of the page.
+     *
+     * @param deploymentRevisions List of deployment revisions.
+     * @param limit               Maximum number of status list items, or null to include all of them.
+     * @param offset              Number of matching deployment revisions to skip, or null to skip none.
+     * @param deployedStatus      Deployment status of the deployment revisions to include, or null to include all.
+     * @return StatusListResponse.
+     */
+    private StatusListResponse createStatusListResponse(List<DeploymentRevision> deploymentRevisions, Integer limit,
+                                                        Integer offset, String deployedStatus) {
+
         StatusListResponse statusListResponse = new StatusListResponse();
         if (CollectionUtils.isNotEmpty(deploymentRevisions)) {
             List<StatusListItem> statusListItemList = new ArrayList<>();
+            int startIndex = offset == null ? 0 : offset;
+            int successfulDeployments = 0;
+            int failedDeployments = 0;
+            int totalResults = 0;
+            Date lastSynchronizedDate = null;
             for (DeploymentRevision deploymentRevision : deploymentRevisions) {
-                StatusListItem statusListItem = populateDeploymentRevision(deploymentRevision);
-                statusListItemList.add(statusListItem);
+                if (deploymentRevision == null) {
+                    continue;
+                }
+                String deploymentStatus = deploymentRevision.getDeploymentStatus().name();
+                if (RemoteFetchConfigurationConstants.SUCCESS.equals(deploymentStatus)) {
+                    successfulDeployments++;
+                } else if (RemoteFetchConfigurationConstants.FAIL.equals(deploymentStatus)) {
+                    failedDeployments++;
+                }
+                Date synchronizedDate = deploymentRevision.getLastSynchronizedDate();
+                if (synchronizedDate != null &&
+                        (lastSynchronizedDate == null || synchronizedDate.after(lastSynchronizedDate))) {
+                    lastSynchronizedDate = synchronizedDate;
+                }
+                if (deployedStatus != null && !deployedStatus.equals(deploymentStatus)) {
+                    continue;
+                }
+                if (totalResults >= startIndex && (limit == null || totalResults - startIndex < limit)) {
+                    statusListItemList.add(populateDeploymentRevision(deploymentRevision));
+                }
+                totalResults++;
             }
             statusListResponse.setRemoteFetchRevisionStatuses(statusListItemList);
-            statusListResponse.setSuccessfulDeployments(
-                    (int) deploymentRevisions.stream()
-                            .filter(Objects::nonNull)
-                            .filter(deploymentRevision ->
-                                    deploymentRevision.getDeploymentStatus().name()
-                                            .equals(RemoteFetchConfigurationConstants.SUCCESS)).count());
-            statusListResponse.setFailedDeployments(
-                    (int) deploymentRevisions.stream()
-                            .filter(Objects::nonNull)
-                            .filter(deploymentRevision ->
-                                    deploymentRevision.getDeploymentStatus().name()
-                                            .equals(RemoteFetchConfigurationConstants.FAIL)).count());
-            Date date = deploymentRevisions.stream()
-                    .map(DeploymentRevision::getLastSynchronizedDate)
-                    .max(Date::compareTo)
-                    .orElse(null);
-
-            convertDateToStringIfNotNull(date, statusListResponse::setLastSynchronizedTime);
-            return statusListResponse;
+            statusListResponse.setCount(statusListItemList.size());
+            statusListResponse.setTotalResults(totalResults);
+            statusListResponse.setSuccessfulDeployments(successfulDeployments);
+            statusListResponse.setFailedDeployments(failedDeployments);
+            convertDateToStringIfNotNull(lastSynchronizedDate, statusListResponse::setLastSynchronizedTime);
         } else {
             statusListResponse.setCount(0);
+            statusListResponse.setTotalResults(0);
         }
         return statusListResponse;
     }
@@ -527,10 +699,15 @@ public class ServerRemoteFetchConfigManagementService {
      * This method is create list item from basic remote fetch configuration list items.
      *
      * @param basicRemoteFetchConfigurationList List response.
+     * @param limit                             Requested limit.
+     * @param offset                            Requested offset.
+     * @param filter                            Requested filter.
+     * @param totalResults                      Number of configurations matching the filter, or null if unknown.
      * @return RemoteFetchConfigurationListResponse.
      */
     private RemoteFetchConfigurationListResponse createRemoteFetchConfigurationListResponse
-    (List<BasicRemoteFetchConfiguration> basicRemoteFetchConfigurationList) {
+    (List<BasicRemoteFetchConfiguration> basicRemoteFetchConfigurationList, Integer limit, Integer offset,
+     String filter, Integer totalResults) {
 
         RemoteFetchConfigurationListResponse remoteFetchConfigurationListResponse =
                 new RemoteFetchConfigurationListResponse();
@@ -546,9 +723,66 @@ public class ServerRemoteFetchConfigManagementService {
         } else {
             remoteFetchConfigurationListResponse.setCount(0);
         }
+        remoteFetchConfigurationListResponse.setLinks(createLinks(limit, offset,
+                remoteFetchConfigurationListResponse.getCount(), filter, totalResults));
         return remoteFetchConfigurationListResponse;
     }
 
+    /**
+     * Create the pagination links of a page of remote fetch configurations. When the total number of configurations
+     * is unknown, a full page is assumed to be followed by another page.
+     *
+     * @param limit                Requested limit.
+     * @param offset               Requested offset.
+     * @param resultsInCurrentPage Number of configurations in the page.
+     * @param filter               Requested filter.
+     * @param totalResults         Number of configurations matching the filter, or null if unknown.
+     * @return Pagination links.
+     */
+    private List<Link> createLinks(Integer limit, Integer offset, int resultsInCurrentPage, String filter,
+                                   Integer totalResults) {
+
+        List<Link> links = new ArrayList<>();
+        if (limit == null || limit == 0) {
+            return links;
+        }
+        int currentOffset = offset == null ? 0 : offset;
+        boolean hasNext = totalResults != null ? (long) currentOffset + limit < totalResults :
+                resultsInCurrentPage >= limit;
+        if (hasNext) {
+            links.add(buildPageLink(RemoteFetchConfigurationConstants.PAGE_LINK_REL_NEXT, currentOffset + limit,
+                    limit, filter));
+        }
+        if (currentOffset > 0) {
+            if (currentOffset - limit >= 0) {
+                links.add(buildPageLink(RemoteFetchConfigurationConstants.PAGE_LINK_REL_PREVIOUS,
+                        currentOffset - limit, limit, filter));
+            } else {
+                links.add(buildPageLink(RemoteFetchConfigurationConstants.PAGE_LINK_REL_PREVIOUS, 0, currentOffset,
+                        filter));
+            }
+        }
+        return links;
+    }
+
+    private Link buildPageLink(String rel, int offset, int limit, String filter) {
+
+        StringBuilder url = new StringBuilder(Constants.V1_API_PATH_COMPONENT +
+                RemoteFetchConfigurationConstants.REMOTE_FETCH_CONFIGURATION_PATH_COMPONENT);
+        if (StringUtils.isNotBlank(filter)) {
+            try {
+                url.append(String.format(RemoteFetchConfigurationConstants.PAGINATION_WITH_FILTER_LINK_FORMAT, offset,
+                        limit, URLEncoder.encode(filter, StandardCharsets.UTF_8.name())));
+            } catch (UnsupportedEncodingException e) {
+                throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.
+                        ErrorMessage.ERROR_CODE_ERROR_BUILDING_LINKS, "Unable to url-encode filter: " + filter);
+            }
+        } else {
+            url.append(String.format(RemoteFetchConfigurationConstants.PAGINATION_LINK_FORMAT, offset, limit));
+        }
+        return new Link().rel(rel).href(ContextLoader.buildURIForBody(url.toString()).toString());
+    }
+
     /**
      * This method is used to populate remote fetch configuration list item from basic remote fetch configuration.
      *
@@ -582,22 +816,21 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * This method is used to handle web hook.
+     * This method is used to handle web hook. The files of the push event are queued, to be deployed asynchronously
+     * along with the files of the other push events to the same repository and branch within the debounce window.
+     * The push event is rejected as unavailable when the queue is full.
      *
      * @param pushEventWebHookPOSTRequest WebHook Post request
      */
     public void handleWebHook(PushEventWebHookPOSTRequest pushEventWebHookPOSTRequest) {
 
-        try {
-            validateWebHookRequest(pushEventWebHookPOSTRequest);
-            String cloneURL = pushEventWebHookPOSTRequest.getRepository().getCloneUrl();
-            String branch = populateBranch(pushEventWebHookPOSTRequest.getRef());
-            List<String> modifiedFiles = extractAddedAndModifiedFiles(pushEventWebHookPOSTRequest.getCommits());
-            RemoteFetchServiceHolder
-                    .getRemoteFetchConfigurationService().handleWebHook(cloneURL, branch, modifiedFiles);
-        } catch (RemoteFetchCoreException e) {
-            throw handleException(Response.Status.INTERNAL_SERVER_ERROR, RemoteFetchConfigurationConstants.ErrorMessage
-                    .ERROR_CODE_ERROR_WEB_HOOK_REMOTE_FETCH, null);
+        validateWebHookRequest(pushEventWebHookPOSTRequest);
+        String cloneURL = pushEventWebHookPOSTRequest.getRepository().getCloneUrl();
+        String branch = populateBranch(pushEventWebHookPOSTRequest.getRef());
+        Set<String> modifiedFiles = extractAddedAndModifiedFiles(pushEventWebHookPOSTRequest.getCommits());
+        if (!WebHookEventQueue.getInstance().enqueue(cloneURL, branch, modifiedFiles)) {
+            throw handleException(Response.Status.SERVICE_UNAVAILABLE, RemoteFetchConfigurationConstants.ErrorMessage
+                    .ERROR_CODE_WEB_HOOK_QUEUE_FULL, null);
         }
     }
 
@@ -626,14 +859,14 @@ public class ServerRemoteFetchConfigManagementService {
     }
 
     /**
-     * This method is used to extract added or modified file names from the commit objects.
+     * This method is used to extract the distinct added or modified file names from the commit objects.
      *
      * @param commits List of commits
-     * @return List of FIle names
+     * @return File names, in the order of the commits.
      */
-    private List<String> extractAddedAndModifiedFiles(List<PushEventWebHookPOSTRequestCommits> commits) {
+    private Set<String> extractAddedAndModifiedFiles(List<PushEventWebHookPOSTRequestCommits> commits) {
 
-        List<String> fileNames = new ArrayList<>();
+        Set<String> fileNames = new LinkedHashSet<>();
         if (CollectionUtils.isNotEmpty(commits)) {
             for (PushEventWebHookPOSTRequestCommits commit : commits) {
                 fileNames.addAll(commit.getAdded());
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+import org.apache.commons.lang.math.NumberUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.ContextPropagatingExecutor;
+import org.wso2.carbon.identity.api.server.fetch.remote.common.RemoteFetchServiceHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.remotefetch.common.exceptions.RemoteFetchCoreException;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
+
+/**
+ * Queue of the web hook push events, which deploys the files of the events asynchronously.
+ *
+ * Events of the same repository and branch of a tenant which arrive within the debounce window are coalesced into a
+ * single deployment of the distinct files of all of them. The window starts with the first event of the repository
+ * and branch, and is configured by {@link #DEBOUNCE_WINDOW_PROPERTY} in milliseconds. The deployment is scheduled to
+ * run on a worker thread once the window ends, within the carbon context of the web hook request which started the
+ * window. Events of other repositories are rejected while {@link #MAX_PENDING_DEPLOYMENTS} deployments are waiting
+ * for their window to end or are being deployed. The depth of the queue and the ratio of the coalesced events are
+ * exposed over JMX under {@link #OBJECT_NAME}.
+ */
+public class WebHookEventQueue implements WebHookEventQueueMXBean {
+
+    private static final Log log = LogFactory.getLog(WebHookEventQueue.class);
+
+    public static final String OBJECT_NAME = "org.wso2.carbon.identity.api.server:type=RemoteFetchWebHookQueue";
+
+    private static final String DEBOUNCE_WINDOW_PROPERTY = "RemoteFetch.WebHook.DebounceWindowMillis";
+    private static final long DEFAULT_DEBOUNCE_WINDOW_MILLIS = 2000L;
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final int POOL_SIZE = 4;
+    private static final int MAX_PENDING_DEPLOYMENTS = 100;
+
+    private static final WebHookEventQueue INSTANCE = new WebHookEventQueue();
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final long debounceWindowMillis;
+    // Deployments waiting for their window to end, against the tenant domain, clone URL and branch.
+    private final Map<List<String>, PendingDeployment> pendingDeployments = new HashMap<>();
+    // Deployments whose window has ended, and are being deployed. Guarded by the pending deployments.
+    private int inFlightDeployments;
+    private final AtomicLong acceptedEvents = new AtomicLong();
+    private final AtomicLong deployments = new AtomicLong();
+
+    private WebHookEventQueue() {
+
+        long configuredWindowMillis = NumberUtils.toLong(IdentityUtil.getProperty(DEBOUNCE_WINDOW_PROPERTY),
+                DEFAULT_DEBOUNCE_WINDOW_MILLIS);
+        debounceWindowMillis = Math.max(configuredWindowMillis, 0L);
+        // The number of scheduled deployments is bounded by the pending deployments, hence the unbounded work queue
+        // of the scheduled executor does not grow beyond them.
+        scheduler = new ScheduledThreadPoolExecutor(POOL_SIZE,
+                new ContextPropagatingExecutor.NamedDaemonThreadFactory("RemoteFetchWebHook"));
+        scheduler.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        registerMBean();
+    }
+
+    public static WebHookEventQueue getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Queue the files of a push event for deployment.
+     *
+     * @param cloneURL Clone URL of the repository.
+     * @param branch   Branch of the push event.
+     * @param files    Added and modified files of the push event.
+     * @return Whether the files were queued. False if the queue is full, in which case the event should be retried.
+     */
+    public boolean enqueue(String cloneURL, String branch, Collection<String> files) {
+
+        List<String> key = Arrays.asList(getTenantDomainFromContext(), cloneURL, branch);
+        PendingDeployment newDeployment;
+        synchronized (pendingDeployments) {
+            PendingDeployment pendingDeployment = pendingDeployments.get(key);
+            if (pendingDeployment != null) {
+                pendingDeployment.files.addAll(files);
+                acceptedEvents.incrementAndGet();
+                return true;
+            }
+            if (pendingDeployments.size() + inFlightDeployments >= MAX_PENDING_DEPLOYMENTS) {
+                log.warn("Web hook queue is full with " + MAX_PENDING_DEPLOYMENTS + " pending deployments. " +
+                        "Rejecting the push event to branch: " + branch + " of: " + cloneURL);
+                return false;
+            }
+            newDeployment = new PendingDeployment(cloneURL, branch, files);
+            pendingDeployments.put(key, newDeployment);
+        }
+        PendingDeployment deployment = newDeployment;
+        Callable<Void> flush = ContextPropagatingExecutor.withCallerContext(() -> {
+            flush(key, deployment);
+            return null;
+        });
+        try {
+            scheduler.schedule(flush, debounceWindowMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            synchronized (pendingDeployments) {
+                pendingDeployments.remove(key, deployment);
+            }
+            log.error("Error while scheduling the deployment of the push event to branch: " + branch + " of: " +
+                    cloneURL, e);
+            return false;
+        }
+        acceptedEvents.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public int getQueueDepth() {
+
+        synchronized (pendingDeployments) {
+            return pendingDeployments.size() + inFlightDeployments;
+        }
+    }
+
+    @Override
+    public double getCoalesceRatio() {
+
+        long deploymentCount = deployments.get();
+        return deploymentCount == 0 ? 0 : (double) acceptedEvents.get() / deploymentCount;
+    }
+
+    @Override
+    public long getAcceptedEventCount() {
+
+        return acceptedEvents.get();
+    }
+
+    @Override
+    public long getDeploymentCount() {
+
+        return deployments.get();
+    }
+
+    /**
+     * Register the queue with the platform MBean server, replacing a queue registered by a previous deployment of the
+     * API.
+     */
+    private void registerMBean() {
+
+        try {
+            MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME);
+            try {
+                mBeanServer.registerMBean(this, objectName);
+            } catch (InstanceAlreadyExistsException e) {
+                mBeanServer.unregisterMBean(objectName);
+                mBeanServer.registerMBean(this, objectName);
+            }
+        } catch (JMException e) {
+            log.warn("Error while registering the statistics of the web hook queue over JMX.", e);
+        }
+    }
+
+    private void flush(List<String> key, PendingDeployment pendingDeployment) {
+
+        List<String> files;
+        synchronized (pendingDeployments) {
+            pendingDeployments.remove(key, pendingDeployment);
+            files = new ArrayList<>(pendingDeployment.files);
+            inFlightDeployments++;
+        }
+        try {
+            deploy(pendingDeployment.cloneURL, pendingDeployment.branch, files);
+        } catch (RemoteFetchCoreException | RuntimeException e) {
+            log.error("Error while deploying the files of the push events to branch: " + pendingDeployment.branch +
+                    " of: " + pendingDeployment.cloneURL, e);
+        } finally {
+            synchronized (pendingDeployments) {
+                inFlightDeployments--;
+            }
+        }
+    }
+
+    private void deploy(String cloneURL, String branch, List<String> files) throws RemoteFetchCoreException {
+
+        deployments.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Deploying " + files.size() + " files of the push events to branch: " + branch + " of: " +
+                    cloneURL + ". Queue depth: " + getQueueDepth() + ", coalesce ratio: " +
+                    String.format("%.2f", getCoalesceRatio()));
+        }
+        RemoteFetchServiceHolder.getRemoteFetchConfigurationService().handleWebHook(cloneURL, branch, files);
+    }
+
+    /**
+     * Distinct files of the push events to a repository and branch, which are not deployed yet.
+     */
+    private static class PendingDeployment {
+
+        private final String cloneURL;
+        private final String branch;
+        private final Set<String> files;
+
+        private PendingDeployment(String cloneURL, String branch, Collection<String> files) {
+
+            this.cloneURL = cloneURL;
+            this.branch = branch;
+            this.files = new LinkedHashSet<>(files);
+        }
+    }
+}
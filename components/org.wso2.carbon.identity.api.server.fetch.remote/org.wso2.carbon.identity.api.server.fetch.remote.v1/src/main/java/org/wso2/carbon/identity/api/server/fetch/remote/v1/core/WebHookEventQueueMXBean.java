@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.fetch.remote.v1.core;
+
+/**
+ * Management interface of the {@link WebHookEventQueue}, through which its statistics are exposed over JMX.
+ */
+public interface WebHookEventQueueMXBean {
+
+    /**
+     * @return Number of deployments waiting for their debounce window to end or being deployed.
+     */
+    int getQueueDepth();
+
+    /**
+     * @return Number of push events accepted per deployment, which is 1 when no events are coalesced.
+     */
+    double getCoalesceRatio();
+
+    /**
+     * @return Number of push events accepted for deployment.
+     */
+    long getAcceptedEventCount();
+
+    /**
+     * @return Number of deployments made.
+     */
+    long getDeploymentCount();
+}
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.PushEventWebHoo
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationListResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPOSTRequest;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchConfigurationPatchRequest;
+import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.RemoteFetchJobResponse;
 import org.wso2.carbon.identity.api.server.fetch.remote.v1.model.StatusListResponse;
 import java.net.URI;
 import javax.ws.rs.core.Response;
@@ -60,17 +61,24 @@ public class RemoteFetchApiServiceImpl implements RemoteFetchApiService {
     }
 
     @Override
-    public Response getRemoteFetchConfigs() {
+    public Response getRemoteFetchConfigs(Integer limit, Integer offset, String filter) {
 
         RemoteFetchConfigurationListResponse remoteFetchConfigurationListResponse =
-                serverRemoteFetchConfigManagementService.getRemoteFetchConfigs();
+                serverRemoteFetchConfigManagementService.getRemoteFetchConfigs(limit, offset, filter);
         return Response.ok().entity(remoteFetchConfigurationListResponse).build();
     }
 
     @Override
-    public Response getStatus(String id) {
+    public Response getRemoteFetchJob(String id, String jobId) {
 
-        StatusListResponse statusListResponse = serverRemoteFetchConfigManagementService.getStatus(id);
+        return Response.ok().entity(serverRemoteFetchConfigManagementService.getRemoteFetchJob(id, jobId)).build();
+    }
+
+    @Override
+    public Response getStatus(String id, Integer limit, Integer offset, String deployedStatus) {
+
+        StatusListResponse statusListResponse =
+                serverRemoteFetchConfigManagementService.getStatus(id, limit, offset, deployedStatus);
         return Response.ok().entity(statusListResponse).build();
     }
 
@@ -84,8 +92,10 @@ public class RemoteFetchApiServiceImpl implements RemoteFetchApiService {
     @Override
     public Response triggerRemoteFetch(String id) {
 
-        serverRemoteFetchConfigManagementService.triggerRemoteFetch(id);
-        return Response.accepted().build();
+        RemoteFetchJobResponse remoteFetchJobResponse = serverRemoteFetchConfigManagementService.triggerRemoteFetch(id);
+        return Response.accepted(remoteFetchJobResponse)
+                .location(getResourceLocation(id + RemoteFetchConfigurationConstants.REMOTE_FETCH_JOB_PATH_COMPONENT +
+                        "/" + remoteFetchJobResponse.getId())).build();
     }
 
     @Override
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.identity.governance.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
+import org.wso2.carbon.identity.api.server.identity.governance.common.GovernanceDataHolder;
+import org.wso2.carbon.identity.application.common.model.Property;
+import org.wso2.carbon.identity.governance.IdentityGovernanceException;
+import org.wso2.carbon.identity.governance.bean.ConnectorConfig;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of snapshots of the non confidential governance connector properties of the tenants, so that the connector
+ * preferences requested by the login, recovery and self sign up pages are served without reading the connectors
+ * from the backend on each request.
+ *
+ * A snapshot holds all the connectors of a tenant, which are read from the backend at once. Confidential properties
+ * are left out of the snapshot. As the connector properties are stored in the resident identity provider, snapshots
+ * are invalidated whenever the resident identity provider of the tenant is updated, through this or other APIs.
+ */
+public class ConnectorPropertyCache {
+
+    private static final Log log = LogFactory.getLog(ConnectorPropertyCache.class);
+
+    private static final long TIME_TO_LIVE_MILLIS = 30000L;
+    private static final int MAX_TENANTS = 100;
+
+    private static final ConnectorPropertyCache INSTANCE = new ConnectorPropertyCache();
+
+    private final ExpiringCache<String, Map<String, Map<String, String>>> connectorProperties =
+            new ExpiringCache<>("GovernanceConnectorProperties", TIME_TO_LIVE_MILLIS, MAX_TENANTS);
+
+    private ConnectorPropertyCache() {
+
+        TenantInvalidationTopic.RESIDENT_IDP.subscribe(connectorProperties::invalidate);
+    }
+
+    public static ConnectorPropertyCache getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the non confidential properties of the governance connectors of a tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return Unmodifiable map of the property values against the property names, against the connector names.
+     * @throws IdentityGovernanceException If an error occurred while retrieving the connectors.
+     */
+    public Map<String, Map<String, String>> getConnectorProperties(String tenantDomain)
+            throws IdentityGovernanceException {
+
+        return connectorProperties.get(tenantDomain, () -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Fetching the governance connectors of tenant: " + tenantDomain + " from the backend.");
+            }
+            return buildSnapshot(GovernanceDataHolder.getIdentityGovernanceService()
+                    .getConnectorListWithConfigs(tenantDomain));
+        });
+    }
+
+    /**
+     * Invalidate the connector properties of a tenant, along with the caches of other APIs derived from the resident
+     * identity provider of the tenant.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        TenantInvalidationTopic.RESIDENT_IDP.publish(tenantDomain);
+    }
+
+    private Map<String, Map<String, String>> buildSnapshot(List<ConnectorConfig> connectorConfigs) {
+
+        Map<String, Map<String, String>> snapshot = new HashMap<>();
+        if (connectorConfigs == null) {
+            return Collections.unmodifiableMap(snapshot);
+        }
+        for (ConnectorConfig connectorConfig : connectorConfigs) {
+            Map<String, String> properties = new LinkedHashMap<>();
+            if (connectorConfig.getProperties() != null) {
+                for (Property property : connectorConfig.getProperties()) {
+                    if (!property.isConfidential()) {
+                        properties.put(property.getName(), property.getValue());
+                    }
+                }
+            }
+            snapshot.put(connectorConfig.getName(), Collections.unmodifiableMap(properties));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+}
@@ -173,42 +173,40 @@ public class ServerIdentityGovernanceService {
     }
 
     /**
-     * Get governance connector properties according to the search attribute.
+     * Get governance connector properties according to the search attribute. The properties of all the requested
+     * connectors are served from a snapshot of the connectors of the tenant, which is read from the backend at once.
      *
      * @param preferenceSearchAttribute Governance connector details.
      * @return Governance connector properties for the given connector or properties.
      */
     public List<PreferenceResp> getConfigPreference(List<PreferenceSearchAttribute> preferenceSearchAttribute) {
 
-        IdentityGovernanceService identityGovernanceService = GovernanceDataHolder.getIdentityGovernanceService();
         String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        Map<String, Map<String, String>> connectorProperties;
+        try {
+            connectorProperties = ConnectorPropertyCache.getInstance().getConnectorProperties(tenantDomain);
+        } catch (IdentityGovernanceException e) {
+            GovernanceConstants.ErrorMessage errorEnum =
+                    GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
+            Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
+            throw handleException(e, errorEnum, status);
+        }
         List<PreferenceResp> preferenceRespList = new ArrayList<>();
         for (PreferenceSearchAttribute prefSearchAttr : preferenceSearchAttribute) {
             String connectorName = prefSearchAttr.getConnectorName();
             List<String> expectedProperties = prefSearchAttr.getProperties();
-            Property[] properties;
-            try {
-                ConnectorConfig connectorConfig = identityGovernanceService.getConnectorWithConfigs(tenantDomain,
+            Map<String, String> properties = connectorProperties.get(connectorName);
+            if (properties == null) {
+                throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
                         connectorName);
-                if (connectorConfig == null) {
-                    throw handleBadRequestError(GovernanceConstants.ErrorMessage.ERROR_CODE_INCORRECT_CONNECTOR_NAME,
-                            connectorName);
-                }
-                properties = connectorConfig.getProperties();
-                PreferenceResp preferenceResp =
-                        buildPreferenceRespDTO(connectorName, properties, expectedProperties);
-                preferenceRespList.add(preferenceResp);
-            } catch (IdentityGovernanceException e) {
-                GovernanceConstants.ErrorMessage errorEnum =
-                        GovernanceConstants.ErrorMessage.ERROR_CODE_ERROR_RETRIEVING_CONNECTOR_PREFERENCES;
-                Response.Status status = Response.Status.INTERNAL_SERVER_ERROR;
-                throw handleException(e, errorEnum, status);
             }
+            PreferenceResp preferenceResp = buildPreferenceRespDTO(connectorName, properties, expectedProperties);
+            preferenceRespList.add(preferenceResp);
         }
         return preferenceRespList;
     }
 
-    private PreferenceResp buildPreferenceRespDTO(String connectorName, Property[] properties,
+    private PreferenceResp buildPreferenceRespDTO(String connectorName, Map<String, String> properties,
                                                   List<String> expectedProperties) {
 
         PreferenceResp preferenceResp = new PreferenceResp();
@@ -219,7 +217,7 @@ public class ServerIdentityGovernanceService {
         return preferenceResp;
     }
 
-    private List<PropertyReq> buildPropertyReqDTO(Property[] properties, List<String> expectedProperties) {
+    private List<PropertyReq> buildPropertyReqDTO(Map<String, String> properties, List<String> expectedProperties) {
 
         if (expectedProperties != null) {
             return buildPropertyReqForExpectedAttributes(properties, expectedProperties);
@@ -228,44 +226,44 @@ public class ServerIdentityGovernanceService {
 
     }
 
-    private List<PropertyReq> buildPropertyReqForAllProperties(Property[] properties) {
+    private List<PropertyReq> buildPropertyReqForAllProperties(Map<String, String> properties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        for (Property property : properties) {
-            if (property.isConfidential()) {
-                continue;
-            }
-            createPropertyRequest(propertyReqList, property);
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            createPropertyRequest(propertyReqList, property.getKey(), property.getValue());
         }
         return propertyReqList;
     }
 
-    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Property[] properties,
+    /**
+     * Build the requested properties. Since the confidential properties are left out of the connector snapshots,
+     * requesting them is rejected in the same way as requesting an unknown property.
+     *
+     * @param properties         Non confidential properties of the connector.
+     * @param expectedProperties Names of the requested properties.
+     * @return Requested properties.
+     */
+    private List<PropertyReq> buildPropertyReqForExpectedAttributes(Map<String, String> properties,
                                                                     List<String> expectedProperties) {
 
         List<PropertyReq> propertyReqList = new ArrayList<>();
-        Map<String, Property> propertyMap = new HashMap<>();
-        for (Property property : properties) {
-            propertyMap.put(property.getName(), property);
-        }
         for (String expectedProperty : expectedProperties) {
-            Property property = propertyMap.get(expectedProperty);
-            if (property == null || property.isConfidential()) {
+            if (!properties.containsKey(expectedProperty)) {
                 throw handleException(new IdentityGovernanceException(GovernanceConstants.ErrorMessage
                                 .ERROR_CODE_UNSUPPORTED_PROPERTY_NAME.getMessage()), GovernanceConstants.
                                 ErrorMessage.ERROR_CODE_UNSUPPORTED_PROPERTY_NAME, Response.Status.BAD_REQUEST,
                         expectedProperty);
             }
-            createPropertyRequest(propertyReqList, property);
+            createPropertyRequest(propertyReqList, expectedProperty, properties.get(expectedProperty));
         }
         return propertyReqList;
     }
 
-    private void createPropertyRequest(List<PropertyReq> propertyReqList, Property property) {
+    private void createPropertyRequest(List<PropertyReq> propertyReqList, String name, String value) {
 
         PropertyReq propertyReq = new PropertyReq();
-        propertyReq.setName(property.getName());
-        propertyReq.setValue(property.getValue());
+        propertyReq.setName(name);
+        propertyReq.setValue(value);
         propertyReqList.add(propertyReq);
     }
 
@@ -292,7 +290,11 @@ public class ServerIdentityGovernanceService {
             for (PropertyReq propertyReqDTO : governanceConnector.getProperties()) {
                 configurationDetails.put(propertyReqDTO.getName(), propertyReqDTO.getValue());
             }
-            identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            try {
+                identityGovernanceService.updateConfiguration(tenantDomain, configurationDetails);
+            } finally {
+                ConnectorPropertyCache.getInstance().invalidate(tenantDomain);
+            }
 
         } catch (IdentityGovernanceException e) {
             GovernanceConstants.ErrorMessage errorEnum =
@@ -326,9 +326,9 @@ public class IdentityProvidersApi  {
     })
     public Response getIDPTemplates(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam
             ("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")
-    @QueryParam("offset") Integer offset, @Context SearchContext searchContext) {
+    @QueryParam("offset") Integer offset, @Context SearchContext searchContext,     @Valid@ApiParam(value = "Cursor of the page to be retrieved, as received in the 'next' link of the previous page. When a cursor is given, the 'offset' parameter is ignored and the pagination links are built with cursors. ")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the page to be retrieved, as received in the 'previous' link of the next page. When a cursor is given, the 'offset' parameter is ignored and the pagination links are built with cursors. ")  @QueryParam("before") String before) {
 
-        return delegate.getIDPTemplates(limit,  offset, searchContext );
+        return delegate.getIDPTemplates(limit,  offset, searchContext,  after,  before );
     }
 
     @Valid
@@ -351,9 +351,9 @@ public class IdentityProvidersApi  {
         @ApiResponse(code = 500, message = "Server Error", response = Error.class),
         @ApiResponse(code = 501, message = "Not Implemented", response = Error.class)
     })
-    public Response getIDPs(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /identity-providers?filter=name+sw+\"google\"+and+isEnabled+eq+\"true\" ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Defines the order in which the retrieved records should be sorted. _This parameter is not supported yet_ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet_ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response. _This parameter is not supported yet_ ")  @QueryParam("requiredAttributes") String requiredAttributes) {
+    public Response getIDPs(    @Valid@ApiParam(value = "Maximum number of records to return. ")  @QueryParam("limit") Integer limit,     @Valid@ApiParam(value = "Number of records to skip for pagination. ")  @QueryParam("offset") Integer offset,     @Valid@ApiParam(value = "Condition to filter the retrieval of records. Supports 'sw', 'co', 'ew' and 'eq' operations and also complex queries with 'and' operations. E.g. /identity-providers?filter=name+sw+\"google\"+and+isEnabled+eq+\"true\" ")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Defines the order in which the retrieved records should be sorted. _This parameter is not supported yet_ ", allowableValues="ASC, DESC")  @QueryParam("sortOrder") String sortOrder,     @Valid@ApiParam(value = "Attribute by which the retrieved records should be sorted. _This parameter is not supported yet_ ")  @QueryParam("sortBy") String sortBy,     @Valid@ApiParam(value = "Specifies the required parameters in the response. _This parameter is not supported yet_ ")  @QueryParam("requiredAttributes") String requiredAttributes,     @Valid@ApiParam(value = "Cursor of the page to be retrieved, as received in the 'next' link of the previous page. When a cursor is given, the 'offset' parameter is ignored and the pagination links are built with cursors. ")  @QueryParam("after") String after,     @Valid@ApiParam(value = "Cursor of the page to be retrieved, as received in the 'previous' link of the next page. When a cursor is given, the 'offset' parameter is ignored and the pagination links are built with cursors. ")  @QueryParam("before") String before) {
 
-        return delegate.getIDPs(limit,  offset,  filter,  sortOrder,  sortBy,  requiredAttributes );
+        return delegate.getIDPs(limit,  offset,  filter,  sortOrder,  sortBy,  requiredAttributes,  after,  before );
     }
 
     @Valid
@@ -72,9 +72,9 @@ public interface IdentityProvidersApiService {
 
       public Response getIDPTemplate(String templateId);
 
-      public Response getIDPTemplates(Integer limit, Integer offset, SearchContext searchContext);
+      public Response getIDPTemplates(Integer limit, Integer offset, SearchContext searchContext, String after, String before);
 
-      public Response getIDPs(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String requiredAttributes);
+      public Response getIDPs(Integer limit, Integer offset, String filter, String sortOrder, String sortBy, String requiredAttributes, String after, String before);
 
       public Response getJITConfig(String identityProviderId);
 
@@ -20,7 +20,6 @@ package org.wso2.carbon.identity.api.server.idp.v1.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.ArrayUtils;
@@ -32,6 +31,9 @@ import org.apache.cxf.jaxrs.ext.search.PrimitiveStatement;
 import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.DeepCopier;
+import org.wso2.carbon.identity.api.server.common.PaginationCursor;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.idp.common.Constants;
@@ -116,6 +118,7 @@ import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -144,6 +147,7 @@ import static org.wso2.carbon.identity.configuration.mgt.core.search.constant.Co
 public class ServerIdpManagementService {
 
     private static final Log log = LogFactory.getLog(ServerIdpManagementService.class);
+    private static final String REQUIRED_ATTRIBUTES_PARAM = "requiredAttributes";
 
     /**
      * Get list of identity providers.
@@ -154,20 +158,34 @@ public class ServerIdpManagementService {
      * @param filter     Filter string. E.g. filter="name" sw "google" and "isEnabled" eq "true"
      * @param sortBy     Attribute to sort the IDPs by. E.g. name
      * @param sortOrder  Order in which IDPs should be sorted. Can be either ASC or DESC.
+     * @param after      Cursor of the boundary after which the page starts.
+     * @param before     Cursor of the boundary before which the page ends.
      * @return IdentityProviderListResponse.
      */
     public IdentityProviderListResponse getIDPs(String requiredAttributes, Integer limit, Integer offset, String filter,
-                                                String sortBy, String sortOrder) {
+                                                String sortBy, String sortOrder, String after, String before) {
 
         try {
             List<String> requestedAttributeList = null;
             if (StringUtils.isNotBlank(requiredAttributes)) {
                 requestedAttributeList = new ArrayList<>(Arrays.asList(requiredAttributes.split(",")));
             }
+            PaginationCursor cursor = PaginationCursor.resolve(after, before, getLimitForCursor(limit));
+            Integer pageLimit = limit;
+            Map<String, String> cursorQueryParams = null;
+            if (cursor != null) {
+                offset = cursor.getOffset();
+                pageLimit = cursor.getLimit();
+                cursorQueryParams = new LinkedHashMap<>();
+                cursorQueryParams.put(PaginationCursor.FILTER_PARAM, filter);
+                cursorQueryParams.put(PaginationCursor.SORT_BY_PARAM, sortBy);
+                cursorQueryParams.put(PaginationCursor.SORT_ORDER_PARAM, sortOrder);
+                cursorQueryParams.put(REQUIRED_ATTRIBUTES_PARAM, requiredAttributes);
+            }
             return createIDPListResponse(
-                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPs(limit, offset, filter,
+                    IdentityProviderServiceHolder.getIdentityProviderManager().getIdPs(pageLimit, offset, filter,
                             sortBy, sortOrder, ContextLoader.getTenantDomainFromContext(), requestedAttributeList),
-                    requestedAttributeList);
+                    requestedAttributeList, getLimitForCursor(limit), cursorQueryParams);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDPS, null);
         }
@@ -235,9 +253,11 @@ public class ServerIdpManagementService {
             }
             IdentityProvider idpToUpdate = createIdPClone(identityProvider);
             processPatchRequest(patchRequest, idpToUpdate);
-            IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(identityProviderId, idpToUpdate,
-                            ContextLoader.getTenantDomainFromContext());
+            String tenantDomain = ContextLoader.getTenantDomainFromContext();
+            IdentityProvider updatedIdP = updateIdP(identityProviderId, idpToUpdate, tenantDomain);
+            if (!StringUtils.equals(identityProvider.getCertificate(), idpToUpdate.getCertificate())) {
+                TenantInvalidationTopic.CERTIFICATES.publish(tenantDomain);
+            }
             return createIDPResponse(updatedIdP);
 
         } catch (IdentityProviderManagementException e) {
@@ -512,9 +532,7 @@ public class ServerIdpManagementService {
             IdentityProvider idpToUpdate = createIdPClone(idp);
             updateFederatedAuthenticatorConfig(idpToUpdate, authenticatorRequest);
 
-            IdentityProvider updatedIdp = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(
-                            idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdp = updateIdP(idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
             return createFederatedAuthenticatorResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -573,9 +591,8 @@ public class ServerIdpManagementService {
                 idpToUpdate.setDefaultAuthenticatorConfig(null);
             }
 
-            IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(idpId, idpToUpdate, ContextLoader
-                            .getTenantDomainFromContext());
+            IdentityProvider updatedIdP = updateIdP(idpId, idpToUpdate, ContextLoader
+                    .getTenantDomainFromContext());
             return createFederatedAuthenticator(federatedAuthenticatorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_AUTHENTICATOR,
@@ -678,9 +695,7 @@ public class ServerIdpManagementService {
             IdentityProvider idpToUpdate = createIdPClone(idp);
             updateOutboundConnectorConfig(idpToUpdate, outboundConnectorRequest);
 
-            IdentityProvider updatedIdp = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(
-                            idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdp = updateIdP(idpId, idpToUpdate, ContextLoader.getTenantDomainFromContext());
             return createOutboundProvisioningResponse(updatedIdp);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP, StringUtils.EMPTY);
@@ -737,9 +752,8 @@ public class ServerIdpManagementService {
                 idpToUpdate.setDefaultProvisioningConnectorConfig(null);
             }
 
-            IdentityProvider updatedIdP = IdentityProviderServiceHolder.getIdentityProviderManager()
-                    .updateIdPByResourceId(idpId, idpToUpdate, ContextLoader
-                            .getTenantDomainFromContext());
+            IdentityProvider updatedIdP = updateIdP(idpId, idpToUpdate, ContextLoader
+                    .getTenantDomainFromContext());
             return createOutboundConnector(connectorId, updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CONNECTOR, connectorId);
@@ -780,7 +794,8 @@ public class ServerIdpManagementService {
 
         try {
             String tenantDomain = ContextLoader.getTenantDomainFromContext();
-            validateClaims(tenantDomain, claims);
+            LocalClaimIndex localClaimIndex = new LocalClaimIndex(tenantDomain);
+            validateClaims(tenantDomain, claims, localClaimIndex);
             IdentityProvider idP =
                     createIdPClone(IdentityProviderServiceHolder.getIdentityProviderManager().getIdPByResourceId(idpId,
                             tenantDomain, true));
@@ -789,10 +804,8 @@ public class ServerIdpManagementService {
                         idpId);
             }
             updateClaims(idP, claims);
-            IdentityProvider updatedIdP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
-                            idP, tenantDomain);
-            return createClaimResponse(updatedIdP.getClaimConfig());
+            IdentityProvider updatedIdP = updateIdP(idpId, idP, tenantDomain);
+            return createClaimResponse(updatedIdP.getClaimConfig(), localClaimIndex);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_CLAIMS, idpId);
         }
@@ -839,9 +852,7 @@ public class ServerIdpManagementService {
             }
             updateRoles(idP, roles);
 
-            IdentityProvider updatedIdP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
-                            idP, ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdP = updateIdP(idpId, idP, ContextLoader.getTenantDomainFromContext());
             return createRoleResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_ROLES, idpId);
@@ -911,9 +922,7 @@ public class ServerIdpManagementService {
             }
             updateJIT(idP, justInTimeProvisioningConfig);
 
-            IdentityProvider updatedIdP =
-                    IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
-                            idP, ContextLoader.getTenantDomainFromContext());
+            IdentityProvider updatedIdP = updateIdP(idpId, idP, ContextLoader.getTenantDomainFromContext());
             return createJITResponse(updatedIdP);
         } catch (IdentityProviderManagementException e) {
             throw handleIdPException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_IDP_JIT, idpId);
@@ -947,18 +956,27 @@ public class ServerIdpManagementService {
      * @param limit         Items per page.
      * @param offset        Offset.
      * @param searchContext Search Criteria. E.g. filter="name" sw "google" and "category" eq "DEFAULT"
+     * @param after         Cursor of the boundary after which the page starts.
+     * @param before        Cursor of the boundary before which the page ends.
      * @return List of identity templates.
      */
     public IdentityProviderTemplateListResponse getIDPTemplates(Integer limit, Integer offset, SearchContext
-            searchContext) {
+            searchContext, String after, String before) {
 
         try {
+            PaginationCursor cursor = PaginationCursor.resolve(after, before, getLimitForCursor(limit));
+            Integer pageLimit = limit;
+            if (cursor != null) {
+                offset = cursor.getOffset();
+                pageLimit = cursor.getLimit();
+            }
             TemplateManager templateManager = IdentityProviderServiceHolder.getTemplateManager();
             List<Template> templateList = templateManager.listTemplates(
-                    TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), limit, offset, getSearchCondition
+                    TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), pageLimit, offset, getSearchCondition
                             (TemplateMgtConstants.TemplateType.IDP_TEMPLATE.toString(), ContextLoader
                                     .getTenantDomainFromContext(), searchContext));
-            return createIDPTemplateListResponse(templateList, offset, limit, searchContext.getSearchExpression());
+            return createIDPTemplateListResponse(templateList, offset, limit, pageLimit,
+                    searchContext.getSearchExpression(), cursor != null);
         } catch (TemplateManagementException e) {
             throw handleTemplateMgtException(e, Constants.ErrorMessage.ERROR_CODE_ERROR_LISTING_IDP_TEMPLATES, null);
         }
@@ -1189,12 +1207,15 @@ public class ServerIdpManagementService {
      *
      * @param templateInfoList  List of IDP templates.
      * @param offset            Offset.
-     * @param limit             Limit.
+     * @param limit             Requested limit.
+     * @param pageLimit         Limit of the page, which a cursor can make smaller than the requested limit.
      * @param filter            IDP template filter.
+     * @param isCursorPaginated Whether the pagination links should be built with cursors.
      * @return {@link IdentityProviderTemplateListResponse}
      */
     private IdentityProviderTemplateListResponse createIDPTemplateListResponse(
-            List<Template> templateInfoList, Integer offset, Integer limit, String filter) {
+            List<Template> templateInfoList, Integer offset, Integer limit, Integer pageLimit, String filter,
+            boolean isCursorPaginated) {
 
         IdentityProviderTemplateListResponse idpTemplateListResponse = new IdentityProviderTemplateListResponse();
         if (!CollectionUtils.isEmpty(templateInfoList)) {
@@ -1237,8 +1258,15 @@ public class ServerIdpManagementService {
         offset = (offset == null) ? Integer.valueOf(0) : offset;
         idpTemplateListResponse.setTotalResults(templateInfoList.size());
         idpTemplateListResponse.setStartIndex(offset + 1);
-        idpTemplateListResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_TEMPLATE_PATH_COMPONENT,
-                limit, offset, templateInfoList.size(), filter));
+        if (isCursorPaginated) {
+            // The total number of templates is not known. Hence a full page is assumed to be followed by another.
+            idpTemplateListResponse.setLinks(createCursorLinks(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT +
+                    IDP_TEMPLATE_PATH_COMPONENT, getLimitForCursor(limit), getLimitForCursor(pageLimit), offset,
+                    templateInfoList.size(), null, Collections.singletonMap(PaginationCursor.FILTER_PARAM, filter)));
+        } else {
+            idpTemplateListResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_TEMPLATE_PATH_COMPONENT,
+                    limit, offset, templateInfoList.size(), filter));
+        }
         return idpTemplateListResponse;
     }
 
@@ -1832,14 +1860,19 @@ public class ServerIdpManagementService {
     }
 
     private IdentityProviderListResponse createIDPListResponse(IdpSearchResult idpSearchResult,
-                                                               List<String> requestedAttributeList) {
+                                                               List<String> requestedAttributeList,
+                                                               int requestedLimit,
+                                                               Map<String, String> cursorQueryParams) {
 
         List<IdentityProvider> idps = idpSearchResult.getIdPs();
         IdentityProviderListResponse listResponse = new IdentityProviderListResponse();
         if (CollectionUtils.isNotEmpty(idps)) {
             List<IdentityProviderListItem> identityProviderList = new ArrayList<>();
+            // The local claims are shared by all the IDPs of the page, hence fetched at most once.
+            LocalClaimIndex localClaimIndex = new LocalClaimIndex(ContextLoader.getTenantDomainFromContext());
             for (IdentityProvider idp : idps) {
-                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList);
+                IdentityProviderListItem listItem = populateIDPListResponse(idp, requestedAttributeList,
+                        localClaimIndex);
                 identityProviderList.add(listItem);
             }
             listResponse.setIdentityProviders(identityProviderList);
@@ -1850,14 +1883,23 @@ public class ServerIdpManagementService {
 
         listResponse.setTotalResults(idpSearchResult.getTotalIDPCount());
         listResponse.setStartIndex(idpSearchResult.getOffSet() + 1);
-        listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT, idpSearchResult
-                        .getLimit(), idpSearchResult.getOffSet(), idpSearchResult.getTotalIDPCount(), idpSearchResult
-                .getFilter()));
+        // The links of a cursor paginated listing carry all the query parameters of the listing, so that the pages
+        // they point to are sorted and populated the same way as the current page.
+        if (cursorQueryParams != null) {
+            listResponse.setLinks(createCursorLinks(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT, requestedLimit,
+                    idpSearchResult.getLimit(), idpSearchResult.getOffSet(), listResponse.getCount(),
+                    idpSearchResult.getTotalIDPCount(), cursorQueryParams));
+        } else {
+            listResponse.setLinks(createLinks(V1_API_PATH_COMPONENT + IDP_PATH_COMPONENT, idpSearchResult
+                            .getLimit(), idpSearchResult.getOffSet(), idpSearchResult.getTotalIDPCount(), idpSearchResult
+                    .getFilter()));
+        }
         return listResponse;
     }
 
     private IdentityProviderListItem populateIDPListResponse(IdentityProvider idp,
-                                                             List<String> requestedAttributeList) {
+                                                             List<String> requestedAttributeList,
+                                                             LocalClaimIndex localClaimIndex) {
 
         IdentityProviderListItem identityProviderListItem = new IdentityProviderListItem();
         // Create IDP basic information.
@@ -1890,7 +1932,7 @@ public class ServerIdpManagementService {
                         identityProviderListItem.setAlias(idp.getAlias());
                         break;
                     case Constants.CLAIMS:
-                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig()));
+                        identityProviderListItem.setClaims(createClaimResponse(idp.getClaimConfig(), localClaimIndex));
                         break;
                     case Constants.ROLES:
                         identityProviderListItem.setRoles(createRoleResponse(idp));
@@ -1936,6 +1978,21 @@ public class ServerIdpManagementService {
         return links;
     }
 
+    private List<Link> createCursorLinks(String url, int limit, int pageLimit, int offset, int resultsInCurrentPage,
+                                         Integer total, Map<String, String> queryParams) {
+
+        return PaginationCursor.buildLinks(limit, pageLimit, offset, resultsInCurrentPage, total, url, queryParams)
+                .entrySet()
+                .stream()
+                .map(link -> new Link().rel(link.getKey()).href(link.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    private int getLimitForCursor(Integer limit) {
+
+        return limit != null && limit > 0 ? limit : IdentityUtil.getDefaultItemsPerPage();
+    }
+
     private int calculateOffsetForPreviousLink(int offset, int limit, int total) {
 
         int newOffset = (offset - limit);
@@ -2022,6 +2079,11 @@ public class ServerIdpManagementService {
 
     private Claims createClaimResponse(ClaimConfig claimConfig) {
 
+        return createClaimResponse(claimConfig, new LocalClaimIndex(ContextLoader.getTenantDomainFromContext()));
+    }
+
+    private Claims createClaimResponse(ClaimConfig claimConfig, LocalClaimIndex localClaimIndex) {
+
         Claims apiClaims = new Claims();
         List<org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping> apiMappings = new ArrayList<>();
         List<ProvisioningClaim> provClaims = new ArrayList<>();
@@ -2035,7 +2097,8 @@ public class ServerIdpManagementService {
                     Claim localClaim = new Claim();
                     localClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                     localClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                    localClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri(),
+                            localClaimIndex));
                     apiMapping.setLocalClaim(localClaim);
                     // As the provisioning claims are added as claim mappings without any remote claim internally, we
                     // need to validate this here.
@@ -2052,7 +2115,8 @@ public class ServerIdpManagementService {
                         } else {
                             provClaim.setId(base64URLEncode(mapping.getLocalClaim().getClaimUri()));
                             provClaim.setUri(mapping.getLocalClaim().getClaimUri());
-                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(mapping.getLocalClaim().getClaimUri()));
+                            provClaim.setDisplayName(getDisplayNameOfLocalClaim(
+                                    mapping.getLocalClaim().getClaimUri(), localClaimIndex));
                         }
                         provClaimResponse.setClaim(provClaim);
                         provClaimResponse.setDefaultValue(mapping.getDefaultValue());
@@ -2062,17 +2126,17 @@ public class ServerIdpManagementService {
             }
 
             Claim roleClaim = new Claim();
-            if (getLocalClaim(claimConfig.getRoleClaimURI()) != null) {
+            if (getLocalClaim(claimConfig.getRoleClaimURI(), localClaimIndex) != null) {
                 roleClaim.setId(base64URLEncode(claimConfig.getRoleClaimURI()));
-                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI()));
+                roleClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getRoleClaimURI(), localClaimIndex));
             }
             roleClaim.setUri(claimConfig.getRoleClaimURI());
             apiClaims.setRoleClaim(roleClaim);
 
             Claim userIdClaim = new Claim();
-            if (getLocalClaim(claimConfig.getUserClaimURI()) != null) {
+            if (getLocalClaim(claimConfig.getUserClaimURI(), localClaimIndex) != null) {
                 userIdClaim.setId(base64URLEncode(claimConfig.getUserClaimURI()));
-                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI()));
+                userIdClaim.setDisplayName(getDisplayNameOfLocalClaim(claimConfig.getUserClaimURI(), localClaimIndex));
             }
             userIdClaim.setUri(claimConfig.getUserClaimURI());
             apiClaims.setUserIdClaim(userIdClaim);
@@ -2279,12 +2343,13 @@ public class ServerIdpManagementService {
     /**
      * Retrieves display name property of Local claim identified by local claim uri.
      *
-     * @param claimUri Local claim uri.
+     * @param claimUri        Local claim uri.
+     * @param localClaimIndex Local claims of the tenant.
      * @return Display Name.
      */
-    private String getDisplayNameOfLocalClaim(String claimUri) {
+    private String getDisplayNameOfLocalClaim(String claimUri, LocalClaimIndex localClaimIndex) {
 
-        LocalClaim localClaim = getLocalClaim(claimUri);
+        LocalClaim localClaim = getLocalClaim(claimUri, localClaimIndex);
         if (localClaim != null) {
             Map<String, String> localClaimProperties = localClaim.getClaimProperties();
             return localClaimProperties.get(Constants.PROP_DISPLAY_NAME);
@@ -2297,40 +2362,42 @@ public class ServerIdpManagementService {
     /**
      * Returns internal LocalClaim given local claim URI.
      *
-     * @param claimUri URI of the required local claim.
+     * @param claimUri        URI of the required local claim.
+     * @param localClaimIndex Local claims of the tenant.
      * @return Local Claim.
      */
-    private LocalClaim getLocalClaim(String claimUri) {
+    private LocalClaim getLocalClaim(String claimUri, LocalClaimIndex localClaimIndex) {
 
-        LocalClaim localClaim;
         try {
-            List<LocalClaim> localClaimList =
-                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(
-                            ContextLoader.getTenantDomainFromContext());
-
-            localClaim = extractLocalClaimFromClaimList(claimUri, localClaimList);
+            return localClaimIndex.get(claimUri);
         } catch (ClaimMetadataException e) {
             throw handleException(Response.Status.BAD_REQUEST,
                     Constants.ErrorMessage.ERROR_CODE_INVALID_LOCAL_CLAIM_ID, claimUri);
         }
-        return localClaim;
     }
 
     /**
-     * Extracts the LocalClaim corresponding to the given claim uri.
+     * Update an Identity Provider, notifying the caches derived from the resident Identity Provider when it is the
+     * one updated.
      *
-     * @param claimURI  Local claim uri.
-     * @param claimList Local claim list.
-     * @return LocalClaim.
+     * @param idpId        Identity Provider resource ID.
+     * @param idpToUpdate  Identity Provider with the updated values.
+     * @param tenantDomain Tenant domain.
+     * @return Updated Identity Provider.
+     * @throws IdentityProviderManagementException If an error occurred while updating the Identity Provider.
      */
-    private LocalClaim extractLocalClaimFromClaimList(String claimURI, List<LocalClaim> claimList) {
+    private IdentityProvider updateIdP(String idpId, IdentityProvider idpToUpdate, String tenantDomain)
+            throws IdentityProviderManagementException {
 
-        for (LocalClaim claim : claimList) {
-            if (StringUtils.equals(claim.getClaimURI(), claimURI)) {
-                return claim;
+        try {
+            return IdentityProviderServiceHolder.getIdentityProviderManager().updateIdPByResourceId(idpId,
+                    idpToUpdate, tenantDomain);
+        } finally {
+            if (IdentityApplicationConstants.RESIDENT_IDP_RESERVED_NAME.equals(
+                    idpToUpdate.getIdentityProviderName())) {
+                TenantInvalidationTopic.RESIDENT_IDP.publish(tenantDomain);
             }
         }
-        return null;
     }
 
     /**
@@ -2341,9 +2408,7 @@ public class ServerIdpManagementService {
      */
     private IdentityProvider createIdPClone(IdentityProvider idP) {
 
-        Gson gson = new Gson();
-        IdentityProvider clonedIdentityProvider = gson.fromJson(gson.toJson(idP), IdentityProvider.class);
-        return clonedIdentityProvider;
+        return DeepCopier.copyOrSerialize(idP, IdentityProvider.class);
     }
 
     /**
@@ -3128,12 +3193,14 @@ public class ServerIdpManagementService {
     /**
      * Validate the claim configs of an IDP.
      *
-     * @param tenantDomain Tenant domain.
-     * @param claims       Claim configs.
+     * @param tenantDomain    Tenant domain.
+     * @param claims          Claim configs.
+     * @param localClaimIndex Local claims of the tenant.
      * @throws IdentityProviderManagementException If an error while validating the claim configs or if an invalid
      *                                             config is found.
      */
-    private void validateClaims(String tenantDomain, Claims claims) throws IdentityProviderManagementException {
+    private void validateClaims(String tenantDomain, Claims claims, LocalClaimIndex localClaimIndex)
+            throws IdentityProviderManagementException {
 
         if (claims == null) {
             return;
@@ -3144,8 +3211,7 @@ public class ServerIdpManagementService {
 
         // EMPTY claimMappings indicate that the IDP is using local claim dialect.
         if (CollectionUtils.isEmpty(claimMappings)) {
-            List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-            Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+            Set<String> claimURIs = getLocalClaimURIs(tenantDomain, localClaimIndex);
             // Validate userClaimURI and roleClaimURI.
             if (StringUtils.isNotBlank(userClaimURI) && !claimURIs.contains(userClaimURI)) {
                 throw new IdentityProviderManagementClientException(
@@ -3164,8 +3230,7 @@ public class ServerIdpManagementService {
         validateUserAndRoleClaims(userClaimURI, roleClaimURI, claimMappings);
 
         // Validate LocalClaim objects against local claim URIs.
-        List<LocalClaim> localClaimsList = getLocalClaimURIs(tenantDomain);
-        Set<String> claimURIs = localClaimsList.stream().map(LocalClaim::getClaimURI).collect(Collectors.toSet());
+        Set<String> claimURIs = getLocalClaimURIs(tenantDomain, localClaimIndex);
         for (org.wso2.carbon.identity.api.server.idp.v1.model.ClaimMapping claimMapping : claimMappings) {
 
             // If a claim URI does not exist in claimURIs list, then that's a not existing URI.
@@ -3223,23 +3288,24 @@ public class ServerIdpManagementService {
     /**
      * Get the local claim URIs of the tenant.
      *
-     * @param tenantDomain Tenant domain.
-     * @return List of local claim URIs.
+     * @param tenantDomain    Tenant domain.
+     * @param localClaimIndex Local claims of the tenant.
+     * @return Set of local claim URIs.
      * @throws IdentityProviderManagementServerException If an error occurred while getting the claims list.
      */
-    private List<LocalClaim> getLocalClaimURIs(String tenantDomain) throws IdentityProviderManagementServerException {
+    private Set<String> getLocalClaimURIs(String tenantDomain, LocalClaimIndex localClaimIndex)
+            throws IdentityProviderManagementServerException {
 
         try {
-            List<LocalClaim> localClaimsList =
-                    IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(tenantDomain);
-            if (localClaimsList.isEmpty()) {
+            Set<String> localClaimURIs = localClaimIndex.getClaimURIs();
+            if (localClaimURIs.isEmpty()) {
                 if (log.isDebugEnabled()) {
                     log.debug("No local claims found for tenant:" + tenantDomain + ".Therefore, skipping " +
                             "local claim URI validation.");
                 }
-                return Collections.emptyList();
+                return Collections.emptySet();
             }
-            return localClaimsList;
+            return localClaimURIs;
         } catch (ClaimMetadataException e) {
             if (log.isDebugEnabled()) {
                 log.debug("Error occurred while validating the local claim URIs for tenant: " + tenantDomain, e);
@@ -3260,4 +3326,43 @@ public class ServerIdpManagementService {
                 .map(org.wso2.carbon.identity.api.server.idp.v1.model.Property::getKey)
                 .distinct().count() == properties.size();
     }
+
+    /**
+     * Local claims of a tenant indexed by the claim URI. The local claims are fetched on the first lookup, and an
+     * index is reused for all the claim lookups made while serving a request.
+     */
+    private static class LocalClaimIndex {
+
+        private final String tenantDomain;
+        private Map<String, LocalClaim> localClaims;
+
+        LocalClaimIndex(String tenantDomain) {
+
+            this.tenantDomain = tenantDomain;
+        }
+
+        LocalClaim get(String claimUri) throws ClaimMetadataException {
+
+            return getLocalClaims().get(claimUri);
+        }
+
+        Set<String> getClaimURIs() throws ClaimMetadataException {
+
+            return getLocalClaims().keySet();
+        }
+
+        private Map<String, LocalClaim> getLocalClaims() throws ClaimMetadataException {
+
+            if (localClaims == null) {
+                List<LocalClaim> localClaimList =
+                        IdentityProviderServiceHolder.getClaimMetadataManagementService().getLocalClaims(tenantDomain);
+                Map<String, LocalClaim> index = new HashMap<>(localClaimList.size());
+                for (LocalClaim localClaim : localClaimList) {
+                    index.putIfAbsent(localClaim.getClaimURI(), localClaim);
+                }
+                localClaims = index;
+            }
+            return localClaims;
+        }
+    }
 }
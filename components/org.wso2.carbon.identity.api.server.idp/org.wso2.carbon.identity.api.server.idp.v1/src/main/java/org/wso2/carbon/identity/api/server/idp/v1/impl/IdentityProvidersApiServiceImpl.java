@@ -127,17 +127,19 @@ public class IdentityProvidersApiServiceImpl implements IdentityProvidersApiServ
     }
 
     @Override
-    public Response getIDPTemplates(Integer limit, Integer offset, SearchContext searchContext) {
+    public Response getIDPTemplates(Integer limit, Integer offset, SearchContext searchContext, String after,
+                                    String before) {
 
-        return Response.ok().entity(idpManagementService.getIDPTemplates(limit, offset, searchContext)).build();
+        return Response.ok().entity(idpManagementService.getIDPTemplates(limit, offset, searchContext, after,
+                before)).build();
     }
 
     @Override
     public Response getIDPs(Integer limit, Integer offset, String filter, String sortOrder, String sortBy,
-                            String requiredAttributes) {
+                            String requiredAttributes, String after, String before) {
 
         return Response.ok().entity(idpManagementService.getIDPs(requiredAttributes, limit, offset, filter, sortBy,
-                sortOrder)).build();
+                sortOrder, after, before)).build();
     }
 
     @Override
@@ -24,9 +24,9 @@ public class KeyStoreConstants {
     public static final String CERTIFICATE_PATH_COMPONENT = "/certs" + "/%s";
     public static final String CLIENT_CERTIFICATE_PATH_COMPONENT = "/client-certs" + "/%s";
 
-    public static final String CERTIFICATE_FILE_EXTENSION = ".cer";
-    public static final String CERTIFICATE_TEMPORARY_DIRECTORY_PATH = "tmp/certs";
-    public static final String PATH_SEPERATOR = "/";
+    public static final String EXPORT_FORMAT_PEM = "pem";
+    public static final String EXPORT_FORMAT_JSON = "json";
+    public static final String PEM_MEDIA_TYPE = "application/x-pem-file";
 
     /**
      * Enum for Keystore management service related errors.
@@ -34,7 +34,7 @@ public class KeyStoreConstants {
     public enum ErrorMessage {
 
         ERROR_CODE_INVALID_ALIAS("KSS-60010", "There exists no certificate with alias: %s."),
-        ERROR_CODE_FILE_WRITE("KSS-65010", "Unable to create file: %s"),
+        ERROR_CODE_UNSUPPORTED_EXPORT_FORMAT("KSS-60011", "Unsupported certificate export format: %s."),
         ERROR_CODE_ENCODE_CERTIFICATE("KSS-65011", "Unable to encode the certificate with alias: %s.");
 
         private final String code;
@@ -17,6 +17,7 @@
 package org.wso2.carbon.identity.api.server.keystore.management.v1;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateExport;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.ErrorResponse;
@@ -62,6 +63,54 @@ public class KeystoresApi  {
         return delegate.deleteCertificate(alias );
     }
 
+    @Valid
+    @GET
+    @Path("/certs-export")
+    
+    @Produces({ "application/x-pem-file", "application/json" })
+    @ApiOperation(value = "exports the certificates of the keystore", notes = "This REST API can be used to export the certificates of the keystore at once", response = CertificateExport.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Certificates", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK.", response = CertificateExport.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Bad Request.", response = ErrorResponse.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = ErrorResponse.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden.", response = ErrorResponse.class),
+        @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
+    })
+    public Response exportCertificates(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Format of the exported certificates. 'pem' returns a bundle of PEM encoded certificates and 'json' returns the certificates along with their fingerprints and expiry times.", allowableValues="pem, json", defaultValue="pem") @DefaultValue("pem")  @QueryParam("format") String format) {
+
+        return delegate.exportCertificates(filter,  format );
+    }
+
+    @Valid
+    @GET
+    @Path("/client-certs-export")
+    
+    @Produces({ "application/x-pem-file", "application/json" })
+    @ApiOperation(value = "exports the certificates of the client truststore", notes = "This REST API can be used to export the certificates of the client truststore at once", response = CertificateExport.class, responseContainer = "List", authorizations = {
+        @Authorization(value = "BasicAuth"),
+        @Authorization(value = "OAuth2", scopes = {
+            
+        })
+    }, tags={ "Certificates", })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "OK.", response = CertificateExport.class, responseContainer = "List"),
+        @ApiResponse(code = 400, message = "Bad Request.", response = ErrorResponse.class),
+        @ApiResponse(code = 401, message = "Unauthorized.", response = ErrorResponse.class),
+        @ApiResponse(code = 403, message = "Resource Forbidden.", response = ErrorResponse.class),
+        @ApiResponse(code = 404, message = "Resource Not Found.", response = ErrorResponse.class),
+        @ApiResponse(code = 500, message = "Internal Server Error.", response = ErrorResponse.class)
+    })
+    public Response exportClientCertificates(    @Valid@ApiParam(value = "Condition to filter the retrival of records. Supports 'sw', 'co', 'ew' and 'eq' operations. E.g. keystores/certs?filter=alias+eq+wso2carbon")  @QueryParam("filter") String filter,     @Valid@ApiParam(value = "Format of the exported certificates. 'pem' returns a bundle of PEM encoded certificates and 'json' returns the certificates along with their fingerprints and expiry times.", allowableValues="pem, json", defaultValue="pem") @DefaultValue("pem")  @QueryParam("format") String format) {
+
+        return delegate.exportClientCertificates(filter,  format );
+    }
+
     @Valid
     @GET
     @Path("/certs/{alias}")
@@ -20,6 +20,7 @@ import org.wso2.carbon.identity.api.server.keystore.management.v1.*;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.*;
 import org.apache.cxf.jaxrs.ext.multipart.Attachment;
 import org.apache.cxf.jaxrs.ext.multipart.Multipart;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateExport;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.ErrorResponse;
@@ -31,6 +32,10 @@ public interface KeystoresApiService {
 
       public Response deleteCertificate(String alias);
 
+      public Response exportCertificates(String filter, String format);
+
+      public Response exportClientCertificates(String filter, String format);
+
       public Response getCertificate(String alias, Boolean encodeCert);
 
       public Response getCertificateAliases(String filter);
@@ -0,0 +1,167 @@
+/*
+* Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+* Licensed under the Apache License, Version 2.0 (the "License");
+* you may not use this file except in compliance with the License.
+* You may obtain a copy of the License at
+*
+* http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing, software
+* distributed under the License is distributed on an "AS IS" BASIS,
+* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+* See the License for the specific language governing permissions and
+* limitations under the License.
+*/
+
+package org.wso2.carbon.identity.api.server.keystore.management.v1.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+import javax.validation.Valid;
+import javax.xml.bind.annotation.*;
+
+public class CertificateExport  {
+  
+    private String alias;
+    private String certificate;
+    private String fingerprint;
+    private String expiry;
+
+    /**
+    **/
+    public CertificateExport alias(String alias) {
+
+        this.alias = alias;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "wso2carbon", required = true, value = "")
+    @JsonProperty("alias")
+    @Valid
+    @NotNull(message = "Property alias cannot be null.")
+
+    public String getAlias() {
+        return alias;
+    }
+    public void setAlias(String alias) {
+        this.alias = alias;
+    }
+
+    /**
+    **/
+    public CertificateExport certificate(String certificate) {
+
+        this.certificate = certificate;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "-----BEGIN CERTIFICATE-----\nMIIDqTCCApGgAwIBAgIEXbABozANBgkqhkiG9w0BAQsFADBkMQswCQYDVQQGEwJV...\n-----END CERTIFICATE-----\n", required = true, value = "")
+    @JsonProperty("certificate")
+    @Valid
+    @NotNull(message = "Property certificate cannot be null.")
+
+    public String getCertificate() {
+        return certificate;
+    }
+    public void setCertificate(String certificate) {
+        this.certificate = certificate;
+    }
+
+    /**
+    **/
+    public CertificateExport fingerprint(String fingerprint) {
+
+        this.fingerprint = fingerprint;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "5E:2C:8C:0B:7F:F4:6D:6D:93:2B:0C:58:BA:C5:55:1B:36:D8:C6:19:E1:4E:1C:2C:7C:8E:2F:57:49:1C:2A:42", required = true, value = "")
+    @JsonProperty("fingerprint")
+    @Valid
+    @NotNull(message = "Property fingerprint cannot be null.")
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+    **/
+    public CertificateExport expiry(String expiry) {
+
+        this.expiry = expiry;
+        return this;
+    }
+    
+    @ApiModelProperty(example = "2029-10-19T09:38:23Z", required = true, value = "")
+    @JsonProperty("expiry")
+    @Valid
+    @NotNull(message = "Property expiry cannot be null.")
+
+    public String getExpiry() {
+        return expiry;
+    }
+    public void setExpiry(String expiry) {
+        this.expiry = expiry;
+    }
+
+
+
+    @Override
+    public boolean equals(java.lang.Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CertificateExport certificateExport = (CertificateExport) o;
+        return Objects.equals(this.alias, certificateExport.alias) &&
+            Objects.equals(this.certificate, certificateExport.certificate) &&
+            Objects.equals(this.fingerprint, certificateExport.fingerprint) &&
+            Objects.equals(this.expiry, certificateExport.expiry);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(alias, certificate, fingerprint, expiry);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("class CertificateExport {\n");
+        
+        sb.append("    alias: ").append(toIndentedString(alias)).append("\n");
+        sb.append("    certificate: ").append(toIndentedString(certificate)).append("\n");
+        sb.append("    fingerprint: ").append(toIndentedString(fingerprint)).append("\n");
+        sb.append("    expiry: ").append(toIndentedString(expiry)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+    * Convert the given object to string with each line indented by 4 spaces
+    * (except the first line).
+    */
+    private String toIndentedString(java.lang.Object o) {
+
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n");
+    }
+}
+
@@ -20,23 +20,24 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
 import org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants;
+import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateExport;
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateResponse;
 import org.wso2.carbon.security.keystore.KeyStoreManagementException;
 import org.wso2.carbon.security.keystore.KeyStoreManagementServerException;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -45,15 +46,14 @@ import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.V1_API_PATH_COMPONENT;
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.buildURIForHeader;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_FILE_EXTENSION;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CERTIFICATE_TEMPORARY_DIRECTORY_PATH;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.CLIENT_CERTIFICATE_PATH_COMPONENT;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.EXPORT_FORMAT_JSON;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.EXPORT_FORMAT_PEM;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_ENCODE_CERTIFICATE;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_FILE_WRITE;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_INVALID_ALIAS;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_EXPORT_FORMAT;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.KEYSTORES_API_PATH_COMPONENT;
-import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PATH_SEPERATOR;
 import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreManagamentDataHolder.getKeyStoreManager;
 
 /**
@@ -63,6 +63,34 @@ public class KeyStoreService {
 
     private static final Log LOG = LogFactory.getLog(KeyStoreService.class);
 
+    private static final String KEYSTORE = "keystore";
+    private static final String CLIENT_TRUSTSTORE = "client-truststore";
+    private static final String PUBLIC_CERTIFICATE = "public";
+    private static final String ENCODED = "encoded";
+    private static final String NOT_ENCODED = "not-encoded";
+    private static final String PEM_BEGIN_CERTIFICATE = "-----BEGIN CERTIFICATE-----\n";
+    private static final String PEM_END_CERTIFICATE = "\n-----END CERTIFICATE-----\n";
+    private static final int PEM_LINE_LENGTH = 64;
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final long CERTIFICATE_CACHE_TIME_TO_LIVE_MILLIS = 300000L;
+    private static final int CERTIFICATE_CACHE_MAX_ENTRIES = 1000;
+
+    /*
+    Content of the downloaded certificates, against the tenant domain, the store, the alias and the encoding. Entries
+    of the keystore are invalidated when a certificate is uploaded or deleted through this API, and all the entries of
+    the tenant when a certificate is changed through the identity provider or the application APIs.
+     */
+    private static final ExpiringCache<List<String>, byte[]> CERTIFICATE_CONTENT_CACHE = new ExpiringCache<>(
+            "CertificateContent", CERTIFICATE_CACHE_TIME_TO_LIVE_MILLIS, CERTIFICATE_CACHE_MAX_ENTRIES);
+    // Exported form of the certificates, against the tenant domain, the store and the alias.
+    private static final ExpiringCache<List<String>, ExportedCertificate> EXPORTED_CERTIFICATE_CACHE =
+            new ExpiringCache<>("ExportedCertificates", CERTIFICATE_CACHE_TIME_TO_LIVE_MILLIS,
+                    CERTIFICATE_CACHE_MAX_ENTRIES);
+
+    static {
+        TenantInvalidationTopic.CERTIFICATES.subscribe(KeyStoreService::invalidateCertificates);
+    }
+
     /**
      * Retrieves the list of certificates from the keystore.
      *
@@ -86,23 +114,18 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getCertificate(String alias, boolean encodeCert) {
+    public byte[] getCertificate(String alias, boolean encodeCert) {
 
-        X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
-            certificate = getKeyStoreManager().getKeyStoreCertificate(tenantDomain, alias);
+            return CERTIFICATE_CONTENT_CACHE.get(buildCacheKey(tenantDomain, KEYSTORE, alias, encodeCert),
+                    () -> generateCertificateContent(alias, getKeyStoreManager().getKeyStoreCertificate(tenantDomain,
+                            alias), encodeCert));
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to retrieve the certificate with alias: " + alias + " from keystore");
         }
-
-        if (certificate == null) {
-            throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
-                    " from the keystore.", Response.Status.BAD_REQUEST);
-        }
-        return generateCertificateFile(alias, certificate, encodeCert);
     }
 
     /**
@@ -118,6 +141,8 @@ public class KeyStoreService {
             getKeyStoreManager().addCertificate(tenantDomain, alias, certificate);
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to upload the certificate with alias: " + alias + " to the keystore.");
+        } finally {
+            invalidateCertificateContent(tenantDomain, alias);
         }
         String certificateEndPoint = String.format(V1_API_PATH_COMPONENT + KEYSTORES_API_PATH_COMPONENT +
                 CERTIFICATE_PATH_COMPONENT, alias);
@@ -136,6 +161,8 @@ public class KeyStoreService {
             getKeyStoreManager().deleteCertificate(tenantDomain, alias);
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to remove the certificate with alias: " + alias + " from the keystore.");
+        } finally {
+            invalidateCertificateContent(tenantDomain, alias);
         }
     }
 
@@ -162,50 +189,99 @@ public class KeyStoreService {
      *
      * @param alias      of the certificate.
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getClientCertificate(String alias, boolean encodeCert) {
+    public byte[] getClientCertificate(String alias, boolean encodeCert) {
 
-        X509Certificate certificate;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
-            certificate = getKeyStoreManager().getClientCertificate(tenantDomain, alias);
+            return CERTIFICATE_CONTENT_CACHE.get(buildCacheKey(tenantDomain, CLIENT_TRUSTSTORE, alias, encodeCert),
+                    () -> generateCertificateContent(alias, getKeyStoreManager().getClientCertificate(tenantDomain,
+                            alias), encodeCert));
         } catch (KeyStoreManagementException e) {
             throw handleException(e,
                     "Unable to retrieve the certificate with alias: " + alias + " from client truststore.");
         }
+    }
 
-        if (certificate == null) {
-            throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
-                    " from the keystore.", Response.Status.BAD_REQUEST);
+    /**
+     * Checks whether the certificates should be exported as a PEM bundle.
+     *
+     * @param format export format. Defaults to PEM.
+     * @return true if the certificates should be exported as a PEM bundle, false if they should be exported as JSON.
+     */
+    public boolean isPEMExportFormat(String format) {
+
+        if (StringUtils.isBlank(format) || EXPORT_FORMAT_PEM.equalsIgnoreCase(format)) {
+            return true;
+        }
+        if (EXPORT_FORMAT_JSON.equalsIgnoreCase(format)) {
+            return false;
         }
-        return generateCertificateFile(alias, certificate, encodeCert);
+        throw handleException(ERROR_CODE_UNSUPPORTED_EXPORT_FORMAT, format, "Supported export formats are: " +
+                EXPORT_FORMAT_PEM + " and " + EXPORT_FORMAT_JSON + ".", Response.Status.BAD_REQUEST);
+    }
+
+    /**
+     * Exports the certificates of the keystore as a bundle of PEM encoded certificates.
+     *
+     * @param filter used to filter the certificates.
+     * @return content of the PEM bundle.
+     */
+    public byte[] exportCertificatesAsPEM(String filter) {
+
+        return buildPEMBundle(exportCertificates(filter, false));
+    }
+
+    /**
+     * Exports the certificates of the keystore along with their fingerprints and expiry times.
+     *
+     * @param filter used to filter the certificates.
+     * @return {@link List} of {@link CertificateExport}
+     */
+    public List<CertificateExport> exportCertificatesAsJSON(String filter) {
+
+        return buildCertificateExportList(exportCertificates(filter, false));
+    }
+
+    /**
+     * Exports the certificates of the client truststore as a bundle of PEM encoded certificates.
+     *
+     * @param filter used to filter the certificates.
+     * @return content of the PEM bundle.
+     */
+    public byte[] exportClientCertificatesAsPEM(String filter) {
+
+        return buildPEMBundle(exportCertificates(filter, true));
+    }
+
+    /**
+     * Exports the certificates of the client truststore along with their fingerprints and expiry times.
+     *
+     * @param filter used to filter the certificates.
+     * @return {@link List} of {@link CertificateExport}
+     */
+    public List<CertificateExport> exportClientCertificatesAsJSON(String filter) {
+
+        return buildCertificateExportList(exportCertificates(filter, true));
     }
 
     /**
      * Retrieves the public certificate from the keystore.
      *
      * @param encodeCert boolean value to decide whether the needs to be encoded or not.
-     * @return a {@link File} with the certificate.
+     * @return content of the certificate.
      */
-    public File getPublicCertificate(boolean encodeCert) {
+    public byte[] getPublicCertificate(boolean encodeCert) {
 
-        Map<String, X509Certificate> certificateData;
         String tenantDomain = ContextLoader.getTenantDomainFromContext();
         try {
-            certificateData = getKeyStoreManager().getPublicCertificate(tenantDomain);
+            return CERTIFICATE_CONTENT_CACHE.get(buildCacheKey(tenantDomain, PUBLIC_CERTIFICATE, null, encodeCert),
+                    () -> generatePublicCertificateContent(getKeyStoreManager().getPublicCertificate(tenantDomain),
+                            encodeCert));
         } catch (KeyStoreManagementException e) {
             throw handleException(e, "Unable to retrieve the public certificate from from keystore.");
         }
-
-        String alias = null;
-        X509Certificate certificate = null;
-        Set<String> keyset = certificateData.keySet();
-        for (String key : keyset) {
-            alias = key;
-            certificate = certificateData.get(alias);
-        }
-        return generateCertificateFile(alias, certificate, encodeCert);
     }
 
     private List<CertificateResponse> generateCertificateResponseList(List<String> aliasList, boolean isClientCert) {
@@ -230,8 +306,24 @@ public class KeyStoreService {
         return certificatesResponses;
     }
 
-    private File generateCertificateFile(String alias, X509Certificate certificate, boolean encodeCert) {
+    private byte[] generatePublicCertificateContent(Map<String, X509Certificate> certificateData, boolean encodeCert) {
+
+        String alias = null;
+        X509Certificate certificate = null;
+        Set<String> keyset = certificateData.keySet();
+        for (String key : keyset) {
+            alias = key;
+            certificate = certificateData.get(alias);
+        }
+        return generateCertificateContent(alias, certificate, encodeCert);
+    }
+
+    private byte[] generateCertificateContent(String alias, X509Certificate certificate, boolean encodeCert) {
 
+        if (certificate == null) {
+            throw handleException(ERROR_CODE_INVALID_ALIAS, alias, "Couldn't find a certificate with alias: " + alias +
+                    " from the keystore.", Response.Status.BAD_REQUEST);
+        }
         String certificateContent;
         if (encodeCert) {
             try {
@@ -242,30 +334,88 @@ public class KeyStoreService {
         } else {
             certificateContent = certificate.toString();
         }
+        return certificateContent.getBytes(StandardCharsets.UTF_8);
+    }
 
-        String fileName = alias + CERTIFICATE_FILE_EXTENSION;
-        File certsDirectory = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH).getAbsoluteFile();
-        if (certsDirectory.mkdirs()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug(certsDirectory.toString() + " has been created.");
-            }
-        }
-        File certificateFile = new File(CERTIFICATE_TEMPORARY_DIRECTORY_PATH + PATH_SEPERATOR + fileName)
-                .getAbsoluteFile();
+    private List<ExportedCertificate> exportCertificates(String filter, boolean isClientCert) {
+
+        String tenantDomain = ContextLoader.getTenantDomainFromContext();
+        String store = isClientCert ? CLIENT_TRUSTSTORE : KEYSTORE;
+        List<ExportedCertificate> exportedCertificates = new ArrayList<>();
         try {
-            if (certificateFile.createNewFile()) {
-                if (LOG.isDebugEnabled()) {
-                    LOG.debug("A file has been created with name: " + fileName);
+            List<String> aliasList = isClientCert ?
+                    getKeyStoreManager().getClientCertificateAliases(tenantDomain, filter) :
+                    getKeyStoreManager().getKeyStoreCertificateAliases(tenantDomain, filter);
+            for (String alias : aliasList) {
+                ExportedCertificate exportedCertificate = EXPORTED_CERTIFICATE_CACHE.get(
+                        Arrays.asList(tenantDomain, store, alias), () -> buildExportedCertificate(alias, isClientCert ?
+                                getKeyStoreManager().getClientCertificate(tenantDomain, alias) :
+                                getKeyStoreManager().getKeyStoreCertificate(tenantDomain, alias)));
+                // The certificate may have been removed after the aliases were listed.
+                if (exportedCertificate != null) {
+                    exportedCertificates.add(exportedCertificate);
                 }
             }
-            try (Writer fileWriter = new OutputStreamWriter(new FileOutputStream(certificateFile),
-                    StandardCharsets.UTF_8)) {
-                fileWriter.write(certificateContent);
-            }
-        } catch (IOException e) {
-            throw handleException(ERROR_CODE_FILE_WRITE, fileName, e, Response.Status.INTERNAL_SERVER_ERROR);
+        } catch (KeyStoreManagementException e) {
+            throw handleException(e, "Unable to export the certificates from the " + (isClientCert ?
+                    "client truststore." : "keystore."));
+        }
+        return exportedCertificates;
+    }
+
+    private ExportedCertificate buildExportedCertificate(String alias, X509Certificate certificate) {
+
+        if (certificate == null) {
+            return null;
+        }
+        try {
+            return new ExportedCertificate(alias, certificate);
+        } catch (CertificateEncodingException | NoSuchAlgorithmException e) {
+            throw handleException(ERROR_CODE_ENCODE_CERTIFICATE, alias, e, Response.Status.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private static byte[] buildPEMBundle(List<ExportedCertificate> exportedCertificates) {
+
+        StringBuilder pemBundle = new StringBuilder();
+        for (ExportedCertificate exportedCertificate : exportedCertificates) {
+            pemBundle.append(exportedCertificate.pem);
+        }
+        return pemBundle.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<CertificateExport> buildCertificateExportList(
+            List<ExportedCertificate> exportedCertificates) {
+
+        List<CertificateExport> certificateExports = new ArrayList<>();
+        for (ExportedCertificate exportedCertificate : exportedCertificates) {
+            certificateExports.add(new CertificateExport()
+                    .alias(exportedCertificate.alias)
+                    .certificate(exportedCertificate.pem)
+                    .fingerprint(exportedCertificate.fingerprint)
+                    .expiry(exportedCertificate.expiry));
         }
-        return certificateFile;
+        return certificateExports;
+    }
+
+    private static List<String> buildCacheKey(String tenantDomain, String store, String alias, boolean encodeCert) {
+
+        return Arrays.asList(tenantDomain, store, alias, encodeCert ? ENCODED : NOT_ENCODED);
+    }
+
+    private static void invalidateCertificateContent(String tenantDomain, String alias) {
+
+        // Aliases are matched ignoring the case, as the keystores do.
+        CERTIFICATE_CONTENT_CACHE.invalidateIf(key -> tenantDomain.equals(key.get(0)) && KEYSTORE.equals(key.get(1))
+                && StringUtils.equalsIgnoreCase(alias, key.get(2)));
+        EXPORTED_CERTIFICATE_CACHE.invalidateIf(key -> tenantDomain.equals(key.get(0)) && KEYSTORE.equals(key.get(1))
+                && StringUtils.equalsIgnoreCase(alias, key.get(2)));
+    }
+
+    private static void invalidateCertificates(String tenantDomain) {
+
+        CERTIFICATE_CONTENT_CACHE.invalidateIf(key -> tenantDomain.equals(key.get(0)));
+        EXPORTED_CERTIFICATE_CACHE.invalidateIf(key -> tenantDomain.equals(key.get(0)));
     }
 
     private APIError handleException(KeyStoreManagementException e, String description) {
@@ -309,4 +459,39 @@ public class KeyStoreService {
         }
         return message;
     }
+
+    /**
+     * Certificate encoded for export, which is shared by the PEM and JSON exports.
+     */
+    private static class ExportedCertificate {
+
+        private final String alias;
+        private final String pem;
+        private final String fingerprint;
+        private final String expiry;
+
+        ExportedCertificate(String alias, X509Certificate certificate) throws CertificateEncodingException,
+                NoSuchAlgorithmException {
+
+            byte[] encodedCertificate = certificate.getEncoded();
+            this.alias = alias;
+            this.pem = PEM_BEGIN_CERTIFICATE + Base64.getMimeEncoder(PEM_LINE_LENGTH,
+                    "\n".getBytes(StandardCharsets.UTF_8)).encodeToString(encodedCertificate) + PEM_END_CERTIFICATE;
+            this.fingerprint = buildFingerprint(MessageDigest.getInstance(FINGERPRINT_ALGORITHM)
+                    .digest(encodedCertificate));
+            this.expiry = certificate.getNotAfter().toInstant().toString();
+        }
+
+        private static String buildFingerprint(byte[] digest) {
+
+            StringBuilder fingerprint = new StringBuilder();
+            for (byte digestByte : digest) {
+                if (fingerprint.length() > 0) {
+                    fingerprint.append(':');
+                }
+                fingerprint.append(String.format("%02X", digestByte));
+            }
+            return fingerprint.toString();
+        }
+    }
 }
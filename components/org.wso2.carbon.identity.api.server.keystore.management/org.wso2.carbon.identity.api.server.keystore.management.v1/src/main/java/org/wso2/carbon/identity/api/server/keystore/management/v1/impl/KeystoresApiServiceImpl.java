@@ -23,10 +23,12 @@ import org.wso2.carbon.identity.api.server.keystore.management.v1.core.KeyStoreS
 import org.wso2.carbon.identity.api.server.keystore.management.v1.model.CertificateRequest;
 
 import java.net.URI;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.NewCookie;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.ContextLoader.getTenantDomainFromContext;
+import static org.wso2.carbon.identity.api.server.keystore.management.common.KeyStoreConstants.PEM_MEDIA_TYPE;
 
 /**
  * API service implementation of Keystore management service operations.
@@ -45,6 +47,27 @@ public class KeystoresApiServiceImpl implements KeystoresApiService {
         return Response.noContent().build();
     }
 
+    @Override
+    public Response exportCertificates(String filter, String format) {
+
+        if (keyStoreService.isPEMExportFormat(format)) {
+            return Response.ok(keyStoreService.exportCertificatesAsPEM(filter), PEM_MEDIA_TYPE).build();
+        }
+        return Response.ok(keyStoreService.exportCertificatesAsJSON(filter), MediaType.APPLICATION_JSON).build();
+    }
+
+    @Override
+    public Response exportClientCertificates(String filter, String format) {
+
+        if (!StringUtils.equals(getTenantDomainFromContext(), MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        if (keyStoreService.isPEMExportFormat(format)) {
+            return Response.ok(keyStoreService.exportClientCertificatesAsPEM(filter), PEM_MEDIA_TYPE).build();
+        }
+        return Response.ok(keyStoreService.exportClientCertificatesAsJSON(filter), MediaType.APPLICATION_JSON).build();
+    }
+
     @Override
     public Response getCertificate(String alias, Boolean encodeCert) {
 
@@ -56,15 +56,6 @@ public class UserStoreConstants {
                 "Unable to update the secondary user store configurations.",
                 "Server Encountered an error while updating the secondary user store configurations.",
                 Response.Status.INTERNAL_SERVER_ERROR),
-        ERROR_CODE_PAGINATION_NOT_IMPLEMENTED("65005",
-                "Pagination not supported.",
-                "Pagination capabilities are not supported in this version of the API."),
-        ERROR_CODE_FILTERING_NOT_IMPLEMENTED("65006",
-                "Filtering not supported.",
-                "Filtering capability is not supported in this version of the API."),
-        ERROR_CODE_SORTING_NOT_IMPLEMENTED("65007",
-                "Sorting not supported.",
-                "Sorting capability is not supported in this version of the API."),
         ERROR_CODE_DATASOURCE_CONNECTION("65008",
                 "Unable to check RDBMS connection Health",
                 "Server Encountered an error while checking the data source connection.",
@@ -118,7 +109,17 @@ public class UserStoreConstants {
         ERROR_CODE_EMPTY_ATTRIBUTE_MAPPINGS("60014", "Attribute mapping not specified.",
                 "Attribute mapping cannot be empty."),
         ERROR_CODE_INVALID_USERSTORE_TYPE("60015", "UserStore type is not allowed",
-                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST);
+                "Requested UserStore type is not allowed", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_FILTER_FORMAT("60016", "Invalid filter.",
+                "Unable to parse the filter: %s", Response.Status.BAD_REQUEST),
+        ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE("60017", "Unsupported filter attribute.",
+                "Filtering by the attribute: %s is not supported.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_UNSUPPORTED_FILTER_OPERATION("60018", "Unsupported filter operation.",
+                "The filter operation: %s is not supported.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE("60019", "Unsupported sort.",
+                "Sorting as: %s is not supported.", Response.Status.BAD_REQUEST),
+        ERROR_CODE_INVALID_PAGINATION_PARAMETERS("60020", "Invalid pagination parameters.",
+                "The limit and offset must be non-negative integers.", Response.Status.BAD_REQUEST);
 
         private final String code;
         private final String message;
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.api.server.userstore.v1.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.api.server.common.cache.ExpiringCache;
+import org.wso2.carbon.identity.api.server.common.cache.TenantInvalidationTopic;
+import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.AttributeMapping;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.LocalClaim;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index of the claim attribute mappings of the tenants by user store domain, so that the mappings of a user store
+ * are looked up without going through all the local claims of the tenant.
+ *
+ * The index of a tenant is invalidated when the local claims of the tenant are changed through the user store or the
+ * claim management APIs.
+ */
+public class ClaimAttributeMappingIndex {
+
+    private static final Log LOG = LogFactory.getLog(ClaimAttributeMappingIndex.class);
+
+    private static final long TIME_TO_LIVE_MILLIS = 30000L;
+    private static final int MAX_TENANTS = 100;
+
+    private static final ClaimAttributeMappingIndex INSTANCE = new ClaimAttributeMappingIndex();
+
+    private final ExpiringCache<String, Map<String, Map<String, String>>> mappingsByDomain =
+            new ExpiringCache<>("ClaimAttributeMappings", TIME_TO_LIVE_MILLIS, MAX_TENANTS);
+
+    private ClaimAttributeMappingIndex() {
+
+        TenantInvalidationTopic.LOCAL_CLAIMS.subscribe(mappingsByDomain::invalidate);
+    }
+
+    public static ClaimAttributeMappingIndex getInstance() {
+
+        return INSTANCE;
+    }
+
+    /**
+     * Get the claim attribute mappings of a user store.
+     *
+     * @param tenantDomain        Tenant domain.
+     * @param userstoreDomainName User store domain name.
+     * @return Unmodifiable map of mapped attributes against the claim URI, in the order of the local claims.
+     * @throws ClaimMetadataException If an error occurred while retrieving the local claims.
+     */
+    public Map<String, String> getMappedAttributes(String tenantDomain, String userstoreDomainName)
+            throws ClaimMetadataException {
+
+        Map<String, Map<String, String>> index = mappingsByDomain.get(tenantDomain, () -> buildIndex(tenantDomain));
+        Map<String, String> mappedAttributes = index.get(userstoreDomainName.toUpperCase(Locale.ENGLISH));
+        return mappedAttributes != null ? mappedAttributes : Collections.emptyMap();
+    }
+
+    /**
+     * Invalidate the claim attribute mappings of a tenant, along with the other caches of the local claims.
+     *
+     * @param tenantDomain Tenant domain.
+     */
+    public void invalidate(String tenantDomain) {
+
+        TenantInvalidationTopic.LOCAL_CLAIMS.publish(tenantDomain);
+    }
+
+    private Map<String, Map<String, String>> buildIndex(String tenantDomain) throws ClaimMetadataException {
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Building the claim attribute mapping index of tenant: " + tenantDomain);
+        }
+        List<LocalClaim> localClaims = UserStoreConfigServiceHolder.getInstance().getClaimMetadataManagementService()
+                .getLocalClaims(tenantDomain);
+        Map<String, Map<String, String>> index = new HashMap<>();
+        if (localClaims != null) {
+            for (LocalClaim localClaim : localClaims) {
+                if (localClaim.getMappedAttributes() == null) {
+                    continue;
+                }
+                for (AttributeMapping attributeMapping : localClaim.getMappedAttributes()) {
+                    if (attributeMapping.getUserStoreDomain() == null) {
+                        continue;
+                    }
+                    // User store domains are matched ignoring the case, and the first mapping of a claim to a user
+                    // store is the effective one, as in LocalClaim.getMappedAttribute().
+                    index.computeIfAbsent(attributeMapping.getUserStoreDomain().toUpperCase(Locale.ENGLISH),
+                            domain -> new LinkedHashMap<>())
+                            .putIfAbsent(localClaim.getClaimURI(), attributeMapping.getAttributeName());
+                }
+            }
+        }
+        index.replaceAll((domain, mappedAttributes) -> Collections.unmodifiableMap(mappedAttributes));
+        return Collections.unmodifiableMap(index);
+    }
+}
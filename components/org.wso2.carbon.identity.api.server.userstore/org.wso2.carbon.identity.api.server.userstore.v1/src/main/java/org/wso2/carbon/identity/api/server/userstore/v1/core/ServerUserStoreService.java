@@ -27,6 +27,8 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.api.server.common.ContextLoader;
 import org.wso2.carbon.identity.api.server.common.error.APIError;
 import org.wso2.carbon.identity.api.server.common.error.ErrorResponse;
+import org.wso2.carbon.identity.api.server.common.query.InMemoryListQuery;
+import org.wso2.carbon.identity.api.server.common.query.ListQueryException;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConfigServiceHolder;
 import org.wso2.carbon.identity.api.server.userstore.common.UserStoreConstants;
 import org.wso2.carbon.identity.api.server.userstore.v1.core.functions.userstore.AttributeMappingsToApiModel;
@@ -74,11 +76,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import javax.ws.rs.core.Response;
 
 import static org.wso2.carbon.identity.api.server.common.Constants.ERROR_CODE_RESOURCE_LIMIT_REACHED;
@@ -94,6 +98,8 @@ public class ServerUserStoreService {
     private static final Log LOG = LogFactory.getLog(ServerUserStoreService.class);
 
     private static final String DUMMY_MESSAGE_ID = "DUMMY-MESSAGE-ID";
+    private static final ClaimAttributeMappingIndex CLAIM_ATTRIBUTE_MAPPING_INDEX =
+            ClaimAttributeMappingIndex.getInstance();
 
     private static boolean isAvailableUserStoreTypes(List<AvailableUserStoreClassesRes> userStoreList, String typeID) {
 
@@ -157,6 +163,8 @@ public class ServerUserStoreService {
             UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance().
                     getUserStoreConfigService();
             userStoreConfigService.deleteUserStore(base64URLDecodeId(userstoreDomainId));
+            // Claim attribute mappings of the deleted user store are removed along with it.
+            CLAIM_ATTRIBUTE_MAPPING_INDEX.invalidate(ContextLoader.getTenantDomainFromContext());
         } catch (IdentityUserStoreClientException e) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(e);
@@ -253,18 +261,24 @@ public class ServerUserStoreService {
      * @param offset 0 based index to get the results starting from this index + 1.
      * @param filter to specify the filtering capabilities.
      * @param sort   to specify the sorting order.
+     * @param requiredAttributes comma separated names of the user store properties to be returned.
      * @return List<UserStoreListResponse>.
      */
     public List<UserStoreListResponse> getUserStoreList(Integer limit, Integer offset, String filter, String sort,
                                                         String requiredAttributes) {
 
-        handleNotImplementedBehaviour(limit, offset, filter, sort);
-
         UserStoreConfigService userStoreConfigService = UserStoreConfigServiceHolder.getInstance()
                 .getUserStoreConfigService();
         try {
             UserStoreDTO[] userStoreDTOS = userStoreConfigService.getUserStores();
-            return buildUserStoreListResponse(userStoreDTOS, requiredAttributes);
+            if (ArrayUtils.isEmpty(userStoreDTOS)) {
+                return new ArrayList<>();
+            }
+            Map<String, String> userStoreTypeNames = getHashMap();
+            // The response objects are only built for the requested page of the user stores.
+            List<UserStoreDTO> userStores = applyListQuery(Arrays.asList(userStoreDTOS), userStoreTypeNames, limit,
+                    offset, filter, sort);
+            return buildUserStoreListResponse(userStores, userStoreTypeNames, requiredAttributes);
 
         } catch (IdentityUserStoreMgtException e) {
             UserStoreConstants.ErrorMessage errorEnum =
@@ -541,16 +555,15 @@ public class ServerUserStoreService {
      */
     private List<ClaimAttributeMapping> getClaimAttributeMappings(String tenantDomain, String userstoreDomainName) {
 
-        ClaimMetadataManagementService claimMetadataManagementService = UserStoreConfigServiceHolder.getInstance()
-                .getClaimMetadataManagementService();
         List<ClaimAttributeMapping> claimAttributeMappingList = new ArrayList<>();
         try {
-            List<LocalClaim> localClaimList = claimMetadataManagementService.getLocalClaims(tenantDomain);
-            for (LocalClaim localClaim : localClaimList) {
-                if (localClaim.getMappedAttribute(userstoreDomainName) != null) {
+            Map<String, String> mappedAttributes = CLAIM_ATTRIBUTE_MAPPING_INDEX.getMappedAttributes(tenantDomain,
+                    userstoreDomainName);
+            for (Map.Entry<String, String> mappedAttribute : mappedAttributes.entrySet()) {
+                if (mappedAttribute.getValue() != null) {
                     ClaimAttributeMapping mapping = new ClaimAttributeMapping();
-                    mapping.setClaimURI(localClaim.getClaimURI());
-                    mapping.setMappedAttribute(localClaim.getMappedAttribute(userstoreDomainName));
+                    mapping.setClaimURI(mappedAttribute.getKey());
+                    mapping.setMappedAttribute(mappedAttribute.getValue());
                     claimAttributeMappingList.add(mapping);
                 }
             }
@@ -663,6 +676,9 @@ public class ServerUserStoreService {
         } catch (ClaimMetadataException e) {
             throw handleClaimManagementException(e,
                     UserStoreConstants.ErrorMessage.ERROR_CODE_ERROR_UPDATING_CLAIM_MAPPING);
+        } finally {
+            // Invalidated on failures as well, as the mappings may have been partially updated.
+            CLAIM_ATTRIBUTE_MAPPING_INDEX.invalidate(tenantDomain);
         }
     }
 
@@ -740,56 +756,116 @@ public class ServerUserStoreService {
         return localClaimList;
     }
 
+    /**
+     * Filter, sort and paginate the configured user stores.
+     *
+     * @param userStoreDTOS      user stores in the order returned by the user store config service.
+     * @param userStoreTypeNames user store type names against the user store class names.
+     * @param limit              items per page.
+     * @param offset             0 based index to get the results starting from this index + 1.
+     * @param filter             to specify the filtering capabilities.
+     * @param sort               to specify the sorting order.
+     * @return Requested page of the user stores.
+     */
+    private List<UserStoreDTO> applyListQuery(List<UserStoreDTO> userStoreDTOS, Map<String, String> userStoreTypeNames,
+                                              Integer limit, Integer offset, String filter, String sort) {
+
+        Map<String, Function<UserStoreDTO, String>> attributes = new HashMap<>();
+        attributes.put("name", UserStoreDTO::getDomainId);
+        attributes.put("description", UserStoreDTO::getDescription);
+        attributes.put("typeName", userStoreDTO -> userStoreTypeNames.get(userStoreDTO.getClassName()));
+        attributes.put("enabled", userStoreDTO -> String.valueOf(isEnabled(userStoreDTO)));
+        try {
+            return new InMemoryListQuery<>(attributes).apply(userStoreDTOS, limit, offset, filter, sort);
+        } catch (ListQueryException e) {
+            switch (e.getReason()) {
+                case INVALID_PAGINATION:
+                    throw handleException(Response.Status.BAD_REQUEST,
+                            UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_PAGINATION_PARAMETERS);
+                case UNSUPPORTED_FILTER_ATTRIBUTE:
+                    throw handleException(Response.Status.BAD_REQUEST,
+                            UserStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_ATTRIBUTE, e.getValue());
+                case UNSUPPORTED_FILTER_OPERATION:
+                    throw handleException(Response.Status.BAD_REQUEST,
+                            UserStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_FILTER_OPERATION, e.getValue());
+                case UNSUPPORTED_SORT:
+                    throw handleException(Response.Status.BAD_REQUEST,
+                            UserStoreConstants.ErrorMessage.ERROR_CODE_UNSUPPORTED_SORT_ATTRIBUTE, e.getValue());
+                default:
+                    throw handleException(Response.Status.BAD_REQUEST,
+                            UserStoreConstants.ErrorMessage.ERROR_CODE_INVALID_FILTER_FORMAT, e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Resolve whether a user store is enabled, as reported in the listing and as matched by the 'enabled' filter.
+     *
+     * @param userStoreDTO UserStoreDTO object.
+     * @return Whether the user store is enabled.
+     */
+    private boolean isEnabled(UserStoreDTO userStoreDTO) {
+
+        return userStoreDTO.getDisabled() != null && !userStoreDTO.getDisabled();
+    }
+
     /**
      * Construct response list with configured user stores details.
      *
-     * @param userStoreDTOS array of UserStoreDTO object.
+     * @param userStoreDTOS      list of UserStoreDTO objects.
+     * @param userStoreTypeNames user store type names against the user store class names.
+     * @param requiredAttributes comma separated names of the user store properties to be returned.
      * @return List<UserStoreListResponse>.
      */
-    private List<UserStoreListResponse> buildUserStoreListResponse(UserStoreDTO[] userStoreDTOS,
+    private List<UserStoreListResponse> buildUserStoreListResponse(List<UserStoreDTO> userStoreDTOS,
+                                                                   Map<String, String> userStoreTypeNames,
                                                                    String requiredAttributes) {
 
         List<UserStoreListResponse> userStoreListResponseToAdd = new ArrayList<>();
         Map<String, Boolean> userStoreManagersType = UserStoreManagerRegistry.getUserStoreManagersType();
-        if (ArrayUtils.isNotEmpty(userStoreDTOS)) {
-            for (UserStoreDTO jsonObject : userStoreDTOS) {
-                UserStoreListResponse userStoreList = new UserStoreListResponse();
-                userStoreList.setDescription(jsonObject.getDescription());
-                userStoreList.setName(jsonObject.getDomainId());
-                userStoreList.setId(base64URLEncodeId(jsonObject.getDomainId()));
-                userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
-                                UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s",
-                        base64URLEncodeId(jsonObject.getDomainId()))).toString());
-                userStoreList.setEnabled(jsonObject.getDisabled() != null && !jsonObject.getDisabled());
-                userStoreList.setTypeName(getUserStoreTypeName(jsonObject.getClassName()));
-
-                if (StringUtils.isNotBlank(requiredAttributes)) {
-                    String[] requiredAttributesArray = requiredAttributes.split(REGEX_COMMA);
-                    addUserstoreProperties(jsonObject, userStoreList, Arrays.asList(requiredAttributesArray));
-                }
-
-                if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
-                    userStoreList.setIsLocal(userStoreManagersType.get(jsonObject.getClassName()));
-                }
+        Set<String> requiredAttributesSet = new HashSet<>();
+        if (StringUtils.isNotBlank(requiredAttributes)) {
+            requiredAttributesSet.addAll(Arrays.asList(requiredAttributes.split(REGEX_COMMA)));
+        }
+        for (UserStoreDTO jsonObject : userStoreDTOS) {
+            UserStoreListResponse userStoreList = new UserStoreListResponse();
+            userStoreList.setDescription(jsonObject.getDescription());
+            userStoreList.setName(jsonObject.getDomainId());
+            String userStoreId = base64URLEncodeId(jsonObject.getDomainId());
+            userStoreList.setId(userStoreId);
+            userStoreList.setSelf(ContextLoader.buildURIForBody(String.format(V1_API_PATH_COMPONENT +
+                    UserStoreConstants.USER_STORE_PATH_COMPONENT + "/%s", userStoreId)).toString());
+            userStoreList.setEnabled(isEnabled(jsonObject));
+            userStoreList.setTypeName(userStoreTypeNames.get(jsonObject.getClassName()));
+
+            if (!requiredAttributesSet.isEmpty()) {
+                addUserstoreProperties(jsonObject, userStoreList, requiredAttributesSet);
+            }
 
-                userStoreListResponseToAdd.add(userStoreList);
+            if (userStoreManagersType.containsKey(jsonObject.getClassName())) {
+                userStoreList.setIsLocal(userStoreManagersType.get(jsonObject.getClassName()));
             }
+
+            userStoreListResponseToAdd.add(userStoreList);
         }
         return userStoreListResponseToAdd;
     }
 
     /**
-     * Add requested user store properties to the response.
+     * Add requested user store properties to the response, in the order of the user store properties.
      *
-     * @param userStoreDTO            userStoreDTO object.
-     * @param userStoreListResponse   userStoreListResponse object.
-     * @param requestedAttributesList Requested user store properties name list.
+     * @param userStoreDTO           userStoreDTO object.
+     * @param userStoreListResponse  userStoreListResponse object.
+     * @param requestedAttributesSet Requested user store property names.
      */
     private void addUserstoreProperties(UserStoreDTO userStoreDTO, UserStoreListResponse userStoreListResponse,
-                                        List<String> requestedAttributesList) {
+                                        Set<String> requestedAttributesSet) {
 
+        if (userStoreDTO.getProperties() == null) {
+            return;
+        }
         for (PropertyDTO propertyDTO : userStoreDTO.getProperties()) {
-            if (requestedAttributesList.contains(propertyDTO.getName()) &&
+            if (requestedAttributesSet.contains(propertyDTO.getName()) &&
                     StringUtils.isNotBlank(propertyDTO.getValue())) {
                 AddUserStorePropertiesRes addUserStorePropertiesRes = new AddUserStorePropertiesRes();
                 addUserStorePropertiesRes.setName(propertyDTO.getName());
@@ -899,13 +975,7 @@ public class ServerUserStoreService {
      */
     private String getUserStoreTypeName(String className) {
 
-        HashMap<String, String> userStoreMap = getHashMap();
-        for (Map.Entry<String, String> stringEntry : userStoreMap.entrySet()) {
-            if (className.equals(((Map.Entry) stringEntry).getKey())) {
-                return (String) ((Map.Entry) stringEntry).getValue();
-            }
-        }
-        return null;
+        return getHashMap().get(className);
     }
 
     /**
@@ -1062,36 +1132,6 @@ public class ServerUserStoreService {
         return errorDescription;
     }
 
-    /**
-     * To return error responses for the input params for the get request which are not yet supported by the server.
-     *
-     * @param limit  items per page.
-     * @param offset to specify the offset param.
-     * @param filter to specify the filtering capabilities.
-     * @param sort   to specify the sorting order.
-     */
-    private void handleNotImplementedBehaviour(Integer limit, Integer offset, String filter, String sort) {
-
-        UserStoreConstants.ErrorMessage errorEnum = null;
-
-        if (limit != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (offset != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_PAGINATION_NOT_IMPLEMENTED;
-        } else if (filter != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_FILTERING_NOT_IMPLEMENTED;
-        } else if (sort != null) {
-            errorEnum = UserStoreConstants.ErrorMessage.ERROR_CODE_SORTING_NOT_IMPLEMENTED;
-        }
-
-        if (errorEnum != null) {
-            ErrorResponse errorResponse = getErrorBuilder(errorEnum).build(LOG, errorEnum.getDescription());
-            Response.Status status = Response.Status.NOT_IMPLEMENTED;
-
-            throw new APIError(status, errorResponse);
-        }
-    }
-
     /**
      * To check whether API request has all user store mandatory properties or not.
      *